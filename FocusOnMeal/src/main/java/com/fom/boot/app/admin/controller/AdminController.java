@@ -27,6 +27,11 @@ import org.springframework.web.multipart.MultipartFile;
 import com.fom.boot.app.admin.dto.AdminIngredientDTO;
 import com.fom.boot.app.admin.dto.DashboardStatsDto;
 import com.fom.boot.app.admin.dto.MonthlyActivityDto;
+import com.fom.boot.app.security.AdminOnly;
+import com.fom.boot.app.security.RouteRegistry;
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
+import com.fom.boot.common.pagination.InvalidCursorException;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.common.pagination.Pagination;
 import com.fom.boot.domain.admin.model.service.AdminService;
@@ -49,6 +54,7 @@ import lombok.extern.slf4j.Slf4j;
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
+@AdminOnly // 모든 엔드포인트 관리자 전용 (JWT 필터에서 로드한 인증 주체의 권한으로 판단)
 public class AdminController {
 
     private final BCryptPasswordEncoder getPasswordEncoder;
@@ -61,33 +67,13 @@ public class AdminController {
 	private final FoodSafetyDataSyncService foodSafetyDataSyncService;
 	private final AlertService alertService;
 	private final AdminService adminService;
+	private final RouteRegistry routeRegistry;
 
 	/**
      * 대시보드 전체 데이터 조회
      */
     @GetMapping("/dashboard")
     public ResponseEntity<?> getDashboardData(Authentication authentication) {
-        // 1. 토큰 인증 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-        }
-
-        System.out.println("Auth name = " + authentication.getName());
-        System.out.println("Auth authorities = " + authentication.getAuthorities());
-
-        // 2. 토큰에서 관리자 여부 확인
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-
-        if (member == null) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-        }
-        if (!"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-        }
-
         // 3. 대시보드 데이터 조회
         Map<String, Object> response = new HashMap<>();
 
@@ -116,24 +102,6 @@ public class AdminController {
      */
     @GetMapping("/dashboard/stats")
     public ResponseEntity<?> getStats(Authentication authentication) {
-        // 1. 토큰 인증 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-        }
-
-        // 2. 관리자 여부 확인
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-
-        if (member == null) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-        }
-        if (!"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-        }
-
         DashboardStatsDto stats = adminService.getDashboardStats();
         return ResponseEntity.ok(stats);
     }
@@ -143,24 +111,6 @@ public class AdminController {
      */
     @GetMapping("/dashboard/monthly-activity")
     public ResponseEntity<?> getMonthlyActivity(Authentication authentication) {
-        // 1. 토큰 인증 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-        }
-
-        // 2. 관리자 여부 확인
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-
-        if (member == null) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-        }
-        if (!"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-        }
-
         List<MonthlyActivityDto> monthlyActivity = adminService.getMonthlyActivity();
         return ResponseEntity.ok(monthlyActivity);
     }
@@ -179,27 +129,6 @@ public class AdminController {
 			,@RequestParam(required = false) String sortColumn
 			,@RequestParam(required = false) String sortOrder
 			,Authentication authentication) {
-		// 1. 토큰 인증 체크
-		if (authentication == null || !authentication.isAuthenticated()) {
-			Map<String, String> error = new HashMap<>();
-			error.put("message", "로그인이 필요합니다.");
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-		}
-
-		System.out.println("Auth name = " + authentication.getName());
-		System.out.println("Auth authorities = " + authentication.getAuthorities());
-		
-		// 2. 토큰에서 관리자 여부 확인
-		String memberId = authentication.getName();
-		Member member = mService.findByMemberId(memberId);
-		
-		if (member == null) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-		}
-		if (!"Y".equals(member.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-		}
-		
 		// 검색포함 총 데이터 개수 조회
 		int totalCount = mService.getTotalMembersBySearch(type, keyword);
 
@@ -225,26 +154,8 @@ public class AdminController {
 		
 		Map<String, String> responseBody = new HashMap<>();
 
-		// 1. 토큰 인증 체크
-		if (authentication == null || !authentication.isAuthenticated()) {
-			Map<String, String> error = new HashMap<>();
-			error.put("message", "로그인이 필요합니다.");
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-		}
-		
-		System.out.println("Auth name = " + authentication.getName());
-		System.out.println("Auth authorities = " + authentication.getAuthorities());
-
-		// 2. 관리자 여부 체크
+		// 관리자 권한은 @AdminOnly(메서드 보안)에서 이미 확인됨
 		String loginId = authentication.getName();
-		Member admin = mService.findByMemberId(loginId);
-
-		if (admin == null) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-		}
-		if (!"Y".equals(admin.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-		}
 
 		// 3. 실제 수정
 		System.out.println("받은 memberId : " + memberId);
@@ -283,23 +194,8 @@ public class AdminController {
 			Authentication authentication,
 			@RequestParam String memberId,
 			@RequestParam String statusYn) {
-		// 1. 토큰 인증 체크
-		if (authentication == null || !authentication.isAuthenticated()) {
-			Map<String, String> error = new HashMap<>();
-			error.put("message", "로그인이 필요합니다.");
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-		}
-
-		// 2. 관리자 여부 체크
+		// 관리자 권한은 @AdminOnly(메서드 보안)에서 이미 확인됨
 		String loginId = authentication.getName();
-		Member admin = mService.findByMemberId(loginId);
-
-		if (admin == null) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-		}
-		if (!"Y".equals(admin.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-		}
 
 		mService.updateStatusYn(memberId, statusYn);
 		return ResponseEntity.ok("success");
@@ -314,26 +210,21 @@ public class AdminController {
 			,@RequestParam(required = false) String sortColumn
 			,@RequestParam(required = false) String sortOrder
 			,@RequestParam(defaultValue ="all") String filterType
+			,@RequestParam(required = false) String cursor
+			,@RequestParam(defaultValue = "5") int size
+			,@RequestParam(defaultValue = "false") boolean withCount
 			,Authentication authentication) {
-		// 1. 토큰 인증 체크
-		if (authentication == null || !authentication.isAuthenticated()) {
-			Map<String, String> error = new HashMap<>();
-			error.put("message", "로그인이 필요합니다.");
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-		}
-
-		System.out.println("Auth name = " + authentication.getName());
-		System.out.println("Auth authorities = " + authentication.getAuthorities());
-		
-		// 2. 토큰에서 관리자 여부 확인
-		String memberId = authentication.getName();
-		Member member = mService.findByMemberId(memberId);
-		
-		if (member == null) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-		}
-		if (!"Y".equals(member.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
+		// 커서 방식 (cursor 파라미터가 있을 때, 작성일 정렬만)
+		if (Pagination.isCursorMode(cursor, sortColumn, "noticeCreateAt")) {
+			CursorPage<Notice> cursorPage = nService.selectAllNotices(
+					CursorRequest.of(cursor, size, sortOrder, withCount), type, keyword, filterType);
+
+			Map<String, Object> data = new HashMap<>();
+			data.put("noticeList", cursorPage.getList());
+			data.put("nextCursor", cursorPage.getNextCursor());
+			data.put("hasNext", cursorPage.isHasNext());
+			data.put("totalCount", cursorPage.getTotalCount());
+			return ResponseEntity.ok(data);
 		}
 
 		int totalCount = nService.getTotalNoticesBySearch(type, keyword);
@@ -356,25 +247,6 @@ public class AdminController {
 			@RequestBody Notice notice,
 			Authentication authentication){
 		
-		// 1. 토큰 인증 체크
-		if(authentication == null || !authentication.isAuthenticated()) {
-			Map<String, String> error = new HashMap<>();
-			error.put("message", "로그인이 필요합니다.");
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-		}
-		System.out.println("Auth name = " + authentication.getName());
-		System.out.println("Auth authorities = " + authentication.getAuthorities());
-		
-		// 2. 토큰에서 관리자 여부 확인
-		String memberId = authentication.getName();
-		Member member = mService.findByMemberId(memberId);
-		
-		if (member == null) {
-	        return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-	    }
-		if(!"Y".equals(member.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-		}
 		
 		System.out.println("=== 받은 Notice JSON ===");
 		System.out.println(notice);
@@ -396,27 +268,6 @@ public class AdminController {
 	public ResponseEntity<?> updateNotice(
 			@RequestBody Notice notice,
 			Authentication authentication) {
-
-		// 1. 토큰 인증 체크
-		if (authentication == null || !authentication.isAuthenticated()) {
-			Map<String, String> error = new HashMap<>();
-			error.put("message", "로그인이 필요합니다.");
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-		}
-
-		System.out.println("Auth name = " + authentication.getName());
-		System.out.println("Auth authorities = " + authentication.getAuthorities());
-		
-		// 2. 토큰에서 관리자 여부 확인
-		String memberId = authentication.getName();
-		Member member = mService.findByMemberId(memberId);
-		
-		if (member == null) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 아님");
-		}
-		if (!"Y".equals(member.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
-		}
 		
 		System.out.println("=== 받은 Notice JSON ===");
 		System.out.println(notice);
@@ -449,21 +300,22 @@ public class AdminController {
 			,@RequestParam(defaultValue = "") String keyword
 			,@RequestParam(required = false) String sortColumn
 			,@RequestParam(required = false) String sortOrder
+			,@RequestParam(required = false) String cursor
+			,@RequestParam(defaultValue = "5") int size
+			,@RequestParam(defaultValue = "false") boolean withCount
 			,Authentication authentication) {
 
-		// 1. 토큰 인증 체크
-		if (authentication == null || !authentication.isAuthenticated()) {
-			Map<String, String> error = new HashMap<>();
-			error.put("message", "로그인이 필요합니다.");
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-		}
-		
-		// 2. 토큰에서 관리자 여부 확인
-		String memberId = authentication.getName();
-		Member member = mService.findByMemberId(memberId);
-		
-		if (member == null || !"Y".equals(member.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 접근 가능합니다.");
+		// 커서 방식 (cursor 파라미터가 있을 때, ID 정렬만)
+		if (Pagination.isCursorMode(cursor, sortColumn, "ingredientId")) {
+			CursorPage<AdminIngredientDTO> cursorPage = iService.selectAdminIngredients(
+					CursorRequest.of(cursor, size, sortOrder, withCount), type, keyword);
+
+			Map<String, Object> data = new HashMap<>();
+			data.put("ingredientList", cursorPage.getList());
+			data.put("nextCursor", cursorPage.getNextCursor());
+			data.put("hasNext", cursorPage.isHasNext());
+			data.put("totalCount", cursorPage.getTotalCount());
+			return ResponseEntity.ok(data);
 		}
 
 		// 검색 조건에 맞는 식재료 총 개수
@@ -488,18 +340,6 @@ public class AdminController {
             @RequestBody AdminIngredientDTO dto, // NutritionMaster -> AdminIngredientDTO로 변경
             Authentication authentication) {
 
-        // 1. 토큰 인증 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인 필요"));
-        }
-
-        // 2. 관리자 여부 확인
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-        if (member == null || !"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한 필요");
-        }
-
         log.info("수정할 영양성분 정보: {}", dto);
 
         try {
@@ -524,18 +364,6 @@ public class AdminController {
 			@RequestPart("file") MultipartFile file,
 			Authentication authentication) {
 
-		// 1. 관리자 권한 체크 (기존 스타일대로 수동 체크)
-		if (authentication == null || !authentication.isAuthenticated()) {
-			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 필요");
-		}
-		
-		String memberId = authentication.getName();
-		Member member = mService.findByMemberId(memberId);
-		
-		if (member == null || !"Y".equals(member.getAdminYn())) {
-			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
-		}
-
 		if (file.isEmpty()) {
 			return ResponseEntity.badRequest().body("업로드된 파일이 없습니다.");
 		}
@@ -579,18 +407,6 @@ public class AdminController {
             @PathVariable int ingredientId,
             Authentication authentication) {
 
-        // 1. 관리자 권한 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 필요");
-        }
-        
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-        
-        if (member == null || !"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
-        }
-
         try {
             // 2. 삭제할 파일 경로 설정 (업로드 경로와 동일하게 설정)
             String fileName = ingredientId + ".jpg";
@@ -629,30 +445,12 @@ public class AdminController {
             @RequestParam(value = "sortColumn", defaultValue = "publicationDate") String sortColumn,
             @RequestParam(value = "sortOrder", defaultValue = "desc") String sortOrder,
             @RequestParam(value = "hazardFilter", required = false) String hazardFilter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "5") int size,
+            @RequestParam(value = "withCount", defaultValue = "false") boolean withCount,
             Authentication authentication) {
-
         log.info("[관리자] 안전 정보 목록 조회 - page: {}", page);
 
-        // ✅ 1. 토큰 인증 체크 추가
-        if (authentication == null || !authentication.isAuthenticated()) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", "로그인이 필요합니다.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", error));
-        }
-
-        System.out.println("Auth name = " + authentication.getName());
-        System.out.println("Auth authorities = " + authentication.getAuthorities());
-
-        // ✅ 2. 관리자 여부 확인 추가
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-
-        if (member == null) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자 아님"));
-        }
-        if (!"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자만 접근 가능합니다."));
-        }
 
         try {
             Map<String, Object> searchMap = new HashMap<>();
@@ -668,6 +466,20 @@ public class AdminController {
             searchMap.put("sortColumn", sortColumn);
             searchMap.put("sortOrder", sortOrder);
 
+            // 커서 방식 (cursor 파라미터가 있을 때, 공표일/ALERT_ID 정렬만)
+            if (Pagination.isCursorMode(cursor, sortColumn, "publicationDate")
+                    || Pagination.isCursorMode(cursor, sortColumn, "alertId")) {
+                CursorPage<SafetyAlert> cursorPage = safetyService.selectAlertList(
+                        CursorRequest.of(cursor, size, sortOrder, withCount), searchMap);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("list", cursorPage.getList());
+                response.put("nextCursor", cursorPage.getNextCursor());
+                response.put("hasNext", cursorPage.isHasNext());
+                response.put("totalCount", cursorPage.getTotalCount());
+                return ResponseEntity.ok(response);
+            }
+
             int totalCount = safetyService.selectAlertListCount(searchMap);
             PageInfo pi = Pagination.getPageInfo(page, totalCount);
             List<SafetyAlert> list = safetyService.selectAlertList(pi, searchMap);
@@ -678,6 +490,8 @@ public class AdminController {
 
             return ResponseEntity.ok(response);
 
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("[관리자] 안전 정보 목록 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -691,7 +505,6 @@ public class AdminController {
     @GetMapping("/safetyInfo/detail/{alertId}")
     public ResponseEntity<?> getAlertDetail(@PathVariable("alertId") int alertId,
     		Authentication authentication) {
-        
         log.info("[관리자] 안전 정보 상세 조회 - alertId: {}", alertId);
 
         try {
@@ -717,7 +530,6 @@ public class AdminController {
     @PostMapping("/safetyInfo/register")
     public ResponseEntity<?> registerAlert(@RequestBody SafetyAlert alert,
     		Authentication authentication) {
-        
         log.info("[관리자] 안전 정보 등록 - title: {}", alert.getTitle());
 
         try {
@@ -746,7 +558,6 @@ public class AdminController {
             @PathVariable("alertId") int alertId,
             @RequestBody SafetyAlert alert,
             Authentication authentication) {
-        
         log.info("[관리자] 안전 정보 수정 - alertId: {}", alertId);
 
         try {
@@ -773,7 +584,6 @@ public class AdminController {
     @DeleteMapping("/safetyInfo/delete")
     public ResponseEntity<?> deleteAlerts(@RequestBody Map<String, List<Integer>> request,
     		Authentication authentication) {
-        
         List<Integer> alertIds = request.get("alertIds");
         log.info("[관리자] 안전 정보 삭제 - alertIds: {}", alertIds);
 
@@ -805,16 +615,6 @@ public class AdminController {
     public ResponseEntity<?> syncKamisData(Authentication authentication) {
         log.info("[관리자] KAMIS 가격 데이터 동기화 수동 실행");
 
-        // 관리자 권한 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
-        }
-
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-        if (member == null || !"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자만 접근 가능합니다."));
-        }
 
         try {
             long startTime = System.currentTimeMillis();
@@ -840,16 +640,6 @@ public class AdminController {
     public ResponseEntity<?> syncFoodSafetyData(Authentication authentication) {
         log.info("[관리자] 식품안전 데이터 동기화 수동 실행");
 
-        // 관리자 권한 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
-        }
-
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-        if (member == null || !"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자만 접근 가능합니다."));
-        }
 
         try {
             long startTime = System.currentTimeMillis();
@@ -875,16 +665,6 @@ public class AdminController {
     public ResponseEntity<?> createPriceAlerts(Authentication authentication) {
         log.info("[관리자] 가격 변동 알림 생성 수동 실행");
 
-        // 관리자 권한 체크
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
-        }
-
-        String memberId = authentication.getName();
-        Member member = mService.findByMemberId(memberId);
-        if (member == null || !"Y".equals(member.getAdminYn())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "관리자만 접근 가능합니다."));
-        }
 
         try {
             long startTime = System.currentTimeMillis();
@@ -901,4 +681,12 @@ public class AdminController {
                     .body(Map.of("error", "알림 생성 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 경로별 인증 필터 통과/제외 집계 조회
+     */
+    @GetMapping("/security/route-stats")
+    public ResponseEntity<?> getRouteStats(Authentication authentication) {
+        return ResponseEntity.ok(routeRegistry.getRouteStats());
+    }
+}
@@ -4,7 +4,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -12,17 +14,22 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
-import com.fom.boot.app.ingredient.dto.IngredientDTO;
+import com.fom.boot.app.ingredient.dto.IngredientSuggestionDTO;
 import com.fom.boot.app.ingredient.dto.PricePredictionDTO;
 import com.fom.boot.domain.alert.model.service.AlertService;
+import com.fom.boot.domain.ingredient.model.service.IngredientCatalogService;
+import com.fom.boot.domain.ingredient.model.service.IngredientDetailService;
+import com.fom.boot.domain.ingredient.model.service.IngredientSearchService;
 import com.fom.boot.domain.ingredient.model.service.IngredientService;
 import com.fom.boot.domain.ingredient.model.service.PricePredictionService;
 import com.fom.boot.domain.ingredient.model.vo.FavoriteIngredient;
-import com.fom.boot.domain.ingredient.model.vo.Ingredient;
-import com.fom.boot.domain.ingredient.model.vo.NutritionMaster;
-import com.fom.boot.domain.ingredient.model.vo.PriceHistory;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalog;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChanges;
+import com.fom.boot.domain.ingredient.model.vo.IngredientDetail;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,33 +41,69 @@ public class IngredientController {
 	private final IngredientService iService;
 	private final AlertService alertService;
 	private final PricePredictionService pricePredictionService;
+	private final IngredientCatalogService catalogService;
+	private final IngredientDetailService detailService;
+	private final IngredientSearchService searchService;
 	
     // --- [API 1] React 리스트 페이지용 ---
+    // 메모리 스냅샷을 그대로 반환, If-None-Match가 현재 ETag와 같으면 304
     @GetMapping("/api/list")
     @ResponseBody // JSON 반환
-    public ResponseEntity<List<IngredientDTO>> getIngredientList() {
-        List<IngredientDTO> list = iService.getIngredientListWithPrice();
-        return ResponseEntity.ok(list);
+    public ResponseEntity<byte[]> getIngredientList(WebRequest webRequest) {
+        IngredientCatalog catalog = catalogService.getCatalog();
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return null; // 304 Not Modified (ETag 헤더는 checkNotModified가 설정)
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .header("X-Catalog-Version", String.valueOf(catalog.getVersion()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.getBody());
+    }
+
+    // --- [API 1-1] 리스트 변경분 ---
+    // since(마지막으로 받은 X-Catalog-Version) 이후 바뀐 식재료와 삭제된 ID만 반환
+    // 너무 오래된 버전이면 full=true와 전체 목록
+    @GetMapping("/api/list/changes")
+    @ResponseBody // JSON 반환
+    public ResponseEntity<IngredientCatalogChanges> getIngredientListChanges(@RequestParam long since) {
+        IngredientCatalogChanges changes = catalogService.getChangesSince(since);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Catalog-Version", String.valueOf(changes.getVersion()))
+                .body(changes);
+    }
+
+    // --- 식재료 자동완성 ---
+    // 메모리 색인에서 검색 (이름 앞부분/중간, 초성, 분류명)
+    @GetMapping("/api/autocomplete")
+    @ResponseBody // JSON 반환
+    public ResponseEntity<List<IngredientSuggestionDTO>> autocomplete(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.autocomplete(q, limit));
     }
 
     // --- [API 2] React 상세 페이지용 ---
+    // 4건을 병렬 조회, 가격 이력은 최근 days일 중 최신 points개만 (다음 동기화 전까지 캐시)
     @GetMapping("/api/detail/{id}")
     @ResponseBody // JSON 반환
-    public ResponseEntity<Map<String, Object>> getIngredientDetail(@PathVariable int id) {
+    public ResponseEntity<Map<String, Object>> getIngredientDetail(
+            @PathVariable int id,
+            @RequestParam(defaultValue = "365") int days,
+            @RequestParam(defaultValue = "500") int points) {
 
-        Ingredient ingredientInfo = iService.getIngredientById(id);
-        if (ingredientInfo == null) {
+        IngredientDetail detail = detailService.getDetail(id, days, points);
+        if (detail == null) {
             return ResponseEntity.notFound().build();
         }
-        List<PriceHistory> priceHistory = iService.getPriceHistory(id);
-        NutritionMaster nutrition = iService.getNutritionByIngredientId(id);
-        String safetyStatus = iService.getSafetyStatus(id);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("info", ingredientInfo);   // 식재료 기본 정보
-        response.put("history", priceHistory); 	// 가격 이력 (그래프용)
-        response.put("nutrition", nutrition);	// 영양 성분 정보
-        response.put("safetyStatus", safetyStatus);	// 안전 위험도
+        response.put("info", detail.getInfo());   // 식재료 기본 정보
+        response.put("history", detail.getHistory()); 	// 가격 이력 (그래프용)
+        response.put("nutrition", detail.getNutrition());	// 영양 성분 정보
+        response.put("safetyStatus", detail.getSafetyStatus());	// 안전 위험도
 
         return ResponseEntity.ok(response);
     }
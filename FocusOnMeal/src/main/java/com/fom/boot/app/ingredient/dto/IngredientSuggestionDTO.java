@@ -0,0 +1,19 @@
+package com.fom.boot.app.ingredient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 식재료 자동완성 결과 1건
+ * - matchType: EXACT, PREFIX, INFIX, CHOSEONG, CATEGORY (일치 정도 순)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class IngredientSuggestionDTO {
+	private int 	ingredientId;	// 식자재 아이디
+	private String 	name;			// 표준 품목명
+	private String 	category;		// 분류
+	private String 	matchType;		// 일치 유형
+}
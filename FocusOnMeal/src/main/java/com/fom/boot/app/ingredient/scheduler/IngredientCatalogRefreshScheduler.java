@@ -0,0 +1,34 @@
+package com.fom.boot.app.ingredient.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.domain.ingredient.model.service.IngredientCatalogService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식재료 카탈로그 스냅샷 정기 갱신 스케줄러
+ * - 안전위험도(최근 7일 안전 알림)는 날짜가 바뀌면 결과가 달라지므로 자정 직후 다시 생성
+ * - 동기화 후 갱신은 IngredientCatalogChangedEvent로 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngredientCatalogRefreshScheduler {
+
+    private final IngredientCatalogService catalogService;
+
+    /**
+     * 매일 00:05에 실행
+     */
+    @Scheduled(cron = "${ingredient.catalog.refresh-cron:0 5 0 * * *}")
+    public void refreshCatalog() {
+        try {
+            catalogService.refresh();
+        } catch (Exception e) {
+            log.error("식재료 카탈로그 정기 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.fom.boot.app.security.RouteRegistry;
+
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +23,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 											// OncePerRequestFilter : 스프링이 제공하는 필터 추상 클래스 하나의 요청당 딱 한번만 실행되도록 
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RouteRegistry routeRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, // 클라이언트가 보낸 HTTP 요청 정보(헤더, 파라미터, 쿠키 URL 등)
@@ -29,12 +33,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request); // 1. Request 헤더에서 토큰 추출
 
-        // 2. validateToken으로 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 3. 토큰이 유효하면 토큰으로부터 인증 정보를 받아옴
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            // 4. SecurityContext에 Authentication 객체를 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 2. verify로 토큰 검증과 클레임 추출을 한 번에 처리 (유효하지 않으면 null)
+        Claims claims = token != null ? jwtTokenProvider.verify(token) : null;
+        if (claims != null) {
+            // 3. 토큰이 유효하면 클레임으로부터 인증 정보를 받아옴
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+            // 4. SecurityContext에 Authentication 객체를 저장 (비활성 회원이면 null)
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response); // 5. 다음 필터로 전달
@@ -44,28 +51,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
 
-        // /api/chat/save-meal 은 인증 필요하므로 필터링 제외하지 않음
-        if (path.equals("/api/chat/save-meal")) {
-            log.debug("JWT Filter - Path: {}, Should Skip: false (인증 필요)", path);
-            return false;
-        }
-
-        boolean shouldSkip = path.startsWith("/api/chat/") ||
-               path.startsWith("/api/test/") ||
-               path.startsWith("/api/member/login") ||          // ✅ 수정
-               path.startsWith("/api/member/join") ||           // ✅ 수정
-               path.startsWith("/api/member/check-id/") ||      // ✅ 추가
-               path.startsWith("/api/member/send-verification-code") ||  // ✅ 추가
-               path.startsWith("/api/member/verify-email-code") ||       // ✅ 추가
-               path.startsWith("/api/member/random-nickname") ||         // ✅ 추가: 랜덤 닉네임은 인증 불필요
-               // path.equals("/api/member/delete") ||
-               path.startsWith("/member/login") ||
-               path.startsWith("/member/join") ||
-               path.startsWith("/meal/") ||
-               path.startsWith("/resources/") ||
-               path.startsWith("/css/") ||
-               path.startsWith("/js/") ||
-               path.startsWith("/images/");
+        // 공개/보호 경로 판단은 RouteRegistry에서 일괄 관리 (SecurityConfig와 같은 목록 사용)
+        boolean shouldSkip = routeRegistry.shouldSkipAuthentication(path);
 
         log.debug("JWT Filter - Path: {}, Should Skip: {}", path, shouldSkip);
         return shouldSkip;
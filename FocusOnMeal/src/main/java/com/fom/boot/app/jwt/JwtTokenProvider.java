@@ -2,17 +2,22 @@ package com.fom.boot.app.jwt;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.fom.boot.app.security.CustomUserDetails;
 import com.fom.boot.app.security.CustomUserDetailsService;
+import com.fom.boot.app.security.PrincipalCache;
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+import com.fom.boot.domain.member.model.vo.Member;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -22,71 +27,206 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j // private Logger log 처럼 필드에 생성하지 않고 log를 사용할 수 있음. import를 해서 lombok.slf4j가 생겨야함.(필드는 변수명을 바꿀 수 있지만 slf4j의 변수명은 무조건 log)
 @Component
 public class JwtTokenProvider {
+
+	// 토큰에 담는 회원 권한/상태 클레임 이름
+	public static final String CLAIM_ADMIN_YN = "adminYn";
+	public static final String CLAIM_STATUS_YN = "statusYn";
+	public static final String CLAIM_TOKEN_TYPE = "tokenType";
+
+	// 토큰 종류 (access : API 호출용, refresh : access 토큰 재발급용)
+	public static final String TOKEN_TYPE_ACCESS = "access";
+	public static final String TOKEN_TYPE_REFRESH = "refresh";
 	
 	private final Key key; 	// JWT 서명에 사용할 비밀키
     private final long accessTokenValidityInMilliseconds; 	// 토큰 유효시간
+    private final long refreshTokenValidityInMilliseconds; 	// 리프레시 토큰 유효시간
     private final CustomUserDetailsService customUserDetailsService; // 사용자 정보 조회(토큰에서 추출한 username으로 DB에서 사용자 정보 가져옴)
+    private final PrincipalCache principalCache; // 요청마다 DB를 조회하지 않도록 인증 주체 캐시
+    private final JwtParser jwtParser; // 생성 시 한 번만 만들어 재사용 (thread-safe)
+    private final VerifiedTokenCache verifiedTokenCache; // 검증된 토큰의 클레임 캐시
+    private final TokenRevocationService tokenRevocationService; // 폐기(로그아웃)된 토큰 확인
 
     public JwtTokenProvider( // 생성자
             @Value("${jwt.secret}") String secretKey, // application.properties에서 값을 주입받음(비밀키)
             @Value("${jwt.expiration-time}") long expirationTime, // (토큰 유효시간)
-            CustomUserDetailsService customUserDetailsService) {
+            @Value("${jwt.refresh-expiration-time:1209600000}") long refreshExpirationTime, // (리프레시 토큰 유효시간, 기본 14일)
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize, // (검증 캐시 최대 크기)
+            CustomUserDetailsService customUserDetailsService,
+            PrincipalCache principalCache,
+            TokenRevocationService tokenRevocationService) {
         
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);	// Base64로 인코딩된 문자열을 바이트 배열로 디코딩
         this.key = Keys.hmacShaKeyFor(keyBytes);	// HMAC-SHA 알고리즘용 Key 객체 생성
         this.accessTokenValidityInMilliseconds = expirationTime;
+        this.refreshTokenValidityInMilliseconds = refreshExpirationTime;
         this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     // 1. 인증 정보(Authentication)로 토큰 생성
     public String generateToken(Authentication authentication) {
-        String username = authentication.getName();
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return createToken(userDetails.getMember());
+        }
+        return createToken(authentication.getName());
+    }
+
+    // 1-1. username(memberId)로 직접 토큰 생성 (권한/상태 클레임 없음)
+    public String createToken(String username) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + this.accessTokenValidityInMilliseconds);
 
         return Jwts.builder()
+            .setId(UUID.randomUUID().toString()) // 토큰 ID (폐기 시 사용)
             .setSubject(username) // 토큰 주체 (사용자 ID)
+            .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS) // 토큰 종류
             .setIssuedAt(now) // 발급 시간
             .setExpiration(validity) // 만료 시간
             .signWith(key, SignatureAlgorithm.HS256) // 암호화 알고리즘
             .compact();
     }
 
-    // 1-1. username(memberId)로 직접 토큰 생성
-    public String createToken(String username) {
+    // 1-2. 회원 정보로 토큰 생성 (권한/상태 클레임 포함)
+    public String createToken(Member member) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + this.accessTokenValidityInMilliseconds);
 
         return Jwts.builder()
+            .setId(UUID.randomUUID().toString()) // 토큰 ID (폐기 시 사용)
+            .setSubject(member.getMemberId()) // 토큰 주체 (사용자 ID)
+            .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS) // 토큰 종류
+            .claim(CLAIM_ADMIN_YN, member.getAdminYn()) // 관리자 여부
+            .claim(CLAIM_STATUS_YN, member.getStatusYn()) // 회원 상태
+            .setIssuedAt(now) // 발급 시간
+            .setExpiration(validity) // 만료 시간
+            .signWith(key, SignatureAlgorithm.HS256) // 암호화 알고리즘
+            .compact();
+    }
+
+    // 1-3. 리프레시 토큰 생성 (access 토큰 재발급 전용, 권한 클레임 없음)
+    public String createRefreshToken(String username) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + this.refreshTokenValidityInMilliseconds);
+
+        return Jwts.builder()
+            .setId(UUID.randomUUID().toString()) // 토큰 ID (폐기 시 사용)
             .setSubject(username) // 토큰 주체 (사용자 ID)
+            .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH) // 토큰 종류
             .setIssuedAt(now) // 발급 시간
             .setExpiration(validity) // 만료 시간
             .signWith(key, SignatureAlgorithm.HS256) // 암호화 알고리즘
             .compact();
     }
 
-    // 2. 토큰에서 인증 정보(Authentication) 조회
+    // 2. access 토큰 검증 + 클레임 추출을 한 번에 처리
+    //    - 캐시에 있으면 서명 검증 생략, 없으면 한 번만 파싱/검증 후 캐시에 저장
+    //    - 유효하지 않거나, 폐기되었거나, 리프레시 토큰이면 null 반환
+    public Claims verify(String token) {
+        Claims claims = verifySignature(token);
+        if (claims == null || TOKEN_TYPE_REFRESH.equals(claims.get(CLAIM_TOKEN_TYPE, String.class))) {
+            return null;
+        }
+        return claims;
+    }
+
+    // 2-1. 리프레시 토큰 검증 (리프레시 토큰이 아니면 null 반환)
+    public Claims verifyRefreshToken(String token) {
+        Claims claims = verifySignature(token);
+        if (claims == null || !TOKEN_TYPE_REFRESH.equals(claims.get(CLAIM_TOKEN_TYPE, String.class))) {
+            return null;
+        }
+        return claims;
+    }
+
+    // 2-2. 토큰 폐기 (로그아웃, 리프레시 토큰 교체) - 이미 다른 요청이 폐기한 토큰이면 false
+    public boolean revoke(Claims claims) {
+        String tokenType = claims.get(CLAIM_TOKEN_TYPE, String.class);
+        return tokenRevocationService.revoke(claims.getId(), claims.getSubject(),
+                tokenType != null ? tokenType : TOKEN_TYPE_ACCESS, claims.getExpiration());
+    }
+
+    // 서명/만료 검증 + 폐기 여부 확인 (Bloom filter에서 걸릴 때만 DB 조회)
+    private Claims verifySignature(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String digest = VerifiedTokenCache.digest(token);
+        Claims claims = verifiedTokenCache.get(digest);
+        if (claims == null) {
+            try {
+                claims = jwtParser.parseClaimsJws(token).getBody();
+            } catch (JwtException | IllegalArgumentException e) {
+                log.warn("Invalid JWT token: {}", e.getMessage());
+                return null;
+            }
+            verifiedTokenCache.put(digest, claims);
+        }
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            log.debug("Revoked JWT token: jti={}", claims.getId());
+            return null;
+        }
+        return claims;
+    }
+
+    // 3. 토큰에서 인증 정보(Authentication) 조회
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
-
-        // CustomUserDetailsService를 통해 UserDetails 조회
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.getSubject());
-        
+        Claims claims = verify(token);
+        if (claims == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return getAuthentication(claims);
+    }
+
+    // 3-1. 검증된 클레임으로 인증 정보(Authentication) 조회
+    public Authentication getAuthentication(Claims claims) {
+        String memberId = claims.getSubject();
+
+        // 1) 캐시에 있으면 DB 조회 없이 사용
+        CustomUserDetails userDetails = principalCache.get(memberId);
+        boolean cached = userDetails != null;
+
+        // 2) 토큰에 권한/상태 클레임이 있고, 발급 이후 회원 정보가 바뀌지 않았으면 클레임으로 구성
+        if (userDetails == null) {
+            userDetails = fromClaims(claims);
+        }
+
+        // 3) 그 외에는 CustomUserDetailsService를 통해 DB에서 조회
+        if (userDetails == null) {
+            userDetails = (CustomUserDetails) customUserDetailsService.loadUserByUsername(memberId);
+        }
+
+        if (!userDetails.isEnabled()) {
+            return null;
+        }
+        if (!cached) {
+            // 캐시에 넣은 사본(비밀번호 해시 제외)을 인증 주체로 사용
+            userDetails = principalCache.put(userDetails);
+        }
+
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
-    // 3. 토큰 유효성 검증
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
+    // 토큰 클레임으로 인증 주체 생성 (클레임이 없거나 오래된 경우 null)
+    private CustomUserDetails fromClaims(Claims claims) {
+        String adminYn = claims.get(CLAIM_ADMIN_YN, String.class);
+        String statusYn = claims.get(CLAIM_STATUS_YN, String.class);
+        if (adminYn == null || statusYn == null
+                || principalCache.isClaimStale(claims.getSubject(), claims.getIssuedAt())) {
+            return null;
         }
+
+        Member member = new Member();
+        member.setMemberId(claims.getSubject());
+        member.setAdminYn(adminYn);
+        member.setStatusYn(statusYn);
+        return new CustomUserDetails(member);
+    }
+
+    // 4. 토큰 유효성 검증
+    public boolean validateToken(String token) {
+        return verify(token) != null;
     }
 }
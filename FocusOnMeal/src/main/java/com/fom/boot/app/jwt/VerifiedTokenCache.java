@@ -0,0 +1,77 @@
+package com.fom.boot.app.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 보관하는 LRU 캐시
+ * - 키: 토큰 원문이 아닌 SHA-256 다이제스트 (메모리에 토큰 원문을 남기지 않음)
+ * - 값: 검증된 Claims, 토큰 만료 시각까지만 유효
+ * - 같은 토큰으로 반복 요청하는 경우(폴링 등) HMAC 검증과 JSON 파싱을 생략
+ */
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, CachedClaims> cache;
+
+    private record CachedClaims(Claims claims, long expiryTime) {}
+
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        // accessOrder = true : 조회 순서 기준 LRU
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    // 캐시 조회 (만료된 토큰은 제거 후 null 반환)
+    public Claims get(String digest) {
+        synchronized (cache) {
+            CachedClaims cached = cache.get(digest);
+            if (cached == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() >= cached.expiryTime()) {
+                cache.remove(digest);
+                return null;
+            }
+            return cached.claims();
+        }
+    }
+
+    // 캐시 저장 (만료 시간이 없는 토큰은 저장하지 않음)
+    public void put(String digest, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(digest, new CachedClaims(claims, claims.getExpiration().getTime()));
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    // 토큰 다이제스트 (SHA-256, Base64)
+    public static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
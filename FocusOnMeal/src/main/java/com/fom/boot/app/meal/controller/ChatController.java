@@ -3,21 +3,59 @@ package com.fom.boot.app.meal.controller;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fom.boot.app.meal.dto.ChatRequest;
+import com.fom.boot.app.meal.dto.DailyMealPlan;
 import com.fom.boot.app.meal.dto.MealIngredient;
-import com.fom.boot.app.meal.dto.MealNutrition;
 import com.fom.boot.app.meal.dto.MealPlanResponse;
+import com.fom.boot.app.meal.dto.WeeklyMealPlanRequest;
+import com.fom.boot.app.meal.dto.WeeklyMealPlanResponse;
+import com.fom.boot.common.util.ClientIpUtils;
+import com.fom.boot.common.util.IncrementalJsonParser;
 import com.fom.boot.domain.ingredient.model.service.PriceService;
+import com.fom.boot.domain.meal.model.service.AiUsageService;
 import com.fom.boot.domain.meal.model.service.GeminiApiService;
+import com.fom.boot.domain.meal.model.service.MealCatalogService;
 import com.fom.boot.domain.meal.model.service.MealService;
+import com.fom.boot.domain.meal.model.service.PriceContextService;
+import com.fom.boot.domain.meal.model.service.impl.AiQuotaLimiter;
+import com.fom.boot.domain.meal.model.service.impl.ChatSessionStore;
+import com.fom.boot.domain.meal.model.service.impl.GeminiHealthTracker;
+import com.fom.boot.domain.meal.model.service.impl.GeneratedMealReader;
+import com.fom.boot.domain.meal.model.service.impl.MealGenerationExecutor;
+import com.fom.boot.domain.meal.model.service.impl.MealPlanPricer;
+import com.fom.boot.domain.meal.model.service.impl.MealRecommendationCache;
+import com.fom.boot.domain.meal.model.vo.ChatContext;
+import com.fom.boot.domain.meal.model.vo.GeneratedMeal;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * 채팅 기반 식단 추천 컨트롤러
@@ -33,289 +71,839 @@ public class ChatController {
     private final PriceService priceService;
     private final ObjectMapper objectMapper;
     private final MealService mealService;
+    private final PriceContextService priceContextService;
+    private final MealRecommendationCache recommendationCache;
+    private final MealGenerationExecutor generationExecutor;
+    private final AiQuotaLimiter quotaLimiter;
+    private final AiUsageService aiUsageService;
+    private final ChatSessionStore chatSessionStore;
+    private final MealPlanPricer mealPlanPricer;
+    private final MealCatalogService mealCatalogService;
+    private final GeminiHealthTracker geminiHealthTracker;
+
+    // 스트리밍 응답 최대 유지 시간
+    private static final long STREAM_TIMEOUT_MS = 120_000L;
+    // 간단 채팅 기본 신체 정보
+    private static final int SIMPLE_HEIGHT = 170;
+    private static final int SIMPLE_WEIGHT = 70;
+
+    // 주간 식단 응답 최대 대기 시간
+    private static final long WEEKLY_TIMEOUT_MS = 180_000L;
+    // 주간 식단 최대 일수/하루 끼니 수 (21끼)
+    private static final int MAX_WEEKLY_DAYS = 7;
+    private static final int MAX_MEALS_PER_DAY = 3;
+
+    // 채팅 세션 ID 최대 길이 (UUID 36자)
+    private static final int MAX_SESSION_ID_LENGTH = 64;
+
+    // 주간 식단 요청 하나가 동시에 돌리는 생성 수
+    @Value("${meal.weekly.parallelism:4}")
+    private int weeklyParallelism;
+
+    // 주간 식단 요청 1건이 쓰는 요청 제한 토큰 수 (일반 추천은 1)
+    @Value("${meal.quota.weekly-cost:5}")
+    private int weeklyQuotaCost;
+
+    // 간단 채팅 합류 키 (결과 타입이 달라 식단 추천 키와 구분)
+    private record SimpleChatKey(MealRecommendationCache.Key key) {}
 
     /**
      * 채팅 메시지로 식단 추천 요청
+     * - Gemini 호출은 생성 전용 풀에서 실행 (요청 스레드는 바로 반환)
+     * - 풀이 포화 상태면 503 + Retry-After
+     * - 회원(비로그인은 IP)별 요청 제한 초과 시 429 + Retry-After (캐시 응답은 제한하지 않음)
+     * - sessionId가 있으면 이전 대화를 이어서 추천 (이전 대화가 있는 요청은 캐시/합류하지 않음)
+     * - 카탈로그에 이름이 있는 식단을 요청하거나 Gemini 장애 중이면 카탈로그에서 바로 응답 (catalog: true)
+     * - Gemini 호출이 실패해도 가까운 카탈로그 식단이 있으면 그것으로 응답
      */
     @PostMapping("/meal-recommendation")
-    public ResponseEntity<Map<String, Object>> getMealRecommendation(@RequestBody ChatRequest request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getMealRecommendation(
+            @RequestBody ChatRequest request,
+            Authentication authentication,
+            HttpServletRequest httpRequest) {
         log.info("식단 추천 요청 - 메시지: {}", request.getMessage());
 
-        Map<String, Object> response = new HashMap<>();
+        String memberKey = memberKeyOf(authentication, httpRequest);
+        String sessionKey = sessionKeyOf(memberKey, request);
+        ChatContext context = loadContext(sessionKey, request);
+
+        // 비슷한 요청의 추천 결과가 있으면 재사용 (fresh 요청은 항상 새로 생성)
+        MealRecommendationCache.Key cacheKey = cacheKeyOf(request);
+
+        if (request.isFresh() || context != null) {
+            recommendationCache.recordBypass();
+        } else {
+            MealPlanResponse cached = recommendationCache.get(cacheKey);
+            if (cached != null) {
+                log.info("식단 추천 캐시 사용 - {}", cached.getMealName());
+                rememberTurn(sessionKey, request, cached);
+                Map<String, Object> response = new HashMap<>();
+                response.put("status", "SUCCESS");
+                response.put("mealPlan", cached);
+                response.put("cached", true);
+                return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+            }
+        }
+
+        MealPlanResponse fromCatalog = catalogMatchOf(request, !request.isFresh() && context == null);
+        if (fromCatalog != null) {
+            rememberTurn(sessionKey, request, fromCatalog);
+            return CompletableFuture.completedFuture(catalogResponse(fromCatalog));
+        }
+
+        AiQuotaLimiter.Decision quota = quotaLimiter.tryAcquire(memberKey, 1);
+        if (!quota.allowed()) {
+            return CompletableFuture.completedFuture(throttledResponse(quota));
+        }
 
         try {
-            // Gemini API 호출
-            log.info("Gemini API 호출 시작...");
-            String aiResponse = geminiApiService.generateMealPlan(
-                    request.getHeight(),
-                    request.getWeight(),
-                    request.getServingSize(),
-                    request.getAllergies(),
-                    request.getMessage(),
-                    request.getPreviousPrice()
-            );
+            // 같은 요청이 생성 중이면 그 결과를 같이 받음 (이전 대화가 있으면 요청마다 결과가 달라 따로 생성)
+            Supplier<MealPlanResponse> task =
+                    () -> aiUsageService.callAs(memberKey, () -> generateRecommendation(request, cacheKey, context));
+            CompletableFuture<MealPlanResponse> future = context != null
+                    ? generationExecutor.submit(task)
+                    : generationExecutor.submitShared(cacheKey, task);
+            return future
+                    .thenApply(mealPlan -> {
+                        rememberTurn(sessionKey, request, mealPlan);
+                        Map<String, Object> response = new HashMap<>();
+                        response.put("status", "SUCCESS");
+                        response.put("mealPlan", mealPlan);
+                        response.put("cached", false);
+                        return ResponseEntity.ok(response);
+                    })
+                    .exceptionally(e -> {
+                        refundIfRejected(memberKey, 1, e);
+                        return catalogFallbackOrFailure(request, sessionKey, e);
+                    });
+        } catch (RejectedExecutionException e) {
+            quotaLimiter.refund(memberKey, 1);
+            return CompletableFuture.completedFuture(busyResponse());
+        }
+    }
 
-            log.info("Gemini API 응답 받음 (길이: {})", aiResponse.length());
-            log.debug("Gemini API 원본 응답: {}", aiResponse);
+    // 카탈로그 응답 - 이름이 일치하는 식단, Gemini 장애 중이면 가장 가까운 식단 (없으면 null)
+    private MealPlanResponse catalogMatchOf(ChatRequest request, boolean allowNameMatch) {
+        if (allowNameMatch) {
+            MealPlanResponse named = mealCatalogService.findByName(request.getMessage(), request.getAllergies());
+            if (named != null) {
+                log.info("식단 카탈로그 사용 (이름 일치) - {}", named.getMealName());
+                return named;
+            }
+        }
+        // 장애 중이거나 다른 요청이 시험 호출 중이면 카탈로그 (시험 호출 자격을 얻으면 Gemini 호출)
+        if (!geminiHealthTracker.allowRequest()) {
+            MealPlanResponse nearest = nearestCatalogOf(request);
+            if (nearest != null) {
+                log.info("식단 카탈로그 사용 (Gemini 장애) - {}", nearest.getMealName());
+            }
+            return nearest;
+        }
+        return null;
+    }
 
-            // JSON 응답 파싱 및 가격 계산
-            MealPlanResponse mealPlan = parseAndCalculatePrice(aiResponse);
+    private MealPlanResponse nearestCatalogOf(ChatRequest request) {
+        return mealCatalogService.findNearest(request.getHeight(), request.getWeight(), request.getAllergies(),
+                request.getMessage(), request.getPreviousPrice());
+    }
 
-            response.put("status", "SUCCESS");
-            response.put("mealPlan", mealPlan);
+    private ResponseEntity<Map<String, Object>> catalogResponse(MealPlanResponse mealPlan) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "SUCCESS");
+        response.put("mealPlan", mealPlan);
+        response.put("cached", true);
+        response.put("catalog", true);
+        return ResponseEntity.ok(response);
+    }
 
-            log.info("식단 추천 성공 - {}", mealPlan.getMealName());
-            return ResponseEntity.ok(response);
+    // Gemini 호출 실패 시 가까운 카탈로그 식단으로 응답 (없거나 풀 포화면 기존 실패 응답)
+    private ResponseEntity<Map<String, Object>> catalogFallbackOrFailure(ChatRequest request, String sessionKey,
+                                                                         Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!(cause instanceof RejectedExecutionException)) {
+            MealPlanResponse fallback = nearestCatalogOf(request);
+            if (fallback != null) {
+                log.warn("식단 추천 실패 - 카탈로그로 대체: {} ({})", fallback.getMealName(), cause.getMessage());
+                rememberTurn(sessionKey, request, fallback);
+                return catalogResponse(fallback);
+            }
+        }
+        return failureResponse("식단 추천", error);
+    }
 
-        } catch (Exception e) {
-            log.error("식단 추천 실패 - 상세 에러", e);
-            response.put("status", "ERROR");
-            response.put("message", "식단 추천 중 오류가 발생했습니다: " + e.getMessage());
-            response.put("errorDetail", e.getClass().getSimpleName());
-            return ResponseEntity.status(500).body(response);
+    private MealPlanResponse generateRecommendation(ChatRequest request, MealRecommendationCache.Key cacheKey,
+                                                    ChatContext context) {
+        // Gemini API 호출
+        log.info("Gemini API 호출 시작...");
+        String aiResponse = geminiApiService.generateMealPlan(
+                request.getHeight(),
+                request.getWeight(),
+                request.getServingSize(),
+                request.getAllergies(),
+                request.getMessage(),
+                request.getPreviousPrice(),
+                context
+        );
+
+        log.info("Gemini API 응답 받음 (길이: {})", aiResponse.length());
+        log.debug("Gemini API 원본 응답: {}", aiResponse);
+
+        // JSON 응답 파싱 및 가격 계산 (이전 대화에 따른 추천은 다른 요청과 공유하지 않음)
+        MealPlanResponse mealPlan = mealPlanPricer.parse(aiResponse);
+        if (context == null) {
+            recommendationCache.put(cacheKey, mealPlan);
         }
+
+        log.info("식단 추천 성공 - {}", mealPlan.getMealName());
+        return mealPlan;
     }
 
     /**
-     * AI 응답 파싱 및 가격 계산
+     * 채팅 세션 초기화 (대화 기억 삭제)
      */
-    private MealPlanResponse parseAndCalculatePrice(String aiResponse) {
-        try {
-            log.info("JSON 파싱 시작...");
-
-            // JSON 응답에서 ```json ``` 마크다운 제거 (AI가 포함시킬 수 있음)
-            String cleanJson = aiResponse.trim();
-            if (cleanJson.startsWith("```json")) {
-                cleanJson = cleanJson.substring(7);
-                log.info("```json 마커 제거됨");
-            }
-            if (cleanJson.startsWith("```")) {
-                cleanJson = cleanJson.substring(3);
-                log.info("``` 마커 제거됨");
-            }
-            if (cleanJson.endsWith("```")) {
-                cleanJson = cleanJson.substring(0, cleanJson.length() - 3);
-                log.info("끝의 ``` 마커 제거됨");
-            }
-            cleanJson = cleanJson.trim();
-
-            // JSON 문자열 내의 제어 문자 처리 (줄바꿈 등)
-            // JSON 파싱 전에 문자열 값 내부의 제어 문자를 이스케이프 처리
-            cleanJson = escapeControlCharactersInJson(cleanJson);
+    @DeleteMapping("/session/{sessionId}")
+    public ResponseEntity<Map<String, Object>> clearSession(
+            @PathVariable String sessionId,
+            Authentication authentication,
+            HttpServletRequest httpRequest) {
+        ChatRequest request = new ChatRequest();
+        request.setSessionId(sessionId);
+        String sessionKey = sessionKeyOf(memberKeyOf(authentication, httpRequest), request);
+        if (sessionKey != null) {
+            chatSessionStore.remove(sessionKey);
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "SUCCESS");
+        return ResponseEntity.ok(response);
+    }
 
-            log.info("정제된 JSON (첫 200자): {}", cleanJson.substring(0, Math.min(200, cleanJson.length())));
+    // 세션 키 - 다른 회원의 세션 ID로는 접근할 수 없도록 회원 키와 묶음 (세션 ID가 없거나 너무 길면 null)
+    private String sessionKeyOf(String memberKey, ChatRequest request) {
+        String sessionId = request.getSessionId();
+        if (sessionId == null || sessionId.isBlank() || sessionId.length() > MAX_SESSION_ID_LENGTH) {
+            return null;
+        }
+        return memberKey + "|" + sessionId.strip();
+    }
 
-            // JSON 파싱
-            JsonNode rootNode = objectMapper.readTree(cleanJson);
+    // 이전 대화 조회 - 요청에 알러지가 없으면 세션에서 말한 알러지 사용 (이전 대화가 없으면 null)
+    private ChatContext loadContext(String sessionKey, ChatRequest request) {
+        if (sessionKey == null) {
+            return null;
+        }
+        ChatContext context = chatSessionStore.get(sessionKey);
+        if (context == null) {
+            return null;
+        }
+        if ((request.getAllergies() == null || request.getAllergies().isEmpty()) && !context.allergies().isEmpty()) {
+            request.setAllergies(context.allergies());
+        }
+        return context.isEmpty() ? null : context;
+    }
 
-            // 필드명 확인
-            List<String> fieldList = new ArrayList<>();
-            rootNode.fieldNames().forEachRemaining(fieldList::add);
-            log.info("JSON 파싱 성공, 필드 개수: {}, 필드명: {}", fieldList.size(), String.join(", ", fieldList));
+    private void rememberTurn(String sessionKey, ChatRequest request, MealPlanResponse mealPlan) {
+        if (sessionKey == null) {
+            return;
+        }
+        Integer price = mealPlan.getCalculatedPrice() != null ? mealPlan.getCalculatedPrice() : mealPlan.getEstimatedPrice();
+        chatSessionStore.append(sessionKey, request.getMessage(), mealPlan.getMealName(), price, request.getAllergies());
+    }
 
-            // 재료 목록 파싱 및 가격 계산
-            List<MealIngredient> ingredients = new ArrayList<>();
-            int totalPrice = 0;
-            JsonNode ingredientsNode = rootNode.get("ingredients");
+    // 생성 실패 응답 (합류한 요청이 시작 시점에 거절된 경우는 503)
+    private ResponseEntity<Map<String, Object>> failureResponse(String action, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RejectedExecutionException) {
+            return busyResponse();
+        }
+        log.error("{} 실패 - 상세 에러", action, cause);
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "ERROR");
+        response.put("message", action + " 중 오류가 발생했습니다: " + cause.getMessage());
+        response.put("errorDetail", cause.getClass().getSimpleName());
+        return ResponseEntity.status(500).body(response);
+    }
 
-            if (ingredientsNode != null && ingredientsNode.isArray()) {
-                for (JsonNode ingredientNode : ingredientsNode) {
-                    String name = ingredientNode.get("name").asText();
-                    String amount = ingredientNode.get("amount").asText();
-                    String unit = ingredientNode.get("unit").asText();
+    // 합류한 생성이 시작 시점에 거절된 경우 (Gemini를 호출하지 않았으므로 요청 제한 토큰 반환)
+    private void refundIfRejected(String memberKey, int cost, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RejectedExecutionException) {
+            quotaLimiter.refund(memberKey, cost);
+        }
+    }
 
-                    // DB에서 가격 조회
-                    Integer pricePerKg = priceService.getPrice(name);
-                    Integer ingredientPrice = null;
+    // 회원별 요청 제한 초과 - Retry-After 이후 재시도 안내
+    private ResponseEntity<Map<String, Object>> throttledResponse(AiQuotaLimiter.Decision quota) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "THROTTLED");
+        response.put("message", "식단 추천 요청이 너무 잦습니다. " + quota.retryAfterSeconds() + "초 후 다시 시도해주세요.");
+        response.put("retryAfter", quota.retryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(quota.retryAfterSeconds()))
+                .body(response);
+    }
 
-                    if (pricePerKg != null) {
-                        // DB 가격으로 계산 (단위에 따라)
-                        ingredientPrice = calculateIngredientPrice(pricePerKg, amount, unit);
-                    } else {
-                        // DB에 가격이 없으면 AI 예상 가격 사용
-                        JsonNode aiEstimatedPrice = ingredientNode.get("estimatedPrice");
-                        if (aiEstimatedPrice != null && !aiEstimatedPrice.isNull()) {
-                            try {
-                                ingredientPrice = aiEstimatedPrice.asInt();
-                                log.info("DB 가격 없음 - AI 예상 가격 사용: {} = {}원", name, ingredientPrice);
-                            } catch (Exception e) {
-                                log.warn("AI 예상 가격 파싱 실패: {}", name);
-                            }
-                        }
-                    }
+    /**
+     * 요청 제한/사용량 집계 키 - 로그인 회원은 회원 ID, 비로그인은 "ip:접속 주소" (클라이언트가 보낸 프록시 헤더는 무시)
+     */
+    private String memberKeyOf(Authentication authentication, HttpServletRequest request) {
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return "ip:" + ClientIpUtils.getClientIpAddress(request);
+    }
 
-                    if (ingredientPrice != null) {
-                        totalPrice += ingredientPrice;
-                    }
+    // 생성 풀 포화 - 잠시 후 재시도 안내
+    private ResponseEntity<Map<String, Object>> busyResponse() {
+        int retryAfter = generationExecutor.getRetryAfterSeconds();
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "BUSY");
+        response.put("message", "식단 추천 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        response.put("retryAfter", retryAfter);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(response);
+    }
 
-                    ingredients.add(MealIngredient.builder()
-                            .name(name)
-                            .amount(amount)
-                            .unit(unit)
-                            .price(pricePerKg)
-                            .calculatedPrice(ingredientPrice)  // 실제 계산된 가격 저장
-                            .build());
+    /**
+     * 채팅 메시지로 식단 추천 요청 (스트리밍, text/event-stream)
+     * 생성되는 대로 이벤트 전송:
+     * - mealName / mealType / description : 문자열
+     * - ingredient : 가격 계산된 재료 1건
+     * - recipe : {"step": n, "text": "..."}
+     * - nutrition : 영양 정보
+     * - done : 최종 식단 (일반 요청의 mealPlan과 동일)
+     * - error : {"message": "..."}
+     * 생성 풀이 포화 상태면 스트림을 열지 않고 503 + Retry-After, 요청 제한 초과면 429 + Retry-After
+     */
+    @PostMapping(value = "/meal-recommendation/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMealRecommendation(
+            @RequestBody ChatRequest request,
+            Authentication authentication,
+            HttpServletRequest httpRequest) {
+        log.info("식단 추천 스트리밍 요청 - 메시지: {}", request.getMessage());
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        String memberKey = memberKeyOf(authentication, httpRequest);
+        String sessionKey = sessionKeyOf(memberKey, request);
+        ChatContext context = loadContext(sessionKey, request);
+        MealRecommendationCache.Key cacheKey = cacheKeyOf(request);
+
+        // 캐시된 추천은 생성 풀을 거치지 않고 바로 전송
+        if (request.isFresh() || context != null) {
+            recommendationCache.recordBypass();
+        } else {
+            MealPlanResponse cached = recommendationCache.get(cacheKey);
+            if (cached != null) {
+                rememberTurn(sessionKey, request, cached);
+                try {
+                    replay(cached, emitter);
+                    emitter.complete();
+                } catch (IllegalStateException e) {
+                    emitter.completeWithError(e);
                 }
+                return ResponseEntity.ok(emitter);
             }
+        }
 
-            // 영양 정보 파싱
-            JsonNode nutritionNode = rootNode.get("nutrition");
-            MealNutrition nutrition = null;
-            if (nutritionNode != null) {
-                nutrition = MealNutrition.builder()
-                        .calories(nutritionNode.get("calories").asText())
-                        .carbs(nutritionNode.get("carbs").asText())
-                        .protein(nutritionNode.get("protein").asText())
-                        .fat(nutritionNode.get("fat").asText())
-                        .build();
-            }
-
-            // 레시피 파싱
-            List<String> recipe = new ArrayList<>();
-            JsonNode recipeNode = rootNode.get("recipe");
-            if (recipeNode != null && recipeNode.isArray()) {
-                recipeNode.forEach(node -> recipe.add(node.asText()));
+        // 카탈로그 식단도 같은 방식으로 바로 전송
+        MealPlanResponse fromCatalog = catalogMatchOf(request, !request.isFresh() && context == null);
+        if (fromCatalog != null) {
+            rememberTurn(sessionKey, request, fromCatalog);
+            try {
+                replay(fromCatalog, emitter);
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                emitter.completeWithError(e);
             }
+            return ResponseEntity.ok(emitter);
+        }
 
-            // AI 예상 가격
-            Integer estimatedPrice = rootNode.get("estimatedPrice").asInt();
-
-            // 계산된 가격이 0이면 AI 예상 가격 사용
-            Integer finalPrice = totalPrice > 0 ? totalPrice : estimatedPrice;
-
-            return MealPlanResponse.builder()
-                    .mealName(rootNode.get("mealName").asText())
-                    .mealType(rootNode.get("mealType").asText())
-                    .description(rootNode.get("description").asText())
-                    .ingredients(ingredients)
-                    .recipe(recipe)
-                    .nutrition(nutrition)
-                    .calculatedPrice(finalPrice)
-                    .estimatedPrice(estimatedPrice)
+        AiQuotaLimiter.Decision quota = quotaLimiter.tryAcquire(memberKey, 1);
+        if (!quota.allowed()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(quota.retryAfterSeconds()))
                     .build();
+        }
 
-        } catch (Exception e) {
-            log.error("AI 응답 파싱 실패: {}", aiResponse, e);
-            throw new RuntimeException("식단 데이터 파싱에 실패했습니다: " + e.getMessage());
+        try {
+            generationExecutor.execute(() -> aiUsageService.callAs(memberKey, () -> {
+                streamRecommendation(request, cacheKey, context, sessionKey, emitter);
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            // 스트림을 열기 전이므로 일반 요청과 같이 503 + Retry-After
+            quotaLimiter.refund(memberKey, 1);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(generationExecutor.getRetryAfterSeconds()))
+                    .build();
         }
+        return ResponseEntity.ok(emitter);
     }
 
-    /**
-     * JSON 문자열 내의 제어 문자를 이스케이프 처리
-     */
-    private String escapeControlCharactersInJson(String json) {
-        StringBuilder result = new StringBuilder();
-        boolean inString = false;
-        boolean escaped = false;
+    private void streamRecommendation(ChatRequest request, MealRecommendationCache.Key cacheKey, ChatContext context,
+                                      String sessionKey, SseEmitter emitter) {
+        try {
+            StringBuilder fullText = new StringBuilder();
+            IncrementalJsonParser parser = new IncrementalJsonParser((field, index, value) ->
+                    onStreamValue(field, index, value, emitter));
 
-        for (int i = 0; i < json.length(); i++) {
-            char c = json.charAt(i);
+            geminiApiService.streamMealPlan(
+                    request.getHeight(),
+                    request.getWeight(),
+                    request.getServingSize(),
+                    request.getAllergies(),
+                    request.getMessage(),
+                    request.getPreviousPrice(),
+                    context,
+                    chunk -> {
+                        fullText.append(chunk);
+                        try {
+                            parser.feed(chunk);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
 
-            if (escaped) {
-                result.append(c);
-                escaped = false;
-                continue;
+            // 최종 결과는 전체 텍스트로 한 번 더 파싱 (일반 요청과 같은 결과 보장)
+            MealPlanResponse mealPlan = mealPlanPricer.parse(fullText.toString());
+            if (context == null) {
+                recommendationCache.put(cacheKey, mealPlan);
             }
+            rememberTurn(sessionKey, request, mealPlan);
+            sendEvent(emitter, "done", mealPlan);
+            emitter.complete();
+            log.info("식단 추천 스트리밍 성공 - {}", mealPlan.getMealName());
 
-            if (c == '\\') {
-                result.append(c);
-                escaped = true;
-                continue;
+        } catch (Exception e) {
+            log.error("식단 추천 스트리밍 실패", e);
+            try {
+                sendEvent(emitter, "error", Map.of("message", "식단 추천 중 오류가 발생했습니다: " + e.getMessage()));
+            } catch (IllegalStateException sendError) {
+                // 클라이언트 연결 종료 - 오류 이벤트를 보낼 곳이 없음
+                log.debug("스트리밍 오류 이벤트 전송 실패 (연결 종료)");
+            } finally {
+                // 전송 성공 여부와 관계없이 비동기 요청 종료 (타임아웃까지 붙잡지 않음)
+                emitter.completeWithError(e);
             }
+        }
+    }
 
-            if (c == '"') {
-                inString = !inString;
-                result.append(c);
-                continue;
+    // 완성된 최상위 값(또는 배열 원소)을 이벤트로 변환
+    private void onStreamValue(String field, int index, JsonNode value, SseEmitter emitter) {
+        switch (field) {
+            case "mealName", "mealType", "description" -> {
+                if (index < 0) {
+                    sendEvent(emitter, field, value.asText());
+                }
             }
-
-            // 문자열 내부에서 제어 문자 이스케이프
-            if (inString) {
-                switch (c) {
-                    case '\n':
-                        result.append("\\n");
-                        break;
-                    case '\r':
-                        result.append("\\r");
-                        break;
-                    case '\t':
-                        result.append("\\t");
-                        break;
-                    default:
-                        if (c < 32) {
-                            // 기타 제어 문자는 유니코드 이스케이프
-                            result.append(String.format("\\u%04x", (int) c));
-                        } else {
-                            result.append(c);
-                        }
+            case "ingredients" -> {
+                if (index >= 0) {
+                    sendEvent(emitter, "ingredient", mealPlanPricer.price(GeneratedMealReader.ingredientOf(value), priceService::getPrice));
                 }
-            } else {
-                result.append(c);
+            }
+            case "recipe" -> {
+                if (index >= 0) {
+                    sendEvent(emitter, "recipe", Map.of("step", index + 1, "text", value.asText()));
+                }
+            }
+            case "nutrition" -> sendEvent(emitter, "nutrition", mealPlanPricer.nutrition(GeneratedMealReader.nutritionOf(value)));
+            default -> {
+                // estimatedPrice 등은 done 이벤트에 포함
             }
         }
+    }
 
-        return result.toString();
+    // 캐시된 식단을 스트리밍과 같은 순서의 이벤트로 전송
+    private void replay(MealPlanResponse plan, SseEmitter emitter) {
+        log.info("식단 추천 캐시 사용 (스트리밍) - {}", plan.getMealName());
+        sendEvent(emitter, "mealName", plan.getMealName());
+        sendEvent(emitter, "mealType", plan.getMealType());
+        sendEvent(emitter, "description", plan.getDescription());
+        if (plan.getIngredients() != null) {
+            plan.getIngredients().forEach(ingredient -> sendEvent(emitter, "ingredient", ingredient));
+        }
+        if (plan.getRecipe() != null) {
+            for (int i = 0; i < plan.getRecipe().size(); i++) {
+                sendEvent(emitter, "recipe", Map.of("step", i + 1, "text", plan.getRecipe().get(i)));
+            }
+        }
+        if (plan.getNutrition() != null) {
+            sendEvent(emitter, "nutrition", plan.getNutrition());
+        }
+        sendEvent(emitter, "done", plan);
     }
 
-    /**
-     * 재료 가격 계산
-     */
-    private Integer calculateIngredientPrice(Integer pricePerKg, String amount, String unit) {
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        if (data == null) {
+            return;
+        }
         try {
-            double amountValue = Double.parseDouble(amount);
-
-            // 단위에 따라 계산
-            switch (unit.toLowerCase()) {
-                case "g":
-                    return (int) (pricePerKg * amountValue / 1000);
-                case "kg":
-                    return (int) (pricePerKg * amountValue);
-                case "개":
-                    // 개당 평균 중량 가정 (예: 계란 60g, 양파 200g 등)
-                    return (int) (pricePerKg * amountValue * 0.2);  // 대략 200g 기준
-                case "ml":
-                case "l":
-                    // 액체는 무게와 유사하게 계산
-                    return (int) (pricePerKg * amountValue / (unit.equals("ml") ? 1000 : 1));
-                default:
-                    return pricePerKg;
-            }
-        } catch (NumberFormatException e) {
-            log.warn("가격 계산 실패 - amount: {}, unit: {}", amount, unit);
-            return 0;
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 - 이후 전송도 실패하므로 스트림 중단
+            throw new IllegalStateException("SSE 전송 실패 (연결 종료)", e);
         }
     }
 
+    private MealRecommendationCache.Key cacheKeyOf(ChatRequest request) {
+        return MealRecommendationCache.Key.of(
+                request.getHeight(),
+                request.getWeight(),
+                request.getServingSize(),
+                request.getAllergies(),
+                request.getMessage(),
+                request.getPreviousPrice(),
+                priceContextService.getVersion());
+    }
+
     /**
      * 간단한 채팅 테스트 엔드포인트
      */
     @PostMapping("/simple")
-    public ResponseEntity<Map<String, Object>> simpleChat(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> simpleChat(
+            @RequestBody Map<String, String> request,
+            Authentication authentication,
+            HttpServletRequest httpRequest) {
         log.info("간단 채팅 요청 - 메시지: {}", request.get("message"));
 
-        Map<String, Object> response = new HashMap<>();
+        String memberKey = memberKeyOf(authentication, httpRequest);
+        AiQuotaLimiter.Decision quota = quotaLimiter.tryAcquire(memberKey, 1);
+        if (!quota.allowed()) {
+            return CompletableFuture.completedFuture(throttledResponse(quota));
+        }
+
+        try {
+            SimpleChatKey key = new SimpleChatKey(MealRecommendationCache.Key.of(
+                    SIMPLE_HEIGHT, SIMPLE_WEIGHT, 1, List.of(), request.get("message"), null,
+                    priceContextService.getVersion()));
+            return generationExecutor.<String>submitShared(key, () -> aiUsageService.callAs(memberKey,
+                            () -> geminiApiService.generateMealPlan(
+                                    SIMPLE_HEIGHT,  // 기본 키
+                                    SIMPLE_WEIGHT,  // 기본 몸무게
+                                    1,    // 1인분
+                                    List.of(), // 알러지 없음
+                                    request.get("message"),
+                                    null  // 이전 가격 없음
+                            )))
+                    .thenApply(reply -> {
+                        Map<String, Object> response = new HashMap<>();
+                        response.put("status", "SUCCESS");
+                        response.put("reply", reply);
+                        return ResponseEntity.ok(response);
+                    })
+                    .exceptionally(e -> {
+                        refundIfRejected(memberKey, 1, e);
+                        return failureResponse("간단 채팅", e);
+                    });
+        } catch (RejectedExecutionException e) {
+            quotaLimiter.refund(memberKey, 1);
+            return CompletableFuture.completedFuture(busyResponse());
+        }
+    }
+
+    /**
+     * 여러 날 식단 한 번에 추천
+     * POST /api/chat/meal-plan/weekly
+     * - 끼니별 프롬프트를 생성 풀에서 병렬 실행 (요청당 meal.weekly.parallelism개까지, 동시 생성 상한은 채팅과 공유)
+     * - 모든 끼니의 재료 가격을 한 번에 조회하고, 같은 재료를 합친 장보기 목록 생성
+     * - save=true면 생성한 식단을 한 번의 INSERT로 저장
+     * - 일부 끼니가 실패해도 나머지로 응답 (failedCount), 하나도 못 만들면 500 (포화로 못 만들면 503)
+     */
+    @PostMapping("/meal-plan/weekly")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> getWeeklyMealPlan(
+            @RequestBody WeeklyMealPlanRequest request,
+            Authentication authentication,
+            HttpServletRequest httpRequest) {
+
+        List<MealSlot> slots = toSlots(request);
+        log.info("주간 식단 추천 요청 - {}일, {}끼, 메시지: {}", request.getDays(), slots.size(), request.getMessage());
+
+        // 끼니 수만큼 순차 생성이 이어지므로 기본 비동기 타임아웃보다 길게
+        DeferredResult<ResponseEntity<Map<String, Object>>> result = new DeferredResult<>(WEEKLY_TIMEOUT_MS);
+        result.onTimeout(() -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "ERROR");
+            response.put("message", "주간 식단 추천 시간이 초과되었습니다.");
+            result.setErrorResult(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response));
+        });
+
+        if (slots.isEmpty()) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "ERROR");
+            response.put("message", "추천할 끼니가 없습니다.");
+            result.setResult(ResponseEntity.badRequest().body(response));
+            return result;
+        }
+        if (request.isSave() && (authentication == null || !authentication.isAuthenticated())) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "ERROR");
+            response.put("message", "로그인이 필요합니다.");
+            result.setResult(ResponseEntity.status(401).body(response));
+            return result;
+        }
+        // 요청 스레드에서 확인 (생성 풀 스레드에는 SecurityContext가 없음)
+        String memberId = request.isSave() ? authentication.getName() : null;
+
+        String memberKey = memberKeyOf(authentication, httpRequest);
+        AiQuotaLimiter.Decision quota = quotaLimiter.tryAcquire(memberKey, weeklyQuotaCost);
+        if (!quota.allowed()) {
+            result.setResult(throttledResponse(quota));
+            return result;
+        }
+
+        // 끼니별 AI 응답 (실패한 끼니는 null)
+        String[] aiResponses = new String[slots.size()];
+        AtomicInteger nextSlot = new AtomicInteger();
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicBoolean rejected = new AtomicBoolean();
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(weeklyParallelism, slots.size())];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = runWeeklyLane(request, memberKey, slots, nextSlot, submitted, aiResponses, rejected);
+        }
+
+        CompletableFuture.allOf(lanes)
+                .handle((ignored, error) -> {
+                    // 한 끼도 생성 풀에 넣지 못했으면 요청 제한 토큰을 되돌림
+                    if (rejected.get() && submitted.get() == 0) {
+                        quotaLimiter.refund(memberKey, weeklyQuotaCost);
+                    }
+                    return buildWeeklyResponse(request, slots, aiResponses, rejected.get(), memberId);
+                })
+                .thenAccept(result::setResult);
+        return result;
+    }
+
+    /**
+     * 생성 풀에서 끼니를 하나씩 이어서 생성 (한 요청이 풀 대기열을 독차지하지 않도록 레인 단위로 실행)
+     * 대기열 포화로 거절되면 이 레인은 중단
+     */
+    private CompletableFuture<Void> runWeeklyLane(WeeklyMealPlanRequest request, String memberKey, List<MealSlot> slots,
+                                                  AtomicInteger nextSlot, AtomicInteger submitted, String[] aiResponses,
+                                                  AtomicBoolean rejected) {
+        int index = nextSlot.getAndIncrement();
+        if (index >= slots.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        MealSlot slot = slots.get(index);
+
+        CompletableFuture<String> generation;
+        try {
+            generation = generationExecutor.submit(() -> aiUsageService.callAs(memberKey,
+                    () -> geminiApiService.generateMealPlan(
+                            request.getHeight(),
+                            request.getWeight(),
+                            request.getServingSize(),
+                            request.getAllergies(),
+                            slot.prompt(request.getMessage()),
+                            null
+                    )));
+            submitted.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            rejected.set(true);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return generation
+                .handle((aiResponse, error) -> {
+                    if (error != null) {
+                        log.warn("주간 식단 생성 실패 - {}일차 {}: {}", slot.day(), slot.mealType(), error.getMessage());
+                    } else {
+                        aiResponses[index] = aiResponse;
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> runWeeklyLane(request, memberKey, slots, nextSlot, submitted, aiResponses, rejected));
+    }
 
+    private ResponseEntity<Map<String, Object>> buildWeeklyResponse(WeeklyMealPlanRequest request, List<MealSlot> slots,
+                                                                    String[] aiResponses, boolean rejected,
+                                                                    String memberId) {
         try {
-            // 기본값으로 식단 추천
-            String mealPlan = geminiApiService.generateMealPlan(
-                    170,  // 기본 키
-                    70,   // 기본 몸무게
-                    1,    // 1인분
-                    List.of(), // 알러지 없음
-                    request.get("message"),
-                    null  // 이전 가격 없음
-            );
+            // 끼니별 JSON 파싱 (파싱 실패한 끼니는 제외)
+            GeneratedMeal[] parsed = new GeneratedMeal[slots.size()];
+            Set<String> names = new LinkedHashSet<>();
+            for (int i = 0; i < slots.size(); i++) {
+                if (aiResponses[i] == null) {
+                    continue;
+                }
+                try {
+                    parsed[i] = GeneratedMealReader.read(aiResponses[i]);
+                    parsed[i].ingredients().forEach(ingredient -> names.add(ingredient.name()));
+                } catch (RuntimeException e) {
+                    log.warn("주간 식단 파싱 실패 - {}일차 {}", slots.get(i).day(), slots.get(i).mealType());
+                }
+            }
+
+            // 전체 재료 가격 한 번에 조회
+            Map<String, Integer> prices = priceService.getPrices(names.toArray(String[]::new));
+
+            Map<Integer, List<MealPlanResponse>> mealsByDay = new LinkedHashMap<>();
+            List<MealPlanResponse> generated = new ArrayList<>();
+            List<MealSlot> generatedSlots = new ArrayList<>();
+            for (int i = 0; i < slots.size(); i++) {
+                if (parsed[i] == null) {
+                    continue;
+                }
+                try {
+                    MealPlanResponse mealPlan = mealPlanPricer.price(parsed[i], prices::get);
+                    mealsByDay.computeIfAbsent(slots.get(i).day(), day -> new ArrayList<>()).add(mealPlan);
+                    generated.add(mealPlan);
+                    generatedSlots.add(slots.get(i));
+                } catch (RuntimeException e) {
+                    log.warn("주간 식단 변환 실패 - {}일차 {}", slots.get(i).day(), slots.get(i).mealType());
+                }
+            }
+
+            if (generated.isEmpty()) {
+                if (rejected) {
+                    return busyResponse();
+                }
+                Map<String, Object> response = new HashMap<>();
+                response.put("status", "ERROR");
+                response.put("message", "식단 추천 중 오류가 발생했습니다: 생성된 식단이 없습니다.");
+                return ResponseEntity.status(500).body(response);
+            }
+
+            List<MealIngredient> shoppingList = toShoppingList(generated);
+            int totalCost = shoppingList.stream()
+                    .map(MealIngredient::getCalculatedPrice)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .sum();
+
+            List<DailyMealPlan> days = new ArrayList<>();
+            mealsByDay.forEach((day, meals) -> days.add(DailyMealPlan.builder().day(day).meals(meals).build()));
+
+            Integer savedCount = memberId != null
+                    ? mealService.saveMealPlans(toMealPlanVos(memberId, request.getServingSize(), generatedSlots, generated))
+                    : null;
+
+            WeeklyMealPlanResponse weeklyPlan = WeeklyMealPlanResponse.builder()
+                    .days(days)
+                    .shoppingList(shoppingList)
+                    .totalCost(totalCost)
+                    .requestedCount(slots.size())
+                    .failedCount(slots.size() - generated.size())
+                    .savedCount(savedCount)
+                    .build();
 
+            Map<String, Object> response = new HashMap<>();
             response.put("status", "SUCCESS");
-            response.put("reply", mealPlan);
+            response.put("weeklyPlan", weeklyPlan);
 
+            log.info("주간 식단 추천 성공 - {}/{}끼, 장보기 {}종, {}원",
+                    generated.size(), slots.size(), shoppingList.size(), totalCost);
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
-            log.error("간단 채팅 실패", e);
-            response.put("status", "ERROR");
-            response.put("message", e.getMessage());
-            return ResponseEntity.status(500).body(response);
+            return failureResponse("주간 식단 추천", e);
+        }
+    }
+
+    // 요청 → 끼니 목록 (1일차 아침, 1일차 점심, ...)
+    private List<MealSlot> toSlots(WeeklyMealPlanRequest request) {
+        int days = Math.max(0, Math.min(request.getDays(), MAX_WEEKLY_DAYS));
+        List<String> mealTypes = request.getMealTypes() == null ? List.of() : request.getMealTypes().stream()
+                .filter(type -> type != null && !type.isBlank())
+                .map(String::strip)
+                .distinct()
+                .limit(MAX_MEALS_PER_DAY)
+                .toList();
+
+        List<MealSlot> slots = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            for (String mealType : mealTypes) {
+                slots.add(new MealSlot(day, mealType));
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * 모든 끼니의 재료를 이름+단위로 합친 장보기 목록
+     * 수량이 숫자가 아닌 재료("약간" 등)는 가격만 더함
+     */
+    private List<MealIngredient> toShoppingList(List<MealPlanResponse> meals) {
+        Map<String, MealIngredient> merged = new LinkedHashMap<>();
+        Map<String, Double> amounts = new HashMap<>();
+        for (MealPlanResponse meal : meals) {
+            if (meal.getIngredients() == null) {
+                continue;
+            }
+            for (MealIngredient ingredient : meal.getIngredients()) {
+                String key = ingredient.getName().strip() + "|" + ingredient.getUnit().strip().toLowerCase(Locale.ROOT);
+                MealIngredient existing = merged.get(key);
+                int price = ingredient.getCalculatedPrice() != null ? ingredient.getCalculatedPrice() : 0;
+                if (existing != null) {
+                    price += existing.getCalculatedPrice();
+                }
+                Double amount = parseAmount(ingredient.getAmount());
+                if (amount != null) {
+                    amounts.merge(key, amount, Double::sum);
+                }
+                merged.put(key, MealIngredient.builder()
+                        .name(ingredient.getName().strip())
+                        .amount(amounts.containsKey(key) ? formatAmount(amounts.get(key)) : ingredient.getAmount())
+                        .unit(ingredient.getUnit())
+                        .price(ingredient.getPrice())
+                        .calculatedPrice(price)
+                        .build());
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private static Double parseAmount(String amount) {
+        try {
+            return Double.parseDouble(amount.strip());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String formatAmount(double amount) {
+        return amount == Math.rint(amount) ? String.valueOf((long) amount) : String.valueOf(amount);
+    }
+
+    // 생성된 식단 → 저장용 VO (식단 저장 API와 같은 형식)
+    private List<com.fom.boot.domain.meal.model.vo.MealPlan> toMealPlanVos(String memberId, int servingSize,
+                                                                            List<MealSlot> slots,
+                                                                            List<MealPlanResponse> meals) throws IOException {
+        List<com.fom.boot.domain.meal.model.vo.MealPlan> vos = new ArrayList<>();
+        for (int i = 0; i < meals.size(); i++) {
+            MealPlanResponse meal = meals.get(i);
+            com.fom.boot.domain.meal.model.vo.MealPlan mealPlan = new com.fom.boot.domain.meal.model.vo.MealPlan();
+            mealPlan.setMemberId(memberId);
+            mealPlan.setPlanName(slots.get(i).day() + "일차 " + meal.getMealName());
+            mealPlan.setServingSize(servingSize);
+            mealPlan.setTotalCost(meal.getCalculatedPrice() != null ? meal.getCalculatedPrice() : 0);
+            mealPlan.setWhenEat(slots.get(i).mealType());
+            mealPlan.setAiRecipe(objectMapper.writeValueAsString(meal.getRecipe()));
+            mealPlan.setIngredientsJson(objectMapper.writeValueAsString(meal.getIngredients()));
+
+            if (meal.getNutrition() != null) {
+                try {
+                    mealPlan.setCalories(new java.math.BigDecimal(meal.getNutrition().getCalories()));
+                    mealPlan.setCarbsG(new java.math.BigDecimal(meal.getNutrition().getCarbs()));
+                    mealPlan.setProteinG(new java.math.BigDecimal(meal.getNutrition().getProtein()));
+                    mealPlan.setFatG(new java.math.BigDecimal(meal.getNutrition().getFat()));
+                } catch (NumberFormatException e) {
+                    log.warn("영양 정보 파싱 실패 - 기본값 사용: {}", meal.getMealName());
+                }
+            }
+            vos.add(mealPlan);
+        }
+        return vos;
+    }
+
+    // 주간 식단의 끼니 하나
+    private record MealSlot(int day, String mealType) {
+
+        // 끼니별 프롬프트 메시지 (기존 식단 추천 프롬프트에 그대로 전달)
+        String prompt(String message) {
+            String base = message == null || message.isBlank() ? "" : message.strip() + " - ";
+            return base + day + "일차 " + mealType + " 식단 (다른 날, 다른 끼니와 겹치지 않는 메뉴로)";
         }
     }
 
@@ -326,7 +914,7 @@ public class ChatController {
     @PostMapping("/save-meal")
     public ResponseEntity<Map<String, Object>> saveMealPlan(
             @RequestBody com.fom.boot.app.meal.dto.SaveMealPlanRequest request,
-            org.springframework.security.core.Authentication authentication) {
+            Authentication authentication) {
 
         log.info("식단 저장 요청 - 식단명: {}, 인분: {}", request.getPlanName(), request.getServingSize());
 
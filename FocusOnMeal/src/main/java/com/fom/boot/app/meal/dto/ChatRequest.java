@@ -15,4 +15,6 @@ public class ChatRequest {
     private int servingSize = 1;     // 기본값
     private List<String> allergies = List.of(); // 기본값
     private Integer previousPrice;   // 이전 추천 식단 가격 (더 저렴한 식단 요청 시 사용)
+    private boolean fresh;           // true면 캐시를 쓰지 않고 새로 추천 ("다른 거 추천해줘")
+    private String sessionId;        // 채팅 세션 ID (클라이언트가 생성, 있으면 이전 대화를 이어서 추천)
 }
\ No newline at end of file
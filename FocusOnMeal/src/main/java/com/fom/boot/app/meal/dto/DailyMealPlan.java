@@ -0,0 +1,20 @@
+package com.fom.boot.app.meal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 하루치 식단 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyMealPlan {
+    private int day;                     // 1일차부터
+    private List<MealPlanResponse> meals; // 끼니 순서대로 (생성 실패한 끼니는 제외)
+}
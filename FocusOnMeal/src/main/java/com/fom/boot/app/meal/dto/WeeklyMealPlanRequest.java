@@ -0,0 +1,20 @@
+package com.fom.boot.app.meal.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 여러 날 식단 한 번에 추천 요청 DTO
+ */
+@Data
+public class WeeklyMealPlanRequest {
+    private String message;
+    private int height = 170;        // 기본값
+    private int weight = 70;         // 기본값
+    private int servingSize = 1;     // 기본값
+    private List<String> allergies = List.of(); // 기본값
+    private int days = 7;            // 며칠치 (1 ~ 7)
+    private List<String> mealTypes = List.of("아침", "점심", "저녁"); // 하루 끼니
+    private boolean save;            // true면 생성한 식단을 모두 저장 (로그인 필요)
+}
@@ -0,0 +1,24 @@
+package com.fom.boot.app.meal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 날 식단 추천 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyMealPlanResponse {
+    private List<DailyMealPlan> days;          // 날짜별 식단
+    private List<MealIngredient> shoppingList; // 같은 재료(이름+단위)를 합친 장보기 목록
+    private int totalCost;                     // 장보기 목록 합계
+    private int requestedCount;                // 요청한 끼니 수
+    private int failedCount;                   // 생성에 실패한 끼니 수
+    private Integer savedCount;                // 저장한 식단 수 (저장 요청 시에만)
+}
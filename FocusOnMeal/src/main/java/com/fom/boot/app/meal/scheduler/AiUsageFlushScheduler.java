@@ -0,0 +1,36 @@
+package com.fom.boot.app.meal.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.domain.meal.model.service.AiUsageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 사용량 DB 반영 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiUsageFlushScheduler {
+
+    private final AiUsageService aiUsageService;
+
+    /**
+     * 1분마다 실행 (meal.usage.flush-interval-ms)
+     * 메모리에 모은 회원별 토큰 수를 한 번에 반영
+     */
+    @Scheduled(fixedDelayString = "${meal.usage.flush-interval-ms:60000}")
+    public void flushUsage() {
+        try {
+            int written = aiUsageService.flush();
+            if (written > 0) {
+                log.info("AI 사용량 반영 완료: {}건", written);
+            }
+        } catch (Exception e) {
+            log.error("AI 사용량 반영 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
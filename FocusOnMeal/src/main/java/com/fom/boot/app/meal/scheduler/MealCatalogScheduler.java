@@ -0,0 +1,35 @@
+package com.fom.boot.app.meal.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.domain.meal.model.service.MealCatalogService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식단 카탈로그 재생성 스케줄러
+ * - 사용자가 적은 새벽에 구간별 식단을 미리 생성 (Gemini 장애/지연 시 대체 응답용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MealCatalogScheduler {
+
+    private final MealCatalogService mealCatalogService;
+
+    /**
+     * 매일 03:30에 실행 (meal.catalog.rebuild-cron)
+     */
+    @Scheduled(cron = "${meal.catalog.rebuild-cron:0 30 3 * * *}")
+    public void rebuildCatalog() {
+        log.info("=== 식단 카탈로그 재생성 시작 ===");
+        try {
+            int count = mealCatalogService.rebuild();
+            log.info("=== 식단 카탈로그 재생성 종료: {}건 ===", count);
+        } catch (Exception e) {
+            log.error("식단 카탈로그 재생성 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
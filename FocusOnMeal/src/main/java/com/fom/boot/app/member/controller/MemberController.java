@@ -2,11 +2,13 @@ package com.fom.boot.app.member.controller;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,11 +30,14 @@ import com.fom.boot.app.member.dto.LoginRequest;
 import com.fom.boot.app.member.dto.LoginResponse;
 import com.fom.boot.app.member.dto.PasswordResetLinkRequest;
 import com.fom.boot.app.mypage.dto.RandomNicknameResponse;
+import com.fom.boot.app.security.PasswordHashService;
+import com.fom.boot.common.util.ClientIpUtils;
 import com.fom.boot.domain.member.model.service.EmailService;
 import com.fom.boot.domain.member.model.service.MemberService;
 import com.fom.boot.domain.member.model.service.PasswordResetService;
 import com.fom.boot.domain.member.model.vo.Member;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -45,7 +50,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/member")  // ✅ 수정: /member → /api/member
 public class MemberController {
 
-    private final BCryptPasswordEncoder bcrypt;
+    private final PasswordHashService passwordHashService; // BCrypt 전용 스레드 풀
     private final MemberService mService;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
@@ -54,55 +59,136 @@ public class MemberController {
     // ========== 로그인/로그아웃 ==========
 
     @PostMapping("/login")
-    public ResponseEntity<?> checkLogin(@RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> checkLogin(@RequestBody LoginRequest loginRequest) {
         log.info("[로그인 시도] ID: {}", loginRequest.getMemberId());
         try {
             Member loginMember = mService.selectOneByLogin(loginRequest);
 
             if(loginMember == null || "N".equals(loginMember.getStatusYn())) {
                 log.warn("[로그인 실패] 존재하지 않는 회원: {}", loginRequest.getMemberId());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.error("회원정보가 없습니다."));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("회원정보가 없습니다.")));
             }
 
-            if(!bcrypt.matches(loginRequest.getMemberPw(), loginMember.getMemberPw())) {
-                log.warn("[로그인 실패] 비밀번호 불일치: {}", loginRequest.getMemberId());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.error("비밀번호가 일치하지 않습니다."));
-            }
+            // BCrypt 검증은 전용 풀에서, 토큰 발급/응답은 후속 작업 풀에서 - 끝나면 MVC 비동기 처리로 응답
+            return passwordHashService.matchesAsync(loginRequest.getMemberPw(), loginMember.getMemberPw())
+                .<ResponseEntity<?>>thenApplyAsync(matched -> completeLogin(loginRequest, loginMember, matched),
+                    passwordHashService.getCallbackExecutor())
+                .exceptionally(e -> loginFailure(loginRequest, e));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(loginFailure(loginRequest, e));
+        }
+    }
 
-            String token = jwtTokenProvider.createToken(loginMember.getMemberId());
+    private ResponseEntity<?> completeLogin(LoginRequest loginRequest, Member loginMember, boolean matched) {
+        if(!matched) {
+            log.warn("[로그인 실패] 비밀번호 불일치: {}", loginRequest.getMemberId());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("비밀번호가 일치하지 않습니다."));
+        }
 
-            LoginResponse response = new LoginResponse(
-                token,
-                loginMember.getMemberId(),
-                loginMember.getMemberName(),
-                loginMember.getAdminYn(),
-                loginMember.getMemberNickname()
-            );
-            log.info("[로그인 성공] ID: {}", loginMember.getMemberId());
+        // BCrypt cost가 바뀌었으면 새 cost로 재해시 (비동기)
+        passwordHashService.rehashIfNeeded(loginRequest.getMemberPw(), loginMember.getMemberPw(),
+            encodedPw -> mService.updateMemberPassword(loginMember.getMemberId(), encodedPw));
 
-            return ResponseEntity.ok(ApiResponse.success("로그인 성공", response));
+        String token = jwtTokenProvider.createToken(loginMember);
+        String refreshToken = jwtTokenProvider.createRefreshToken(loginMember.getMemberId());
 
-        } catch (Exception e) {
-            log.error("로그인 오류: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.error("서버 오류가 발생했습니다: " + e.getMessage()));
+        LoginResponse response = new LoginResponse(
+            token,
+            loginMember.getMemberId(),
+            loginMember.getMemberName(),
+            loginMember.getAdminYn(),
+            loginMember.getMemberNickname(),
+            refreshToken
+        );
+        log.info("[로그인 성공] ID: {}", loginMember.getMemberId());
+
+        return ResponseEntity.ok(ApiResponse.success("로그인 성공", response));
+    }
+
+    private ResponseEntity<?> loginFailure(LoginRequest loginRequest, Throwable e) {
+        if (PasswordHashService.isOverloaded(e)) {
+            log.warn("[로그인 지연] 비밀번호 검증 대기열 포화: {}", loginRequest.getMemberId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(ApiResponse.error("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."));
         }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("로그인 오류: {}", cause.getMessage());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(ApiResponse.error("서버 오류가 발생했습니다: " + cause.getMessage()));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> logout(@RequestHeader("Authorization") String authHeader,
+                                    @RequestBody(required = false) Map<String, String> request) {
         if(authHeader == null || !authHeader.startsWith("Bearer")) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error("토큰이 없습니다."));
         }
         
         String token = authHeader.substring(7);
+
+        // access 토큰 폐기 (이미 만료/폐기된 토큰이면 무시)
+        Claims claims = jwtTokenProvider.verify(token);
+        if (claims != null) {
+            jwtTokenProvider.revoke(claims);
+        }
+
+        // 리프레시 토큰도 함께 보낸 경우 폐기 (access 토큰이 이미 만료되었어도 리프레시 토큰은 따로 검증해서 폐기)
+        if (request != null && request.get("refreshToken") != null) {
+            Claims refreshClaims = jwtTokenProvider.verifyRefreshToken(request.get("refreshToken"));
+            // access 토큰이 유효할 때만 같은 회원의 토큰인지 확인
+            if (refreshClaims != null
+                    && (claims == null || refreshClaims.getSubject().equals(claims.getSubject()))) {
+                jwtTokenProvider.revoke(refreshClaims);
+            }
+        }
         
         return ResponseEntity.ok(ApiResponse.success("로그아웃 완료"));
     }
 
+    // 리프레시 토큰으로 access 토큰 재발급 (리프레시 토큰도 교체)
+    @PostMapping("/token/refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody Map<String, String> request) {
+        Claims refreshClaims = jwtTokenProvider.verifyRefreshToken(request.get("refreshToken"));
+        if (refreshClaims == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("유효하지 않은 리프레시 토큰입니다."));
+        }
+
+        try {
+            Member member = mService.selectOneById(refreshClaims.getSubject());
+            if (member == null || !"Y".equals(member.getStatusYn())) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("회원정보가 없습니다."));
+            }
+
+            // 사용한 리프레시 토큰은 폐기하고 새로 발급 (재사용 방지)
+            // 같은 토큰으로 동시에 들어온 요청 중 폐기에 성공한 하나만 새 토큰을 받음
+            if (!jwtTokenProvider.revoke(refreshClaims)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("유효하지 않은 리프레시 토큰입니다."));
+            }
+
+            LoginResponse response = new LoginResponse(
+                jwtTokenProvider.createToken(member),
+                member.getMemberId(),
+                member.getMemberName(),
+                member.getAdminYn(),
+                member.getMemberNickname(),
+                jwtTokenProvider.createRefreshToken(member.getMemberId())
+            );
+            return ResponseEntity.ok(ApiResponse.success("토큰 재발급 성공", response));
+
+        } catch (Exception e) {
+            log.error("토큰 재발급 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     // ========== 회원가입 ==========
 
     @GetMapping("/check-id/{memberId}")
@@ -197,72 +283,91 @@ public class MemberController {
     }
 
     @PostMapping("/join")
-    public ResponseEntity<?> joinMember(@Valid @RequestBody JoinRequest request) {
+    public CompletableFuture<ResponseEntity<?>> joinMember(@Valid @RequestBody JoinRequest request) {
         log.info("[회원가입 시도] memberId: {}, email: {}", request.getMemberId(), request.getEmail());
         
         try {
             Member existMember = mService.selectOneById(request.getMemberId());
             if (existMember != null) {
                 log.warn("[회원가입 실패] 중복 아이디: {}", request.getMemberId());
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("error", "이미 사용중인 아이디입니다."));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "이미 사용중인 아이디입니다.")));
             }
             
             if (mService.checkEmailExists(request.getEmail())) {
                 log.warn("[회원가입 실패] 중복 이메일: {}", request.getEmail());
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("error", "이미 사용중인 이메일입니다."));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "이미 사용중인 이메일입니다.")));
             }
             
             if (!mService.isEmailVerified(request.getEmail())) {
                 log.warn("[회원가입 실패] 이메일 미인증: {}", request.getEmail());
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("error", "이메일 인증이 필요합니다."));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "이메일 인증이 필요합니다.")));
             }
             
             if (!isValidPassword(request.getMemberPw())) {
                 log.warn("[회원가입 실패] 비밀번호 형식 오류: {}", request.getMemberId());
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("error", "비밀번호는 8자 이상이며, 숫자와 특수문자를 포함해야 합니다."));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "비밀번호는 8자 이상이며, 숫자와 특수문자를 포함해야 합니다.")));
             }
             
-            Member member = new Member();
-            member.setMemberId(request.getMemberId());
-            member.setMemberPw(bcrypt.encode(request.getMemberPw()));
-            member.setMemberName(request.getMemberName());
-            member.setMemberNickname(request.getMemberNickname());
-            member.setEmail(request.getEmail());
-            member.setPhone(request.getPhone());
-            member.setGender(request.getGender());
-            
-            log.info("[회원 정보] nickname: {}", request.getMemberNickname());
+            // BCrypt 암호화는 전용 풀에서, 회원 저장은 후속 작업 풀에서 - 끝나면 MVC 비동기 처리로 응답
+            return passwordHashService.encodeAsync(request.getMemberPw())
+                .<ResponseEntity<?>>thenApplyAsync(encodedPw -> completeJoin(request, encodedPw),
+                    passwordHashService.getCallbackExecutor())
+                .exceptionally(e -> joinFailure(request, e));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(joinFailure(request, e));
+        }
+    }
+
+    private ResponseEntity<?> completeJoin(JoinRequest request, String encodedPw) {
+        Member member = new Member();
+        member.setMemberId(request.getMemberId());
+        member.setMemberPw(encodedPw);
+        member.setMemberName(request.getMemberName());
+        member.setMemberNickname(request.getMemberNickname());
+        member.setEmail(request.getEmail());
+        member.setPhone(request.getPhone());
+        member.setGender(request.getGender());
+        
+        log.info("[회원 정보] nickname: {}", request.getMemberNickname());
+        
+        int result = mService.insertMember(member);
+        
+        if (result > 0) {
+            mService.deleteVerificationCode(request.getEmail());
             
-            int result = mService.insertMember(member);
+            log.info("[회원가입 성공] memberId: {}, nickname: {}", request.getMemberId(), request.getMemberNickname());
             
-            if (result > 0) {
-                mService.deleteVerificationCode(request.getEmail());
-                
-                log.info("[회원가입 성공] memberId: {}, nickname: {}", request.getMemberId(), request.getMemberNickname());
-                
-                return ResponseEntity.ok(
-                    Map.of(
-                        "success", true,
-                        "message", "회원가입이 완료되었습니다."
-                    )
-                );
-            } else {
-                log.error("[회원가입 실패] DB 저장 실패: {}", request.getMemberId());
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("error", "회원가입에 실패했습니다."));
-            }
-        } catch (Exception e) {
-            log.error("[회원가입 오류] memberId: {}, error: {}", request.getMemberId(), e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("error", "서버 오류: " + e.getMessage()));
+            return ResponseEntity.ok(
+                Map.of(
+                    "success", true,
+                    "message", "회원가입이 완료되었습니다."
+                )
+            );
+        } else {
+            log.error("[회원가입 실패] DB 저장 실패: {}", request.getMemberId());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "회원가입에 실패했습니다."));
         }
     }
 
+    private ResponseEntity<?> joinFailure(JoinRequest request, Throwable e) {
+        if (PasswordHashService.isOverloaded(e)) {
+            log.warn("[회원가입 지연] 비밀번호 암호화 대기열 포화: {}", request.getMemberId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(Map.of("error", "요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("[회원가입 오류] memberId: {}, error: {}", request.getMemberId(), cause.getMessage());
+        cause.printStackTrace();
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(Map.of("error", "서버 오류: " + cause.getMessage()));
+    }
+
     // ========== 아이디 찾기 ==========
 
     @PostMapping("/id/search")
@@ -306,7 +411,7 @@ public class MemberController {
         log.info("[비밀번호 재설정 요청] memberId: {}, email: {}", request.getMemberId(), request.getEmail());
         
         try {
-            String ipAddress = getClientIpAddress(httpRequest);
+            String ipAddress = ClientIpUtils.getClientIpAddress(httpRequest);
             String userAgent = httpRequest.getHeader("User-Agent");
             
             boolean success = passwordResetService.sendPasswordResetLink(
@@ -429,20 +534,6 @@ public class MemberController {
         }
     }
 
-    private String getClientIpAddress(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        return ip;
-    }
-
     private boolean isValidPassword(String password) {
         if (password == null || password.length() < 8) {
             return false;
@@ -491,6 +582,10 @@ public class MemberController {
                 return ResponseEntity.badRequest()
                         .body(Map.of("message", "비밀번호가 일치하지 않습니다."));
             }
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(Map.of("message", "요청이 많습니다. 잠시 후 다시 시도해주세요."));
         } catch (Exception e) {
             log.error("회원 탈퇴 오류", e);
             return ResponseEntity.status(500)
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.fom.boot.common.util.ClientIpUtils;
 import com.fom.boot.domain.member.model.service.PasswordResetService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -51,7 +52,7 @@ public class PasswordResetController {
         
         try {
             // 요청 IP 주소 가져오기
-            String ipAddress = getClientIpAddress(request);
+            String ipAddress = ClientIpUtils.getClientIpAddress(request);
             
             // User-Agent 가져오기
             String userAgent = request.getHeader("User-Agent");
@@ -190,32 +191,6 @@ public class PasswordResetController {
     
     // ========== 유틸리티 메서드 ==========
     
-    /**
-     * 클라이언트 IP 주소 가져오기
-     * (프록시, 로드밸런서 고려)
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        
-        return ip;
-    }
-    
     /**
      * 비밀번호 유효성 검증
      * 조건: 8자 이상, 영문 + 숫자 + 특수문자 포함
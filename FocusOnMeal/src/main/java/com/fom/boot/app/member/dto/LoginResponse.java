@@ -11,4 +11,5 @@ public class LoginResponse {
     private String memberName;
     private String adminYn;
     private String memberNickname;
+    private String refreshToken;
 }
@@ -0,0 +1,36 @@
+package com.fom.boot.app.member.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 폐기 토큰 정리 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedTokenCleanupScheduler {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 10분마다 실행
+     * 만료 시각이 지난 폐기 토큰을 Bloom filter와 DB에서 제거
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void cleanupExpiredRevocations() {
+        try {
+            int deletedCount = tokenRevocationService.cleanupExpired();
+            if (deletedCount > 0) {
+                log.info("만료된 폐기 토큰 정리 완료: {}건 삭제됨", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("폐기 토큰 정리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.fom.boot.app.mypage.controller;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +27,9 @@ import com.fom.boot.app.mypage.dto.MyPageDashboardDTO;
 import com.fom.boot.app.mypage.dto.ProfileResponse;
 import com.fom.boot.app.mypage.dto.ProfileUpdateRequest;
 import com.fom.boot.app.pricehistory.dto.PriceTrendResponse;
+import com.fom.boot.app.security.PasswordHashService;
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.common.pagination.Pagination;
 import com.fom.boot.domain.alert.model.service.AlertService;
@@ -55,6 +60,9 @@ public class MyPageController {
 
 	private final PriceAlertService pService;
 
+	// 비밀번호 변경 시 BCrypt 이후의 DB 저장을 실행할 풀
+	private final PasswordHashService passwordHashService;
+
 	// 마이페이지 대시보드 이동
 	@GetMapping("/dashboard")
 	public ResponseEntity<?> getDashboard(Authentication authentication) {
@@ -206,6 +214,9 @@ public class MyPageController {
 	@GetMapping("/myMeals")
 	public ResponseEntity<?> getMyMealPlans(
 			@RequestParam(defaultValue = "1") int page,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "5") int size,
+			@RequestParam(defaultValue = "false") boolean withCount,
 			Authentication authentication) {
 
 		if (authentication == null || !authentication.isAuthenticated()) {
@@ -214,6 +225,13 @@ public class MyPageController {
 		}
 
 		String memberId = authentication.getName();
+
+		// cursor 파라미터가 있으면 커서 방식 (첫 페이지는 cursor=)
+		if (cursor != null) {
+			return ResponseEntity.ok(mService.getMyMealPlans(memberId,
+					CursorRequest.of(cursor, size, "desc", withCount)));
+		}
+
 		Map<String, Object> result = mService.getMyMealPlans(memberId, page);
 
 		return ResponseEntity.ok(result);
@@ -354,32 +372,46 @@ public class MyPageController {
 
     // 프로필 수정
     @PutMapping("/profile")
-    public ResponseEntity<?> updateProfile(
+    public CompletableFuture<ResponseEntity<?>> updateProfile(
             @RequestBody ProfileUpdateRequest request,
             Authentication authentication) {
         try {
             if (authentication == null || !authentication.isAuthenticated()) {
                 log.warn("인증되지 않은 요청");
-                return ResponseEntity.status(401)
-                        .body(Map.of("message", "로그인이 필요합니다."));
+                return CompletableFuture.completedFuture(ResponseEntity.status(401)
+                        .body(Map.of("message", "로그인이 필요합니다.")));
             }
 
             String memberId = authentication.getName();
             log.info("프로필 수정 요청: memberId={}, request={}", memberId, request);
 
-            bService.updateProfile(memberId, request);
-            
-            return ResponseEntity.ok(Map.of("message", "회원정보가 수정되었습니다."));
-            
-        } catch (IllegalArgumentException e) {
-            log.warn("프로필 수정 실패: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                    .body(Map.of("message", e.getMessage()));
+            // 비밀번호 확인/암호화는 BCrypt 풀에서, DB 저장은 후속 작업 풀에서 - 끝나면 MVC 비동기 처리로 응답
+            return bService.encodeNewPassword(memberId, request)
+                    .<ResponseEntity<?>>thenApplyAsync(encodedPw -> {
+                        bService.updateProfile(memberId, request, encodedPw);
+                        return ResponseEntity.ok(Map.of("message", "회원정보가 수정되었습니다."));
+                    }, passwordHashService.getCallbackExecutor())
+                    .exceptionally(this::profileUpdateFailure);
         } catch (Exception e) {
-            log.error("프로필 수정 오류", e);
-            return ResponseEntity.status(500)
-                    .body(Map.of("message", "서버 오류가 발생했습니다."));
+            return CompletableFuture.completedFuture(profileUpdateFailure(e));
+        }
+    }
+
+    private ResponseEntity<?> profileUpdateFailure(Throwable e) {
+        if (PasswordHashService.isOverloaded(e)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(Map.of("message", "요청이 많습니다. 잠시 후 다시 시도해주세요."));
         }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof IllegalArgumentException) {
+            log.warn("프로필 수정 실패: {}", cause.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", cause.getMessage()));
+        }
+        log.error("프로필 수정 오류", cause);
+        return ResponseEntity.status(500)
+                .body(Map.of("message", "서버 오류가 발생했습니다."));
     }
     
     // 찜한 식재료 목록 조회 (마이페이지용)
@@ -408,6 +440,9 @@ public class MyPageController {
             @RequestParam(defaultValue = "sentAt") String sortColumn, // 기본 정렬을 수신일(sentAt)로 변경
             @RequestParam(defaultValue = "desc") String sortOrder,
             @RequestParam(defaultValue = "all") String readStatus,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(defaultValue = "false") boolean withCount,
             Authentication authentication) {
     	// 로그인 확인
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -426,14 +461,28 @@ public class MyPageController {
         searchMap.put("sortOrder", sortOrder);
         searchMap.put("readStatus", readStatus);
 
-        // 전체 개수 조회
-        int total = aService.getUserSafetyNotiCount(searchMap);
+        Map<String, Object> response = new HashMap<>();
+        List<Map<String, Object>> list;
+
+        if (Pagination.isCursorMode(cursor, sortColumn, "sentAt")) {
+            // 커서 방식 (수신일 정렬만 지원)
+            CursorPage<Map<String, Object>> cursorPage = aService.getUserSafetyNotiList(
+                    CursorRequest.of(cursor, size, sortOrder, withCount), searchMap);
+            list = cursorPage.getList();
+            response.put("nextCursor", cursorPage.getNextCursor());
+            response.put("hasNext", cursorPage.isHasNext());
+            response.put("totalCount", cursorPage.getTotalCount());
+        } else {
+            // 전체 개수 조회
+            int total = aService.getUserSafetyNotiCount(searchMap);
 
-        // 페이징 생성
-        PageInfo pi = Pagination.getPageInfo(page, total);
+            // 페이징 생성
+            PageInfo pi = Pagination.getPageInfo(page, total);
 
-        // 목록 조회
-        List<Map<String, Object>> list = aService.getUserSafetyNotiList(pi, searchMap);
+            // 목록 조회
+            list = aService.getUserSafetyNotiList(pi, searchMap);
+            response.put("pageInfo", pi);
+        }
         
         // 유저 알림
         Map<String, Object> setting = aService.getSafetyAlertSettings(memberId);
@@ -443,9 +492,7 @@ public class MyPageController {
         = iService.getFavoritesByMemberId(memberId);
 
         // 응답 데이터 구성
-        Map<String, Object> response = new HashMap<>();
         response.put("alertList", list);
-        response.put("pageInfo", pi);
         response.put("userSetting", setting.get("notificationEnabled")); 
         response.put("subscribedIngredients", subscribedIngredients);
 
@@ -521,6 +568,9 @@ public class MyPageController {
             @RequestParam(defaultValue = "sentAt") String sortColumn,
             @RequestParam(defaultValue = "desc") String sortOrder,
             @RequestParam(defaultValue = "all") String readStatus,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(defaultValue = "false") boolean withCount,
             Authentication authentication) {
 
         // 로그인 확인
@@ -539,14 +589,28 @@ public class MyPageController {
         searchMap.put("sortOrder", sortOrder);
         searchMap.put("readStatus", readStatus);
 
-        // 전체 개수 조회
-        int total = aService.getUserPriceNotiCount(searchMap);
+        Map<String, Object> response = new HashMap<>();
+        List<Map<String, Object>> alertList;
+
+        if (Pagination.isCursorMode(cursor, sortColumn, "sentAt")) {
+            // 커서 방식 (수신일 정렬만 지원)
+            CursorPage<Map<String, Object>> cursorPage = aService.getUserPriceNotiList(
+                    CursorRequest.of(cursor, size, sortOrder, withCount), searchMap);
+            alertList = cursorPage.getList();
+            response.put("nextCursor", cursorPage.getNextCursor());
+            response.put("hasNext", cursorPage.isHasNext());
+            response.put("totalCount", cursorPage.getTotalCount());
+        } else {
+            // 전체 개수 조회
+            int total = aService.getUserPriceNotiCount(searchMap);
 
-        // 페이징 생성
-        PageInfo pi = Pagination.getPageInfo(page, total);
+            // 페이징 생성
+            PageInfo pi = Pagination.getPageInfo(page, total);
 
-        // 가격 알림 내역 목록 조회
-        List<Map<String, Object>> alertList = aService.getUserPriceNotiList(pi, searchMap);
+            // 가격 알림 내역 목록 조회
+            alertList = aService.getUserPriceNotiList(pi, searchMap);
+            response.put("pageInfo", pi);
+        }
 
         // 지정가 알림 설정 목록 조회
         List<Map<String, Object>> watchedIngredients = pService.getAllAlertsByMember(memberId);
@@ -555,9 +619,7 @@ public class MyPageController {
         Map<String, Object> setting = aService.getSafetyAlertSettings(memberId);
 
         // 응답 데이터 구성
-        Map<String, Object> response = new HashMap<>();
         response.put("alertList", alertList);
-        response.put("pageInfo", pi);
         response.put("watchedIngredients", watchedIngredients);
         response.put("userSetting", setting.get("notificationEnabled"));
 
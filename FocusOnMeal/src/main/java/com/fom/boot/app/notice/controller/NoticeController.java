@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.common.pagination.Pagination;
 import com.fom.boot.domain.notice.model.service.NoticeService;
@@ -35,7 +37,24 @@ public class NoticeController {
 			,@RequestParam(defaultValue = "all") String type
 	        ,@RequestParam(defaultValue = "") String keyword
 	        ,@RequestParam(required = false) String sortColumn
-	        ,@RequestParam(required = false) String sortOrder){
+	        ,@RequestParam(required = false) String sortOrder
+	        ,@RequestParam(required = false) String cursor
+	        ,@RequestParam(defaultValue = "5") int size
+	        ,@RequestParam(defaultValue = "false") boolean withCount){
+		
+		// 커서 방식 (cursor 파라미터가 있을 때, 작성일 정렬만)
+		if (Pagination.isCursorMode(cursor, sortColumn, "noticeCreateAt")) {
+			CursorPage<Notice> cursorPage = nService.selectPublicNotices(
+					CursorRequest.of(cursor, size, sortOrder, withCount), type, keyword);
+
+			Map<String, Object> data = new HashMap<>();
+			data.put("importantList", nService.selectImportantNotices());
+			data.put("list", cursorPage.getList());
+			data.put("nextCursor", cursorPage.getNextCursor());
+			data.put("hasNext", cursorPage.isHasNext());
+			data.put("totalCount", cursorPage.getTotalCount());
+			return ResponseEntity.ok(data);
+		}
 		
 		int totalCount = nService.getTotalNoticesBySearch(type, keyword);
         PageInfo pageInfo = Pagination.getPageInfo(page, totalCount);
@@ -12,6 +12,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
+import com.fom.boot.common.pagination.InvalidCursorException;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.common.pagination.Pagination;
 import com.fom.boot.domain.alert.model.vo.SafetyAlert;
@@ -47,7 +50,10 @@ public class SafetyController {
 			@RequestParam(value = "sortColumn", defaultValue = "alertId") String sortColumn,
 			@RequestParam(value = "sortOrder", defaultValue = "desc") String sortOrder,
 			@RequestParam(value = "nationFilter", required = false) String nationFilter,
-			@RequestParam(value = "hazardFilter", required = false) String hazardFilter) {
+			@RequestParam(value = "hazardFilter", required = false) String hazardFilter,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", defaultValue = "10") int size,
+			@RequestParam(value = "withCount", defaultValue = "false") boolean withCount) {
 
 		log.info("안전 정보 목록 조회 - page: {}, type: {}, keyword: {}, sortColumn: {}, sortOrder: {}, nationFilter: {}, hazardFilter: {}", 
 				page, type, keyword, sortColumn, sortOrder, nationFilter, hazardFilter);
@@ -72,6 +78,20 @@ public class SafetyController {
 			searchMap.put("sortColumn", sortColumn);
 			searchMap.put("sortOrder", sortOrder);
 
+			// 커서 방식 (cursor 파라미터가 있을 때, ALERT_ID/공표일 정렬만)
+			if (Pagination.isCursorMode(cursor, sortColumn, "alertId")
+					|| Pagination.isCursorMode(cursor, sortColumn, "publicationDate")) {
+				CursorPage<SafetyAlert> cursorPage = safetyService.selectAlertList(
+						CursorRequest.of(cursor, size, sortOrder, withCount), searchMap);
+
+				Map<String, Object> response = new HashMap<>();
+				response.put("list", cursorPage.getList());
+				response.put("nextCursor", cursorPage.getNextCursor());
+				response.put("hasNext", cursorPage.isHasNext());
+				response.put("totalCount", cursorPage.getTotalCount());
+				return ResponseEntity.ok(response);
+			}
+
 			// 전체 게시글 수 조회 (searchMap이 Map<String, Object>을 전달하도록 Service/Mapper도 변경됨)
 			int totalCount = safetyService.selectAlertListCount(searchMap);
 
@@ -88,6 +108,8 @@ public class SafetyController {
 
 			return ResponseEntity.ok(response);
 
+		} catch (InvalidCursorException e) {
+			return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
 		} catch (Exception e) {
 			log.error("안전 정보 목록 조회 실패", e);
 			// 기존 에러 로그는 MybatisSystemException을 보여주었지만,
@@ -0,0 +1,21 @@
+package com.fom.boot.app.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+
+/**
+ * 관리자 전용 메서드/컨트롤러 표시
+ * - JwtAuthenticationFilter가 SecurityContext에 넣은 CustomUserDetails의 권한(ROLE_ADMIN)으로 판단
+ * - 컨트롤러에서 회원 정보를 다시 조회(findByMemberId)하지 않아도 됨
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@PreAuthorize("hasRole('ADMIN')")
+public @interface AdminOnly {
+}
@@ -0,0 +1,209 @@
+package com.fom.boot.app.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 해시/검증 전용 스레드 풀
+ * - 로그인이 몰려도 Tomcat 요청 스레드가 BCrypt 연산에 묶이지 않도록 별도 풀에서 실행
+ * - 컨트롤러는 matchesAsync/encodeAsync의 CompletableFuture를 그대로 반환 (MVC 비동기 처리로 요청 스레드 반납)
+ * - 해시가 끝난 뒤의 DB 저장/응답 생성은 getCallbackExecutor()에서 실행 (DB 지연이 BCrypt 처리량을 깎지 않도록)
+ * - 대기열이 가득 차면 RejectedExecutionException으로 즉시 거절 (호출 측에서 503 응답)
+ * - timeout-ms 안에 끝나지 않으면 TimeoutException으로 실패하고, 아직 대기 중인 작업은 실행하지 않음
+ * - 저장된 해시의 cost가 현재 설정보다 낮으면 로그인 성공 시 다시 해시(rehash)
+ */
+@Slf4j
+@Component
+public class PasswordHashService {
+
+    private final BCryptPasswordEncoder bcrypt;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor callbackExecutor;
+    private final long timeoutMillis;
+    private final Counter rejectedCounter;
+
+    public PasswordHashService(
+            BCryptPasswordEncoder bcrypt,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.pool-size:4}") int poolSize,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.timeout-ms:5000}") long timeoutMillis,
+            @Value("${security.password.callback-pool-size:8}") int callbackPoolSize) {
+        this.bcrypt = bcrypt;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // 해시 이후 작업(DB 저장, 토큰/응답 생성)용 - 해시 풀과 같은 대기열 크기로 제한
+        AtomicInteger callbackThreadNo = new AtomicInteger();
+        this.callbackExecutor = new ThreadPoolExecutor(
+                callbackPoolSize, callbackPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-callback-" + callbackThreadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("BCrypt 작업 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 BCrypt 작업 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("대기열 초과로 거절된 BCrypt 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 검증 (비동기)
+     * @throws RejectedExecutionException 풀이 포화 상태일 때
+     */
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return submit(() -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 암호화 (비동기)
+     * @throws RejectedExecutionException 풀이 포화 상태일 때
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> bcrypt.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 - 결과를 기다림 (트랜잭션 안에서 검증해야 하는 서비스용)
+     * - 요청 스레드가 기다리는 동안 묶이므로 컨트롤러에서는 matchesAsync 사용
+     * @throws RejectedExecutionException 풀이 포화 상태이거나 시간이 초과되었을 때
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 암호화 - 결과를 기다림 (트랜잭션 안에서 암호화해야 하는 서비스용)
+     * - 요청 스레드가 기다리는 동안 묶이므로 컨트롤러에서는 encodeAsync 사용
+     * @throws RejectedExecutionException 풀이 포화 상태이거나 시간이 초과되었을 때
+     */
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정과 다르면 새로 해시해서 저장 (비동기, 실패해도 무시)
+     * @param rawPassword 검증이 끝난 평문 비밀번호
+     * @param encodedPassword 현재 저장된 해시
+     * @param saver 새 해시를 저장하는 함수
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> saver) {
+        if (!bcrypt.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            CompletableFuture.supplyAsync(() -> bcrypt.encode(rawPassword), executor)
+                    .thenAcceptAsync(saver, callbackExecutor)
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 재해시 저장 실패: {}", e.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            // 포화 상태면 다음 로그인 때 다시 시도
+            rejectedCounter.increment();
+        }
+    }
+
+    /**
+     * 해시 결과를 받은 뒤의 작업(DB 저장, 응답 생성)을 실행할 풀 - thenApplyAsync 등에 사용
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 비동기 결과의 실패 원인이 풀 포화(거절 또는 시간 초과)인지 - 호출 측에서 503으로 응답
+     */
+    public static boolean isOverloaded(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RejectedExecutionException || cause instanceof TimeoutException;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                // 기다리다 시간이 초과된 요청은 계산하지 않음
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("BCrypt 작업 거절 - 대기열 {}건", executor.getQueue().size());
+            throw e;
+        }
+        return result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new RejectedExecutionException("비밀번호 처리 시간이 초과되었습니다.", e.getCause());
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        callbackExecutor.shutdown();
+    }
+}
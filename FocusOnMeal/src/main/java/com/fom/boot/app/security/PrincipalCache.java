@@ -0,0 +1,161 @@
+package com.fom.boot.app.security;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fom.boot.domain.member.model.vo.Member;
+import com.fom.boot.domain.member.model.vo.MemberChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 필터에서 사용하는 인증 주체(CustomUserDetails) 캐시
+ * - 요청마다 MemberMapper.findByMemberId 로 DB를 조회하지 않도록 일정 시간(TTL) 동안 보관
+ * - 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 가장 먼저 만료될 항목을 제거
+ * - 회원 등급/상태/프로필 변경, 탈퇴 시 커밋 후 MemberChangedEvent를 받아 제거
+ * - 인증에 쓰는 값(아이디, 관리자 여부, 상태)만 보관 (비밀번호 해시 등 나머지 회원 정보는 보관하지 않음)
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final long tokenValidityMillis;
+
+    // memberId -> 캐시된 인증 주체
+    private final ConcurrentHashMap<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+    // memberId -> 마지막으로 회원 정보가 변경(무효화)된 시각
+    // 이 시각 이전에 발급된 토큰의 클레임(adminYn, statusYn)은 신뢰하지 않음
+    private final ConcurrentHashMap<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private record CachedPrincipal(CustomUserDetails userDetails, long expiryTime) {}
+
+    public PrincipalCache(
+            @Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+            @Value("${jwt.expiration-time}") long tokenValidityMillis) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxSize = maxSize;
+        this.tokenValidityMillis = tokenValidityMillis;
+    }
+
+    // 캐시 조회 (만료된 항목은 제거 후 null 반환)
+    public CustomUserDetails get(String memberId) {
+        CachedPrincipal cached = principals.get(memberId);
+        if (cached == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (System.currentTimeMillis() > cached.expiryTime()) {
+            principals.remove(memberId, cached);
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return cached.userDetails();
+    }
+
+    /**
+     * 캐시 저장
+     * @return 실제로 보관한 인증 주체 (아이디/관리자 여부/상태만 담은 사본)
+     */
+    public CustomUserDetails put(CustomUserDetails userDetails) {
+        if (principals.size() >= maxSize) {
+            evict();
+        }
+        CustomUserDetails principal = new CustomUserDetails(principalOf(userDetails.getMember()));
+        principals.put(principal.getUsername(),
+                new CachedPrincipal(principal, System.currentTimeMillis() + ttlMillis));
+        return principal;
+    }
+
+    // 회원 정보 변경 시 즉시 무효화
+    public void invalidate(String memberId) {
+        if (memberId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        principals.remove(memberId);
+        invalidatedAt.put(memberId, now);
+        // 캐시가 가득 차지 않아도 무효화 기록이 계속 쌓이지 않도록 여기서도 정리
+        pruneInvalidations(now);
+        log.debug("PrincipalCache invalidated: memberId={}", memberId);
+    }
+
+    // 회원 정보 변경이 커밋된 뒤 무효화 (트랜잭션 밖에서 발행하면 바로 실행)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.memberId());
+    }
+
+    // 토큰 발급 이후 회원 정보가 변경되었으면 토큰 클레임은 오래된 정보
+    public boolean isClaimStale(String memberId, Date issuedAt) {
+        Long changedAt = invalidatedAt.get(memberId);
+        if (changedAt == null) {
+            return false;
+        }
+        // iat는 초 단위로 잘리므로 같은 초에 발급된 토큰도 오래된 것으로 간주
+        return issuedAt == null || issuedAt.getTime() <= changedAt;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        return principals.size();
+    }
+
+    int invalidationCount() {
+        return invalidatedAt.size();
+    }
+
+    // 토큰 유효시간이 지난 무효화 기록은 더 이상 필요 없음 (그 전에 발급된 토큰은 모두 만료)
+    private void pruneInvalidations(long now) {
+        invalidatedAt.entrySet().removeIf(e -> e.getValue() + tokenValidityMillis < now);
+    }
+
+    private static Member principalOf(Member member) {
+        Member principal = new Member();
+        principal.setMemberId(member.getMemberId());
+        principal.setAdminYn(member.getAdminYn());
+        principal.setStatusYn(member.getStatusYn());
+        return principal;
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        principals.entrySet().removeIf(e -> e.getValue().expiryTime() < now);
+        pruneInvalidations(now);
+
+        if (principals.size() < maxSize) {
+            return;
+        }
+
+        // 여전히 가득 차 있으면 가장 먼저 만료될 항목 제거
+        Map.Entry<String, CachedPrincipal> oldest = null;
+        for (Map.Entry<String, CachedPrincipal> entry : principals.entrySet()) {
+            if (oldest == null || entry.getValue().expiryTime() < oldest.getValue().expiryTime()) {
+                oldest = entry;
+            }
+        }
+        if (oldest != null) {
+            principals.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+}
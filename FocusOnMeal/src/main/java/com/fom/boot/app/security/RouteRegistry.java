@@ -0,0 +1,146 @@
+package com.fom.boot.app.security;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개/보호 경로 목록을 한 곳에서 관리하는 레지스트리
+ * - SecurityConfig: ADMIN_ROUTES는 ADMIN 권한, PROTECTED_ROUTES는 로그인 필요
+ * - JwtAuthenticationFilter: PUBLIC_ROUTES는 토큰 검사를 건너뜀 (PROTECTED_ROUTES가 우선)
+ * - 패턴은 시작 시 한 번만 PathPattern으로 컴파일
+ * - 경로별로 인증 필터를 건너뛴/거친 요청 수를 집계
+ */
+@Slf4j
+@Component
+public class RouteRegistry {
+
+    // 관리자 권한이 필요한 경로
+    public static final String[] ADMIN_ROUTES = {
+            "/api/admin/**"
+    };
+
+    // 로그인이 필요한 경로 (공개 경로보다 우선 적용)
+    public static final String[] PROTECTED_ROUTES = {
+            "/api/chat/save-meal"
+    };
+
+    // JWT 인증 필터를 거치지 않는 공개 경로
+    // - /api/chat/**는 비로그인도 허용하지만 토큰이 있으면 회원으로 식별해야 하므로(식단 저장, 회원별 AI 할당량) 넣지 않음
+    public static final String[] PUBLIC_ROUTES = {
+            "/api/test/**",
+            "/api/member/login/**",
+            "/api/member/join/**",
+            "/api/member/check-id/**",
+            "/api/member/send-verification-code/**",
+            "/api/member/verify-email-code/**",
+            "/api/member/random-nickname/**",     // 랜덤 닉네임은 인증 불필요
+            "/api/member/token/refresh/**",       // 리프레시 토큰으로 재발급 (access 토큰 불필요)
+            "/member/login/**",
+            "/member/join/**",
+            "/meal/**",
+            "/resources/**",
+            "/css/**",
+            "/js/**",
+            "/images/**"
+    };
+
+    // 어떤 패턴에도 해당하지 않는 경로의 집계 키
+    private static final String DEFAULT_ROUTE = "(default)";
+
+    private final List<Route> protectedRoutes;
+    private final List<Route> publicRoutes;
+    private final Route defaultRoute = new Route(DEFAULT_ROUTE, null);
+
+    private static class Route {
+        private final String pattern;
+        private final PathPattern compiled;
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder authenticated = new LongAdder();
+
+        private Route(String pattern, PathPattern compiled) {
+            this.pattern = pattern;
+            this.compiled = compiled;
+        }
+    }
+
+    public RouteRegistry() {
+        PathPatternParser parser = new PathPatternParser();
+        this.protectedRoutes = compile(parser, PROTECTED_ROUTES);
+        this.publicRoutes = compile(parser, PUBLIC_ROUTES);
+    }
+
+    /**
+     * JWT 인증 필터를 건너뛰어도 되는 경로인지 확인하고 집계
+     * @param path 요청 URI
+     * @return true: 공개 경로(필터 제외), false: 인증 필터 적용
+     */
+    public boolean shouldSkipAuthentication(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+
+        Route route = match(protectedRoutes, container);
+        if (route != null) {
+            route.authenticated.increment();
+            return false;
+        }
+
+        route = match(publicRoutes, container);
+        if (route != null) {
+            route.skipped.increment();
+            return true;
+        }
+
+        defaultRoute.authenticated.increment();
+        return false;
+    }
+
+    /**
+     * 경로별 집계 조회
+     * @return 패턴 → {skipped, authenticated}
+     */
+    public Map<String, Map<String, Long>> getRouteStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        for (Route route : protectedRoutes) {
+            stats.put(route.pattern, toStat(route));
+        }
+        for (Route route : publicRoutes) {
+            stats.put(route.pattern, toStat(route));
+        }
+        stats.put(defaultRoute.pattern, toStat(defaultRoute));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private Map<String, Long> toStat(Route route) {
+        Map<String, Long> stat = new LinkedHashMap<>();
+        stat.put("skipped", route.skipped.sum());
+        stat.put("authenticated", route.authenticated.sum());
+        return stat;
+    }
+
+    private static Route match(List<Route> routes, PathContainer container) {
+        for (Route route : routes) {
+            if (route.compiled.matches(container)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static List<Route> compile(PathPatternParser parser, String[] patterns) {
+        List<Route> routes = new ArrayList<>(patterns.length);
+        for (String pattern : patterns) {
+            routes.add(new Route(pattern, parser.parse(pattern)));
+        }
+        return Collections.unmodifiableList(routes);
+    }
+}
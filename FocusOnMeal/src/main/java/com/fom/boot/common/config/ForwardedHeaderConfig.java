@@ -0,0 +1,74 @@
+package com.fom.boot.common.config;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 프록시 헤더(Forwarded, X-Forwarded-*) 처리
+ * - 신뢰하는 프록시(server.trusted-proxies, IP 또는 CIDR)에서 온 요청만 ForwardedHeaderFilter로
+ *   원래 클라이언트 주소를 request.getRemoteAddr()에 반영
+ * - 그 밖의 요청은 헤더를 지우기만 함 (클라이언트가 보낸 X-Forwarded-For로 IP를 바꿀 수 없음)
+ */
+@Configuration
+public class ForwardedHeaderConfig {
+
+	@Bean
+	public FilterRegistrationBean<TrustedProxyForwardedHeaderFilter> forwardedHeaderFilter(
+			@Value("${server.trusted-proxies:127.0.0.1,::1}") String trustedProxies) {
+		List<IpAddressMatcher> matchers = Arrays.stream(trustedProxies.split(","))
+				.map(String::strip)
+				.filter(proxy -> !proxy.isEmpty())
+				.map(IpAddressMatcher::new)
+				.toList();
+		FilterRegistrationBean<TrustedProxyForwardedHeaderFilter> registration =
+				new FilterRegistrationBean<>(new TrustedProxyForwardedHeaderFilter(matchers));
+		// Spring Security 필터보다 먼저 실행
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+
+	static class TrustedProxyForwardedHeaderFilter extends OncePerRequestFilter {
+
+		private final List<IpAddressMatcher> trustedProxies;
+		private final ForwardedHeaderFilter applyFilter = new ForwardedHeaderFilter();
+		private final ForwardedHeaderFilter removeOnlyFilter = new ForwardedHeaderFilter();
+
+		TrustedProxyForwardedHeaderFilter(List<IpAddressMatcher> trustedProxies) {
+			this.trustedProxies = trustedProxies;
+			this.removeOnlyFilter.setRemoveOnly(true);
+		}
+
+		@Override
+		protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+				throws ServletException, IOException {
+			String remoteAddr = request.getRemoteAddr();
+			boolean trusted = trustedProxies.stream().anyMatch(matcher -> matcher.matches(remoteAddr));
+			(trusted ? applyFilter : removeOnlyFilter).doFilter(request, response, chain);
+		}
+
+		@Override
+		protected boolean shouldNotFilterAsyncDispatch() {
+			return false;
+		}
+
+		@Override
+		protected boolean shouldNotFilterErrorDispatch() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.fom.boot.common.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI 식단 추천 프롬프트에 넣을 가격 정보 구성
+ * - 분류 순서대로 "【분류】" 아래에 품목 가격을 나열
+ * - application.properties 예
+ *   meal.price-context.groups[0].name=곡류
+ *   meal.price-context.groups[0].items=쌀,찹쌀,현미
+ * - 설정이 없으면 아래 기본 구성을 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "meal.price-context")
+public class PriceContextProperties {
+
+	private List<Group> groups = new ArrayList<>(List.of(
+			new Group("곡류", List.of("쌀", "찹쌀", "현미")),
+			new Group("채소류", List.of("배추", "무", "당근", "양파", "대파",
+					"마늘", "고추", "감자", "고구마", "시금치", "상추", "깻잎", "토마토", "오이", "호박", "가지",
+					"양배추", "알배기배추", "브로콜리", "얼갈이배추", "갓", "열무", "건고추",
+					"풋고추", "붉은고추", "생강", "고춧가루", "미나리", "피망", "파프리카",
+					"땅콩", "느타리버섯", "팽이버섯", "새송이버섯", "호두", "아몬드")),
+			new Group("과일류", List.of("수박", "참외", "딸기",
+					"멜론", "방울토마토", "사과", "배", "복숭아", "포도", "감귤", "단감", "바나나", "참다래", "파인애플",
+					"오렌지", "자몽", "레몬", "체리", "건포도", "건블루베리", "망고", "아보카도")),
+			new Group("육류", List.of("쇠고기", "돼지고기", "삼겹살", "닭고기", "계란")),
+			new Group("수산물", List.of("고등어", "갈치", "삼치", "연어", "오징어",
+					"조기", "명태", "물오징어", "마른멸치",
+					"마른오징어", "김", "마른미역", "굴", "새우젓", "멸치액젓", "천일염", "꽁치",
+					"전복", "새우", "가리비", "건다시마", "바지락", "고등어필렛", "전어",
+					"꽃게", "홍합")),
+			new Group("기타", List.of("두부", "우유"))));
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	public static class Group {
+		private String name;                        // 분류명
+		private List<String> items = new ArrayList<>(); // 품목명 (표시 순서)
+
+		public Group(String name, List<String> items) {
+			this.name = name;
+			this.items = new ArrayList<>(items);
+		}
+	}
+}
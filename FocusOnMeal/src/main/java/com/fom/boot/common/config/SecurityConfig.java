@@ -1,29 +1,40 @@
 package com.fom.boot.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 
 import com.fom.boot.app.jwt.JwtAuthenticationFilter;
 import com.fom.boot.app.jwt.JwtTokenProvider;
+import com.fom.boot.app.security.RouteRegistry;
 
 import lombok.RequiredArgsConstructor;
 
 @Configuration // 스프링의 설정 클래스임을 나타내는 어노테이션
 @EnableWebSecurity // 스프링 시큐리티 설정을 활성화하는 어노테이션
+@EnableMethodSecurity // @PreAuthorize(@AdminOnly) 메서드 보안 활성화
 @RequiredArgsConstructor
 public class SecurityConfig {
 	
 	private final JwtTokenProvider jwtTokenProvider;
+	private final RouteRegistry routeRegistry; // 관리자/보호/공개 경로 목록 (JwtAuthenticationFilter와 공유)
+
+	// BCrypt cost (변경하면 기존 회원은 다음 로그인 때 새 cost로 재해시됨)
+	@Value("${security.password.bcrypt-strength:10}")
+	private int bcryptStrength;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -41,8 +52,13 @@ public class SecurityConfig {
     	
         http
             .csrf(csrf -> csrf.disable())
+            // 인증이 필요한 경로에 토큰 없이 접근하면 401
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers(RouteRegistry.ADMIN_ROUTES).hasRole("ADMIN")
+                // 로그인이 필요한 경로 (그 외 /api/chat/**는 비로그인도 허용, 토큰이 있으면 회원으로 인증)
+                .requestMatchers(RouteRegistry.PROTECTED_ROUTES).authenticated()
+                // 그 외 경로는 허용 (PUBLIC_ROUTES는 JwtAuthenticationFilter가 토큰 검사를 건너뛰는 데 사용)
                 .anyRequest().permitAll()
 //                // 리소스 접근 권한 설정
 //                .requestMatchers("/", "/css/**", "/js/**", "/images/**", "/assets/**", "/resources/**").permitAll()
@@ -68,7 +84,7 @@ public class SecurityConfig {
             )
             
             // JwtAuthenticationFilter를 UsernamePasswordAuthenticationFilter 앞에 추가
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), 
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, routeRegistry), 
                              UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -77,7 +93,7 @@ public class SecurityConfig {
     // 비밀번호 암호화 BCryptPasswordEncoder Bean 등록
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     // AuthenticationManager Bean 등록 (로그인 시 사용)
@@ -89,7 +105,7 @@ public class SecurityConfig {
 	
 	@Bean
 	public BCryptPasswordEncoder getPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+		return new BCryptPasswordEncoder(bcryptStrength);
 	}
 
 }
@@ -0,0 +1,23 @@
+package com.fom.boot.common.pagination;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잘못된 커서로 목록을 요청하면 400 (cursor= 로 첫 페이지부터 다시 조회)
+ */
+@Slf4j
+@RestControllerAdvice
+public class CursorExceptionHandler {
+
+	@ExceptionHandler(InvalidCursorException.class)
+	public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException e) {
+		log.debug("잘못된 커서 요청: {}", e.getMessage());
+		return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+	}
+}
@@ -0,0 +1,43 @@
+package com.fom.boot.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import lombok.Getter;
+
+/**
+ * 커서 기반 목록 조회 결과
+ * - nextCursor: 다음 요청에 그대로 넘길 값 (마지막 페이지면 null)
+ * - totalCount: withCount 요청 시에만 채움 (그 외 null)
+ */
+@Getter
+public class CursorPage<T> {
+
+	private final List<T> list;
+	private final String nextCursor;
+	private final boolean hasNext;
+	private final Integer totalCount;
+
+	private CursorPage(List<T> list, String nextCursor, boolean hasNext, Integer totalCount) {
+		this.list = list;
+		this.nextCursor = nextCursor;
+		this.hasNext = hasNext;
+		this.totalCount = totalCount;
+	}
+
+	/**
+	 * @param rows fetchSize(size + 1)만큼 조회한 결과
+	 * @param request 조회 조건
+	 * @param keyOf 행 → 정렬 키
+	 * @param counter 전체 개수 조회 (withCount일 때만 호출)
+	 */
+	public static <T> CursorPage<T> of(List<T> rows, CursorRequest request,
+			Function<T, SeekCursor> keyOf, IntSupplier counter) {
+		boolean hasNext = rows.size() > request.getSize();
+		List<T> page = hasNext ? rows.subList(0, request.getSize()) : rows;
+		String nextCursor = hasNext ? keyOf.apply(page.get(page.size() - 1)).encode() : null;
+		Integer totalCount = request.isWithCount() ? counter.getAsInt() : null;
+		return new CursorPage<>(page, nextCursor, hasNext, totalCount);
+	}
+}
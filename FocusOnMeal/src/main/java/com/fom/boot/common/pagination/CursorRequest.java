@@ -0,0 +1,78 @@
+package com.fom.boot.common.pagination;
+
+import java.sql.Timestamp;
+
+import lombok.Getter;
+
+/**
+ * 커서 기반(keyset) 목록 조회 조건 - Mapper XML에 "cursor" 파라미터로 전달
+ *
+ * ROWNUM BETWEEN 방식은 앞 페이지 행을 모두 읽고 버리므로 뒤 페이지일수록 느려짐
+ * 커서 방식은 마지막 행의 (일시, ID) 다음부터 바로 읽음 (seek)
+ *
+ * XML 사용 예 (정렬: 일시 + ID)
+ *   <if test="cursor.seek">
+ *     AND (CREATED_AT ${cursor.comparator} #{cursor.afterTime}
+ *          OR (CREATED_AT = #{cursor.afterTime} AND PLAN_ID ${cursor.comparator} #{cursor.afterId}))
+ *   </if>
+ *   ORDER BY CREATED_AT ${cursor.direction}, PLAN_ID ${cursor.direction}
+ *   FETCH FIRST #{cursor.fetchSize} ROWS ONLY
+ *
+ * comparator/direction은 이 클래스가 정한 고정 문자열만 나오므로 ${} 사용 가능
+ */
+@Getter
+public class CursorRequest {
+
+	public static final int MAX_SIZE = 100;
+
+	private final SeekCursor after;   // null이면 첫 페이지
+	private final int size;           // 한 번에 내려줄 개수
+	private final boolean ascending;  // 정렬 방향
+	private final boolean withCount;  // 전체 개수도 필요한지 (COUNT(*) 생략 가능)
+
+	private CursorRequest(SeekCursor after, int size, boolean ascending, boolean withCount) {
+		this.after = after;
+		this.size = size;
+		this.ascending = ascending;
+		this.withCount = withCount;
+	}
+
+	/**
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 빈 문자열)
+	 * @param size 페이지 크기 (1 ~ MAX_SIZE)
+	 * @param sortOrder "asc"면 오름차순, 그 외 내림차순
+	 * @param withCount 전체 개수 포함 여부
+	 * @throws InvalidCursorException cursor를 해석할 수 없을 때 (400 응답)
+	 */
+	public static CursorRequest of(String cursor, int size, String sortOrder, boolean withCount) {
+		int safeSize = Math.max(1, Math.min(size, MAX_SIZE));
+		return new CursorRequest(SeekCursor.decode(cursor), safeSize, "asc".equalsIgnoreCase(sortOrder), withCount);
+	}
+
+	// 이어서 조회하는지 (false면 첫 페이지)
+	public boolean isSeek() {
+		return after != null;
+	}
+
+	public Timestamp getAfterTime() {
+		return after != null && after.getTime() != null ? Timestamp.from(after.getTime()) : null;
+	}
+
+	public Long getAfterId() {
+		return after != null ? after.getId() : null;
+	}
+
+	// seek 조건 비교 연산자
+	public String getComparator() {
+		return ascending ? ">" : "<";
+	}
+
+	public String getDirection() {
+		return ascending ? "ASC" : "DESC";
+	}
+
+	// 다음 페이지 존재 여부 확인용으로 1개 더 조회
+	public int getFetchSize() {
+		return size + 1;
+	}
+}
@@ -0,0 +1,14 @@
+package com.fom.boot.common.pagination;
+
+/**
+ * 커서 문자열을 해석할 수 없을 때 (변조, 다른 버전 형식 등)
+ * - 첫 페이지로 조용히 되돌리면 클라이언트가 중복 목록을 이어 붙이므로 400으로 응답 (CursorExceptionHandler)
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidCursorException(String message) {
+		super(message);
+	}
+}
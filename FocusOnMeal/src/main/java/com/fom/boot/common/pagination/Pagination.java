@@ -1,6 +1,22 @@
 package com.fom.boot.common.pagination;
 
 public class Pagination {
+
+	/**
+	 * 커서 방식으로 조회할지 판단
+	 * - cursor 파라미터가 있고(첫 페이지는 빈 문자열), 정렬이 커서 키(기본 정렬)일 때만
+	 * - 그 외(다른 컬럼 정렬, page 번호 요청)는 기존 PageInfo 방식
+	 * @param cursor 요청의 cursor 파라미터
+	 * @param sortColumn 요청의 정렬 컬럼 (null/빈 값이면 기본 정렬)
+	 * @param cursorSortColumn 커서 키로 쓰는 정렬 컬럼
+	 */
+	public static boolean isCursorMode(String cursor, String sortColumn, String cursorSortColumn) {
+		if (cursor == null) {
+			return false;
+		}
+		return sortColumn == null || sortColumn.isEmpty() || sortColumn.equals(cursorSortColumn);
+	}
+
 	public static PageInfo getPageInfo(int currentPage, int totalCount) {
 		
 		int naviLimit = 10;
@@ -0,0 +1,68 @@
+package com.fom.boot.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import lombok.Getter;
+
+/**
+ * 커서 기반(keyset) 페이지네이션의 위치 정보 - 마지막으로 내려준 행의 정렬 키
+ * - time: 정렬 기준 일시 (ID로만 정렬하면 null)
+ * - id: 같은 일시끼리 순서를 정하는 고유 ID
+ * - 클라이언트에는 Base64 문자열로만 전달 (형식에 의존하지 않도록)
+ */
+@Getter
+public final class SeekCursor {
+
+	private static final String VERSION = "v1";
+
+	private final Instant time;
+	private final long id;
+
+	private SeekCursor(Instant time, long id) {
+		this.time = time;
+		this.id = id;
+	}
+
+	public static SeekCursor of(Timestamp time, long id) {
+		return new SeekCursor(time != null ? time.toInstant() : null, id);
+	}
+
+	public static SeekCursor of(LocalDateTime time, long id) {
+		return of(time != null ? Timestamp.valueOf(time) : null, id);
+	}
+
+	public static SeekCursor ofId(long id) {
+		return new SeekCursor(null, id);
+	}
+
+	public String encode() {
+		String raw = VERSION + "|" + (time != null ? time.toString() : "") + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param token encode()로 만든 문자열
+	 * @return 커서 (비어 있으면 null → 첫 페이지)
+	 * @throws InvalidCursorException 형식이 맞지 않을 때 (변조, 다른 버전)
+	 */
+	public static SeekCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length == 3 && VERSION.equals(parts[0])) {
+				Instant time = parts[1].isEmpty() ? null : Instant.parse(parts[1]);
+				return new SeekCursor(time, Long.parseLong(parts[2]));
+			}
+		} catch (RuntimeException e) {
+			// 아래에서 InvalidCursorException으로 응답
+		}
+		throw new InvalidCursorException("잘못된 커서입니다. 첫 페이지부터 다시 조회해주세요.");
+	}
+}
@@ -0,0 +1,21 @@
+package com.fom.boot.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public class ClientIpUtils {
+
+	private ClientIpUtils() {
+	}
+
+	/**
+	 * 클라이언트 IP 주소
+	 * - 신뢰하는 프록시를 거친 요청은 ForwardedHeaderConfig에서 원래 주소로 바꿔 둠
+	 * - 클라이언트가 보낸 X-Forwarded-For 등의 헤더는 직접 읽지 않음 (요청마다 바꿔 보내면 위조 가능)
+	 *
+	 * @param request 요청
+	 * @return IP 주소
+	 */
+	public static String getClientIpAddress(HttpServletRequest request) {
+		return request.getRemoteAddr();
+	}
+}
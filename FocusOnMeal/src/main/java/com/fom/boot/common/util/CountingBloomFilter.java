@@ -0,0 +1,74 @@
+package com.fom.boot.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 삭제를 지원하는 Counting Bloom filter
+ * - mightContain()이 false면 확실히 없음, true면 "있을 수도 있음" (오탐 가능)
+ * - 비트 대신 카운터를 사용하므로 remove()로 항목을 뺄 수 있음
+ * - 카운터는 AtomicIntegerArray라 별도 잠금 없이 여러 스레드에서 사용 가능
+ */
+public class CountingBloomFilter {
+
+    private final AtomicIntegerArray counters;
+    private final int size;
+    private final int hashCount;
+
+    /**
+     * @param size 카운터 개수
+     * @param hashCount 해시 함수 개수
+     */
+    public CountingBloomFilter(int size, int hashCount) {
+        if (size <= 0 || hashCount <= 0) {
+            throw new IllegalArgumentException("size와 hashCount는 0보다 커야 합니다.");
+        }
+        this.size = size;
+        this.hashCount = hashCount;
+        this.counters = new AtomicIntegerArray(size);
+    }
+
+    public void add(String value) {
+        long hash = hash64(value);
+        for (int i = 0; i < hashCount; i++) {
+            counters.incrementAndGet(index(hash, i));
+        }
+    }
+
+    public void remove(String value) {
+        long hash = hash64(value);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash, i);
+            // 0 아래로 내려가지 않도록 (추가된 적 없는 값을 빼는 경우 방지)
+            counters.getAndUpdate(index, c -> c > 0 ? c - 1 : 0);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        for (int i = 0; i < hashCount; i++) {
+            if (counters.get(index(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // double hashing : h1 + i * h2
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % size;
+    }
+
+    // 64비트 FNV-1a 해시
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,101 @@
+package com.fom.boot.common.util;
+
+/**
+ * 한글 검색용 유틸
+ * - 초성 추출: "돼지고기" → "ㄷㅈㄱㄱ"
+ * - 초성 비교: 검색어의 자음(ㄱ~ㅎ)은 같은 초성의 음절과 일치로 봄 ("ㄷ지" ↔ "돼지")
+ */
+public final class HangulUtils {
+
+	private static final char SYLLABLE_BEGIN = 0xAC00; // 가
+	private static final char SYLLABLE_END = 0xD7A3;   // 힣
+	private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+	// 초성 19자 (호환용 자모)
+	private static final char[] CHOSEONG = {
+			'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+			'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	private HangulUtils() {
+	}
+
+	public static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+
+	// 초성으로 쓸 수 있는 자음인지 (ㄱ~ㅎ 중 초성 19자)
+	public static boolean isChoseong(char c) {
+		for (char ch : CHOSEONG) {
+			if (ch == c) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 음절이면 초성, 그 외 문자는 그대로
+	public static char choseongOf(char c) {
+		return isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG] : c;
+	}
+
+	public static String toChoseong(String text) {
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			sb.append(choseongOf(text.charAt(i)));
+		}
+		return sb.toString();
+	}
+
+	// 검색어에 초성(자음만 입력한 글자)이 하나라도 있는지
+	public static boolean containsChoseong(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (isChoseong(text.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 검색용 정규화 - 공백 제거 + 소문자
+	 */
+	public static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * text 안에서 query가 처음 일치하는 위치 (없으면 -1)
+	 * - query의 초성 글자는 같은 초성의 음절과 일치
+	 */
+	public static int indexOfWithChoseong(String text, String query) {
+		int last = text.length() - query.length();
+		for (int start = 0; start <= last; start++) {
+			if (regionMatches(text, start, query)) {
+				return start;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean regionMatches(String text, int offset, String query) {
+		for (int i = 0; i < query.length(); i++) {
+			char q = query.charAt(i);
+			char t = text.charAt(offset + i);
+			if (q != t && !(isChoseong(q) && choseongOf(t) == q)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
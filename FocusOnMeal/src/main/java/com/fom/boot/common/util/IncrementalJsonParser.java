@@ -0,0 +1,149 @@
+package com.fom.boot.common.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 조각으로 들어오는 JSON 객체를 받는 즉시 파싱 (스트리밍 AI 응답용)
+ * - 최상위 필드 값이 완성되면 onValue(field, -1, value)
+ * - 최상위 배열 필드의 원소가 완성되면 onValue(field, index, element) → 배열 전체를 기다리지 않음
+ * - 첫 '{' 이전 텍스트(```json 등)와 최상위 객체가 닫힌 뒤의 텍스트는 무시
+ * - 문자열 안의 줄바꿈 등 이스케이프되지 않은 제어 문자 허용
+ *
+ * 스레드 안전하지 않음 (요청 하나에서만 사용)
+ */
+public class IncrementalJsonParser {
+
+	public interface Listener {
+		void onValue(String field, int index, JsonNode value);
+	}
+
+	private static final JsonFactory FACTORY = JsonFactory.builder()
+			.enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+			.build();
+
+	private final Listener listener;
+	private final JsonParser parser;
+	private final ByteArrayFeeder feeder;
+
+	// 열려 있는 객체/배열과 각 단계의 현재 필드명
+	private final List<JsonNode> containers = new ArrayList<>();
+	private final List<String> fieldNames = new ArrayList<>();
+
+	private boolean started;
+	private boolean finished;
+
+	public IncrementalJsonParser(Listener listener) {
+		this.listener = listener;
+		try {
+			this.parser = FACTORY.createNonBlockingByteArrayParser();
+		} catch (IOException e) {
+			throw new IllegalStateException("JSON 파서를 만들 수 없습니다.", e);
+		}
+		this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+	}
+
+	/**
+	 * 다음 조각 입력 (형식이 잘못되면 IOException)
+	 */
+	public void feed(String chunk) throws IOException {
+		if (finished || chunk == null || chunk.isEmpty()) {
+			return;
+		}
+		if (!started) {
+			int start = chunk.indexOf('{');
+			if (start < 0) {
+				return;
+			}
+			chunk = chunk.substring(start);
+			started = true;
+		}
+		byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+		feeder.feedInput(bytes, 0, bytes.length);
+		drain();
+	}
+
+	// 최상위 객체가 끝까지 들어왔는지
+	public boolean isFinished() {
+		return finished;
+	}
+
+	private void drain() throws IOException {
+		JsonToken token;
+		while (!finished && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+			switch (token) {
+				case START_OBJECT -> open(JsonNodeFactory.instance.objectNode());
+				case START_ARRAY -> open(JsonNodeFactory.instance.arrayNode());
+				case END_OBJECT, END_ARRAY -> close();
+				case FIELD_NAME -> fieldNames.set(fieldNames.size() - 1, parser.currentName());
+				default -> completed(attach(scalar(token)));
+			}
+		}
+	}
+
+	private void open(JsonNode container) {
+		if (!containers.isEmpty()) {
+			attach(container);
+		}
+		containers.add(container);
+		fieldNames.add(null);
+	}
+
+	private void close() {
+		int last = containers.size() - 1;
+		JsonNode node = containers.remove(last);
+		fieldNames.remove(last);
+		if (containers.isEmpty()) {
+			finished = true;
+			feeder.endOfInput();
+			return;
+		}
+		completed(node);
+	}
+
+	private JsonNode attach(JsonNode value) {
+		JsonNode parent = containers.get(containers.size() - 1);
+		if (parent instanceof ObjectNode object) {
+			object.set(fieldNames.get(fieldNames.size() - 1), value);
+		} else {
+			((ArrayNode) parent).add(value);
+		}
+		return value;
+	}
+
+	// 방금 완성된 값이 최상위 필드 값이거나 최상위 배열의 원소면 알림
+	private void completed(JsonNode value) {
+		int depth = containers.size();
+		if (depth == 1) {
+			listener.onValue(fieldNames.get(0), -1, value);
+		} else if (depth == 2 && containers.get(1) instanceof ArrayNode array) {
+			listener.onValue(fieldNames.get(0), array.size() - 1, value);
+		}
+	}
+
+	private JsonNode scalar(JsonToken token) throws IOException {
+		JsonNodeFactory nodes = JsonNodeFactory.instance;
+		return switch (token) {
+			case VALUE_STRING -> nodes.textNode(parser.getText());
+			case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+					? nodes.numberNode(parser.getBigIntegerValue())
+					: nodes.numberNode(parser.getLongValue());
+			case VALUE_NUMBER_FLOAT -> nodes.numberNode(parser.getDoubleValue());
+			case VALUE_TRUE -> nodes.booleanNode(true);
+			case VALUE_FALSE -> nodes.booleanNode(false);
+			default -> nodes.nullNode();
+		};
+	}
+}
@@ -0,0 +1,72 @@
+package com.fom.boot.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부분 문자열 검색용 1·2-gram 색인 (불변)
+ * - 문자열 목록의 위치(0부터)를 gram별로 오름차순 보관
+ * - candidates(q): q의 모든 gram을 포함하는 위치 = q를 포함할 수도 있는 후보
+ *   (gram 순서까지는 보지 않으므로 실제 포함 여부는 호출 측에서 확인)
+ */
+public class NGramIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Map<String, int[]> postings;
+
+	public NGramIndex(List<String> texts) {
+		Map<String, List<Integer>> grams = new HashMap<>();
+		for (int idx = 0; idx < texts.size(); idx++) {
+			String text = texts.get(idx);
+			for (int n = 1; n <= 2; n++) {
+				for (int i = 0; i + n <= text.length(); i++) {
+					List<Integer> list = grams.computeIfAbsent(text.substring(i, i + n), k -> new ArrayList<>());
+					if (list.isEmpty() || list.get(list.size() - 1) != idx) {
+						list.add(idx);
+					}
+				}
+			}
+		}
+		Map<String, int[]> frozen = new HashMap<>(grams.size() * 2);
+		grams.forEach((gram, list) -> frozen.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+		this.postings = Map.copyOf(frozen);
+	}
+
+	/**
+	 * @param q 검색어 (빈 문자열이면 결과 없음)
+	 * @return 후보 위치 (오름차순)
+	 */
+	public int[] candidates(String q) {
+		int n = q.length() >= 2 ? 2 : 1;
+		int[] result = null;
+		for (int i = 0; i + n <= q.length(); i++) {
+			int[] list = postings.getOrDefault(q.substring(i, i + n), EMPTY);
+			result = result == null ? list : intersect(result, list);
+			if (result.length == 0) {
+				break;
+			}
+		}
+		return result != null ? result : EMPTY;
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		int[] out = new int[Math.min(a.length, b.length)];
+		int i = 0, j = 0, k = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				out[k++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(out, k);
+	}
+}
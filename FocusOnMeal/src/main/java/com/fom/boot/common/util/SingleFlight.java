@@ -0,0 +1,62 @@
+package com.fom.boot.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 작업을 하나로 합침 (single-flight)
+ * - 진행 중인 작업이 있으면 새로 시작하지 않고 그 future를 같이 기다림
+ * - 끝나면(성공/실패 모두) 바로 제거 → 결과나 실패를 보관하지 않음 (보관은 캐시의 역할)
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * @param key 같은 작업을 구분하는 키
+	 * @param starter 진행 중인 작업이 없을 때만 호출 (던진 예외는 그대로 전달, 등록되지 않음)
+	 * @return 이 호출이 시작했거나 이미 진행 중인 작업
+	 */
+	public Result<V> execute(K key, Supplier<CompletableFuture<V>> starter) {
+		CompletableFuture<V> existing = inFlight.get(key);
+		if (existing != null) {
+			return new Result<>(existing, true);
+		}
+
+		CompletableFuture<V> placeholder = new CompletableFuture<>();
+		existing = inFlight.putIfAbsent(key, placeholder);
+		if (existing != null) {
+			return new Result<>(existing, true);
+		}
+
+		try {
+			starter.get().whenComplete((value, error) -> {
+				inFlight.remove(key, placeholder);
+				if (error != null) {
+					placeholder.completeExceptionally(error);
+				} else {
+					placeholder.complete(value);
+				}
+			});
+		} catch (RuntimeException e) {
+			// 시작 실패 (대기열 초과 등) - 기다리던 호출에도 같은 예외 전달
+			inFlight.remove(key, placeholder);
+			placeholder.completeExceptionally(e);
+			throw e;
+		}
+		return new Result<>(placeholder, false);
+	}
+
+	public int size() {
+		return inFlight.size();
+	}
+
+	/**
+	 * @param future 작업 결과
+	 * @param shared 다른 호출이 시작한 작업에 합류했는지
+	 */
+	public record Result<V>(CompletableFuture<V> future, boolean shared) {
+	}
+}
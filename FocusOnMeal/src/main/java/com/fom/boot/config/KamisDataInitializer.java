@@ -22,6 +22,13 @@ public class KamisDataInitializer implements ApplicationRunner {
     public void run(ApplicationArguments args) throws Exception {
         log.info("========== Server startup: KAMIS data auto sync started ==========");
 
+        try {
+            // 최신/직전 가격 요약 테이블 정합성 맞추기 (이후 가격 저장 시 자동 갱신)
+            kamisDataSyncService.rebuildLatestPrices();
+        } catch (Exception e) {
+            log.error("LATEST_PRICE rebuild failed", e);
+        }
+
         try {
             String result = kamisDataSyncService.syncAllCategoriesAndGetResult();
             log.info("KAMIS data sync result: {}", result);
@@ -222,4 +222,18 @@ public interface AlertMapper {
      * @return 알림 목록 리스트
      */
     List<Map<String, Object>> selectUserPriceNotiList(Map<String, Object> searchMap);
+
+    /**
+     * 마이페이지: 안전 알림 목록 조회 (커서 방식)
+     * @param searchMap 검색 조건(Map) + cursor(CursorRequest)
+     * @return 알림 목록 리스트 (cursorSentAt 포함)
+     */
+    List<Map<String, Object>> selectUserSafetyNotiListByCursor(Map<String, Object> searchMap);
+
+    /**
+     * 마이페이지: 가격 알림 목록 조회 (커서 방식)
+     * @param searchMap 검색 조건(Map) + cursor(CursorRequest)
+     * @return 알림 목록 리스트 (cursorSentAt 포함)
+     */
+    List<Map<String, Object>> selectUserPriceNotiListByCursor(Map<String, Object> searchMap);
 }
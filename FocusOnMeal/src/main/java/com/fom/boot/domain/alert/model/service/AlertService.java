@@ -3,6 +3,8 @@ package com.fom.boot.domain.alert.model.service;
 import java.util.List;
 import java.util.Map;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
 
 public interface AlertService {
@@ -168,4 +170,20 @@ public interface AlertService {
      * @return 알림 목록 리스트
      */
     List<Map<String, Object>> getUserPriceNotiList(PageInfo pi, Map<String, Object> searchMap);
+
+    /**
+     * 마이페이지: 안전 알림 목록 조회 (커서 방식, 수신일 순)
+     * @param cursor 커서 조건
+     * @param searchMap 검색 조건(Map)
+     * @return 알림 목록 + 다음 커서
+     */
+    CursorPage<Map<String, Object>> getUserSafetyNotiList(CursorRequest cursor, Map<String, Object> searchMap);
+
+    /**
+     * 마이페이지: 가격 알림 목록 조회 (커서 방식, 수신일 순)
+     * @param cursor 커서 조건
+     * @param searchMap 검색 조건(Map)
+     * @return 알림 목록 + 다음 커서
+     */
+    CursorPage<Map<String, Object>> getUserPriceNotiList(CursorRequest cursor, Map<String, Object> searchMap);
 }
@@ -1,14 +1,19 @@
 package com.fom.boot.domain.alert.model.service.impl;
 
+import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntSupplier;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fom.boot.app.pricehistory.dto.PriceTrendResponse;
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
+import com.fom.boot.common.pagination.SeekCursor;
 import com.fom.boot.domain.alert.model.mapper.AlertMapper;
 import com.fom.boot.domain.alert.model.mapper.PriceAlertMapper;
 import com.fom.boot.domain.alert.model.service.AlertService;
@@ -437,4 +442,45 @@ public class AlertServiceImpl implements AlertService {
             throw new RuntimeException("가격 알림 목록 조회에 실패했습니다.", e);
         }
     }
+
+    // 개인 안전 알림 목록 조회 (커서 방식)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getUserSafetyNotiList(CursorRequest cursor, Map<String, Object> searchMap) {
+        Map<String, Object> params = new HashMap<>(searchMap);
+        params.put("cursor", cursor);
+        try {
+            return toNotiPage(alertMapper.selectUserSafetyNotiListByCursor(params), cursor,
+                    () -> alertMapper.selectUserSafetyNotiCount(params));
+        } catch (Exception e) {
+            log.error("알림 목록 조회 실패: searchMap={}", searchMap, e);
+            throw new RuntimeException("알림 목록 조회에 실패했습니다.", e);
+        }
+    }
+
+    // 개인 가격 알림 목록 조회 (커서 방식)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getUserPriceNotiList(CursorRequest cursor, Map<String, Object> searchMap) {
+        Map<String, Object> params = new HashMap<>(searchMap);
+        params.put("cursor", cursor);
+        try {
+            return toNotiPage(alertMapper.selectUserPriceNotiListByCursor(params), cursor,
+                    () -> alertMapper.selectUserPriceNotiCount(params));
+        } catch (Exception e) {
+            log.error("가격 알림 목록 조회 실패: searchMap={}", searchMap, e);
+            throw new RuntimeException("가격 알림 목록 조회에 실패했습니다.", e);
+        }
+    }
+
+    // 커서 생성 후 내부용 cursorSentAt 컬럼 제거
+    private CursorPage<Map<String, Object>> toNotiPage(List<Map<String, Object>> rows, CursorRequest cursor,
+            IntSupplier counter) {
+        CursorPage<Map<String, Object>> page = CursorPage.of(rows, cursor,
+                row -> SeekCursor.of(Timestamp.valueOf((String) row.get("cursorSentAt")),
+                        ((Number) row.get("notificationId")).longValue()),
+                counter);
+        rows.forEach(row -> row.remove("cursorSentAt"));
+        return page;
+    }
 }
@@ -3,6 +3,7 @@ package com.fom.boot.domain.alert.model.service.impl;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +12,7 @@ import com.fom.boot.domain.alert.model.service.AlertService;
 import com.fom.boot.domain.alert.model.service.FoodSafetyApiService;
 import com.fom.boot.domain.alert.model.service.FoodSafetyDataSyncService;
 import com.fom.boot.domain.alert.model.vo.SafetyAlert;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,7 @@ public class FoodSafetyDataSyncServiceImpl implements FoodSafetyDataSyncService
 	private final FoodSafetyApiService foodSafetyApiService;
     private final AlertMapper alertMapper;
     private final AlertService alertService; // 알림 발송 서비스
+    private final ApplicationEventPublisher eventPublisher; // 카탈로그 스냅샷 갱신 알림
     
     // API 최대 조회 건수 (전체 동기화 시 페이징을 위해 필요)
     private static final int MAX_PER_PAGE = 100;
@@ -232,6 +235,11 @@ public class FoodSafetyDataSyncServiceImpl implements FoodSafetyDataSyncService
         
         log.info("식품안전정보 동기화 완료 - 조회: {}, 저장: {}, 중복 스킵: {}", 
                 alerts.size(), savedCount, alerts.size() - alertsToInsert.size());
+
+        // 안전위험도가 바뀌었을 수 있으므로 카탈로그 스냅샷 갱신 요청 (커밋 후 처리)
+        if (savedCount > 0) {
+            eventPublisher.publishEvent(IngredientCatalogChangedEvent.of("FOOD_SAFETY"));
+        }
         
         return savedCount;
     }
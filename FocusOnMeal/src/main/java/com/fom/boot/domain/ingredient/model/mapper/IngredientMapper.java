@@ -8,6 +8,7 @@ import org.apache.ibatis.annotations.Param;
 import com.fom.boot.app.admin.dto.AdminIngredientDTO;
 import com.fom.boot.app.ingredient.dto.IngredientDTO;
 import com.fom.boot.app.mypage.dto.FavoriteIngredientSummaryDTO;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.domain.ingredient.model.vo.FavoriteIngredient;
 import com.fom.boot.domain.ingredient.model.vo.Ingredient;
 import com.fom.boot.domain.ingredient.model.vo.NutritionMaster;
@@ -63,6 +64,12 @@ public interface IngredientMapper {
 			@Param("sortOrder") String sortOrder,
 			@Param("offset") int offset, 
 			@Param("limit") int limit);
+
+	// [관리자] 목록 조회 (커서 방식, INGREDIENT_ID 정렬)
+	List<AdminIngredientDTO> selectAdminListByCursor(
+			@Param("cursor") CursorRequest cursor,
+			@Param("type") String type,
+			@Param("keyword") String keyword);
 			
 	int updateNutrition(NutritionMaster nutrition);
 	int updateNutrition(AdminIngredientDTO dto);
@@ -35,6 +35,25 @@ public interface IngredientPriceHistoryMapper {
 	 */
 	int insertPrice(PriceHistory priceHistory);
 
+	/**
+	 * 최신/직전 가격 요약(LATEST_PRICE) 반영 - insertPrice 직후 호출
+	 * @param priceHistory 방금 저장한 가격 정보
+	 * @return 반영된 행 수
+	 */
+	int upsertLatestPrice(PriceHistory priceHistory);
+
+	/**
+	 * PRICE_HISTORY 전체로 LATEST_PRICE 재계산 (최초 적재/정합성 복구용)
+	 * @return 반영된 행 수
+	 */
+	int rebuildLatestPrices();
+
+	/**
+	 * 식재료별 최신 가격 1건 (지역/유형 무관, 최신 수집일 순) - PriceResolver 스냅샷용
+	 * @return name, priceValue 맵 리스트
+	 */
+	List<Map<String, Object>> selectLatestPricePerIngredient();
+
 	/**
 	 * 특정 식자재의 모든 가격 이력 조회
 	 * @param ingredientId 식자재 ID
@@ -42,6 +61,17 @@ public interface IngredientPriceHistoryMapper {
 	 */
 	List<PriceHistory> getPriceHistoryByIngredientId(@Param("ingredientId") int ingredientId);
 
+	/**
+	 * 특정 식자재의 기간 내 가격 이력 조회 (최신순, 최대 limit개)
+	 * @param ingredientId 식자재 ID
+	 * @param since 조회 시작 일시
+	 * @param limit 최대 개수
+	 * @return 가격 이력 리스트
+	 */
+	List<PriceHistory> getPriceHistoryWindow(@Param("ingredientId") int ingredientId,
+											 @Param("since") LocalDateTime since,
+											 @Param("limit") int limit);
+
 	/**
 	 * 특정 식자재의 오늘 가격이 이미 저장되어 있는지 확인
 	 * @param ingredientId 식자재 ID
@@ -0,0 +1,25 @@
+package com.fom.boot.domain.ingredient.model.service;
+
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalog;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChanges;
+
+/**
+ * 리스트 페이지용 식재료 카탈로그 스냅샷 관리
+ * - 평상시에는 메모리의 스냅샷만 반환 (DB 조회 없음)
+ * - 동기화가 끝나면 스냅샷을 새로 만들어 교체
+ */
+public interface IngredientCatalogService {
+
+	// 현재 스냅샷 조회 (아직 없으면 한 번 생성)
+	IngredientCatalog getCatalog();
+
+	// DB에서 다시 읽어 스냅샷 교체 (내용이 같으면 기존 스냅샷 유지)
+	IngredientCatalog refresh();
+
+	/**
+	 * since 버전 이후 변경분 조회
+	 * - 이력이 남아 있지 않을 만큼 오래된 버전이면 전체 목록으로 대체
+	 * @param since 클라이언트가 마지막으로 받은 카탈로그 버전
+	 */
+	IngredientCatalogChanges getChangesSince(long since);
+}
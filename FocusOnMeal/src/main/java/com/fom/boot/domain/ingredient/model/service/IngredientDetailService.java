@@ -0,0 +1,19 @@
+package com.fom.boot.domain.ingredient.model.service;
+
+import com.fom.boot.domain.ingredient.model.vo.IngredientDetail;
+
+/**
+ * 상세 페이지용 식재료 정보 조회
+ * - 기본 정보/가격 이력/영양 성분/안전 위험도를 병렬로 조회
+ * - 결과는 다음 가격·안전정보 동기화 전까지 캐시
+ */
+public interface IngredientDetailService {
+
+	/**
+	 * @param ingredientId 식재료 ID
+	 * @param days 가격 이력 조회 기간 (오늘 기준 최근 N일)
+	 * @param maxPoints 가격 이력 최대 개수 (최신순)
+	 * @return 상세 정보 (식재료가 없으면 null)
+	 */
+	IngredientDetail getDetail(int ingredientId, int days, int maxPoints);
+}
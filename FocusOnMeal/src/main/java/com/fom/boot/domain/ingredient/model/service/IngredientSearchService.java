@@ -0,0 +1,20 @@
+package com.fom.boot.domain.ingredient.model.service;
+
+import java.util.List;
+
+import com.fom.boot.app.ingredient.dto.IngredientSuggestionDTO;
+
+/**
+ * 식재료 자동완성 검색
+ * - DB 대신 메모리 색인에서 검색 (입력할 때마다 호출해도 부담 없음)
+ * - 카탈로그 스냅샷이 바뀌면(KAMIS 동기화 후) 색인도 다시 생성
+ */
+public interface IngredientSearchService {
+
+	/**
+	 * @param query 검색어 (이름 앞부분/중간, 초성 "ㄷㅈㄱㄱ", 분류명)
+	 * @param limit 최대 결과 수
+	 * @return 순위순 자동완성 결과
+	 */
+	List<IngredientSuggestionDTO> autocomplete(String query, int limit);
+}
@@ -5,6 +5,8 @@ import java.util.List;
 import com.fom.boot.app.admin.dto.AdminIngredientDTO;
 import com.fom.boot.app.ingredient.dto.IngredientDTO;
 import com.fom.boot.app.mypage.dto.FavoriteIngredientSummaryDTO;
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.domain.ingredient.model.vo.FavoriteIngredient;
 import com.fom.boot.domain.ingredient.model.vo.Ingredient;
@@ -27,6 +29,8 @@ public interface IngredientService {
 	List<FavoriteIngredientSummaryDTO> getFavoritesByMemberId(String memberId);
 	int getTotalIngredientsBySearch(String type, String keyword);
 	List<AdminIngredientDTO> selectAdminIngredients(PageInfo pageInfo, String type, String keyword, String sortColumn, String sortOrder);
+	// [관리자] 식재료 목록 (커서 방식)
+	CursorPage<AdminIngredientDTO> selectAdminIngredients(CursorRequest cursor, String type, String keyword);
 	NutritionMaster getNutritionByIngredientId(int id);
 	int updateNutrition(AdminIngredientDTO dto);
 
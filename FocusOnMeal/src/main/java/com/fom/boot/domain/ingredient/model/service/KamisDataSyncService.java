@@ -33,14 +33,22 @@ public interface KamisDataSyncService {
 
     /**
      * 전체 카테고리 데이터 동기화 (모든 부류 + 모든 품목)
+     * 부류별로 동시에 조회하고 부류마다 별도 트랜잭션으로 저장 (한 부류 실패가 다른 부류를 롤백하지 않음)
      * @return 동기화된 총 품목 수
      */
     int syncAllCategories();
 
     /**
      * 전체 카테고리 동기화 및 결과 반환
-     * @return 동기화 결과 메시지
+     * @return 동기화 결과 메시지 (부류별 저장 수/실패 사유/소요 시간)
      */
     String syncAllCategoriesAndGetResult();
+
+    /**
+     * PRICE_HISTORY 전체로 최신/직전 가격 요약(LATEST_PRICE) 재계산
+     * 평소에는 가격 저장 시 함께 갱신되므로 최초 적재/정합성 복구용
+     * @return 반영된 행 수
+     */
+    int rebuildLatestPrices();
 }
 
@@ -0,0 +1,205 @@
+package com.fom.boot.domain.ingredient.model.service.impl;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fom.boot.app.ingredient.dto.IngredientDTO;
+import com.fom.boot.domain.ingredient.model.mapper.IngredientMapper;
+import com.fom.boot.domain.ingredient.model.service.IngredientCatalogService;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalog;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChanges;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientCatalogServiceImpl implements IngredientCatalogService {
+
+	private final IngredientMapper iMapper;
+	private final ObjectMapper objectMapper;
+
+	// 현재 스냅샷 (요청 스레드는 잠금 없이 읽기만 함)
+	private final AtomicReference<IngredientCatalog> current = new AtomicReference<>();
+	// 스냅샷 생성은 한 번에 하나만
+	private final Object refreshLock = new Object();
+	// 최근 버전 간 변경분 (오래된 것부터, 교체 방식으로만 갱신)
+	private final AtomicReference<List<CatalogDelta>> deltas = new AtomicReference<>(List.of());
+
+	// 보관할 변경분 개수 (이보다 뒤처진 클라이언트는 전체 목록을 받음)
+	@Value("${ingredient.catalog.change-history:50}")
+	private int changeHistorySize;
+
+	@Override
+	public IngredientCatalog getCatalog() {
+		IngredientCatalog catalog = current.get();
+		return catalog != null ? catalog : refresh();
+	}
+
+	@Override
+	public IngredientCatalog refresh() {
+		synchronized (refreshLock) {
+			long startedAt = System.currentTimeMillis();
+			List<IngredientDTO> items = iMapper.getIngredientList();
+			byte[] body = serialize(items);
+			String etag = "\"" + digest(body) + "\"";
+
+			IngredientCatalog previous = current.get();
+			if (previous != null && previous.getEtag().equals(etag)) {
+				// 내용이 같으면 버전/ETag 유지 (클라이언트 304 유지)
+				log.debug("식재료 카탈로그 변경 없음 - version: {}", previous.getVersion());
+				return previous;
+			}
+
+			// 첫 버전은 생성 시각으로 시작 (재시작 전 버전과 겹치지 않도록)
+			long version = previous != null ? previous.getVersion() + 1 : startedAt;
+			IngredientCatalog catalog = new IngredientCatalog(version, etag, items, body, startedAt);
+			if (previous != null) {
+				appendDelta(diff(previous, catalog));
+			}
+			current.set(catalog);
+			log.info("식재료 카탈로그 갱신 - version: {}, {}건, {}ms",
+					version, catalog.size(), System.currentTimeMillis() - startedAt);
+			return catalog;
+		}
+	}
+
+	/**
+	 * 동기화 트랜잭션 커밋 후 스냅샷 재생성
+	 * - 기준 시각은 발행 시각이 아니라 커밋 후 리스너 실행 시각
+	 *   (발행~커밋 사이에 커밋 전 데이터로 만든 스냅샷을 최신으로 오인하지 않도록)
+	 * - 다른 스레드가 그 이후에 시작한 스냅샷이 이미 있으면 생략
+	 * - 트랜잭션 밖에서 발행된 이벤트도 바로 처리 (fallbackExecution)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCatalogChanged(IngredientCatalogChangedEvent event) {
+		long committedAt = System.currentTimeMillis();
+		synchronized (refreshLock) {
+			IngredientCatalog catalog = current.get();
+			if (catalog != null && catalog.getBuiltAt() > committedAt) {
+				return;
+			}
+			try {
+				refresh();
+			} catch (Exception e) {
+				// 갱신 실패 시 기존 스냅샷을 계속 사용
+				log.error("식재료 카탈로그 갱신 실패 - source: {}", event.source(), e);
+			}
+		}
+	}
+
+	@Override
+	public IngredientCatalogChanges getChangesSince(long since) {
+		IngredientCatalog catalog = getCatalog();
+		List<CatalogDelta> history = deltas.get();
+		if (since == catalog.getVersion()) {
+			return IngredientCatalogChanges.delta(since, List.of(), List.of());
+		}
+		// 미래 버전(재시작 전 값 등)이거나 이력보다 오래된 버전
+		if (since > catalog.getVersion() || history.isEmpty() || since < history.get(0).fromVersion()) {
+			return IngredientCatalogChanges.full(catalog);
+		}
+
+		// since 이후 변경분을 순서대로 합침 (같은 식재료는 마지막 상태만)
+		Map<Integer, IngredientDTO> changed = new LinkedHashMap<>();
+		Set<Integer> removed = new LinkedHashSet<>();
+		long version = since;
+		for (CatalogDelta delta : history) {
+			if (delta.fromVersion() < since) {
+				continue;
+			}
+			for (IngredientDTO item : delta.changed()) {
+				changed.put(item.getIngredientId(), item);
+				removed.remove(item.getIngredientId());
+			}
+			for (Integer id : delta.removed()) {
+				changed.remove(id);
+				removed.add(id);
+			}
+			version = delta.toVersion();
+		}
+		return IngredientCatalogChanges.delta(version, new ArrayList<>(changed.values()), new ArrayList<>(removed));
+	}
+
+	// 이전/새 스냅샷 비교 - 추가·변경된 행과 사라진 ID
+	private static CatalogDelta diff(IngredientCatalog previous, IngredientCatalog next) {
+		Map<Integer, IngredientDTO> before = new HashMap<>();
+		for (IngredientDTO item : previous.getItems()) {
+			before.put(item.getIngredientId(), item);
+		}
+		List<IngredientDTO> changed = new ArrayList<>();
+		for (IngredientDTO item : next.getItems()) {
+			IngredientDTO old = before.remove(item.getIngredientId());
+			if (old == null || !sameRow(old, item)) {
+				changed.add(item);
+			}
+		}
+		// 새 스냅샷에 없는 식재료 = 삭제됨
+		List<Integer> removed = new ArrayList<>(before.keySet());
+		return new CatalogDelta(previous.getVersion(), next.getVersion(), List.copyOf(changed), List.copyOf(removed));
+	}
+
+	// 목록 화면에 보이는 값이 같은지 (Ingredient는 equals를 구현하지 않아 필드별 비교)
+	private static boolean sameRow(IngredientDTO a, IngredientDTO b) {
+		return Objects.equals(a.getCurrentPrice(), b.getCurrentPrice())
+				&& Objects.equals(a.getPreviousPrice(), b.getPreviousPrice())
+				&& Objects.equals(a.getCollectedDate(), b.getCollectedDate())
+				&& Objects.equals(a.getPriceChangePercent(), b.getPriceChangePercent())
+				&& Objects.equals(a.getSafetyStatus(), b.getSafetyStatus())
+				&& Objects.equals(a.getName(), b.getName())
+				&& Objects.equals(a.getCategory(), b.getCategory())
+				&& Objects.equals(a.getStandardUnit(), b.getStandardUnit());
+	}
+
+	private void appendDelta(CatalogDelta delta) {
+		List<CatalogDelta> history = new ArrayList<>(deltas.get());
+		history.add(delta);
+		while (history.size() > Math.max(1, changeHistorySize)) {
+			history.remove(0);
+		}
+		deltas.set(List.copyOf(history));
+		log.debug("식재료 카탈로그 변경분 - {} → {}, 변경 {}건, 삭제 {}건",
+				delta.fromVersion(), delta.toVersion(), delta.changed().size(), delta.removed().size());
+	}
+
+	private byte[] serialize(List<IngredientDTO> items) {
+		try {
+			return objectMapper.writeValueAsBytes(items);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("식재료 카탈로그 직렬화 실패", e);
+		}
+	}
+
+	private record CatalogDelta(long fromVersion, long toVersion,
+			List<IngredientDTO> changed, List<Integer> removed) {
+	}
+
+	// SHA-256 앞 16바이트 (Base64 URL-safe)
+	private static String digest(byte[] body) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.fom.boot.domain.ingredient.model.service.impl;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fom.boot.domain.ingredient.model.mapper.IngredientMapper;
+import com.fom.boot.domain.ingredient.model.mapper.IngredientPriceHistoryMapper;
+import com.fom.boot.domain.ingredient.model.service.IngredientDetailService;
+import com.fom.boot.domain.ingredient.model.vo.Ingredient;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
+import com.fom.boot.domain.ingredient.model.vo.IngredientDetail;
+import com.fom.boot.domain.ingredient.model.vo.NutritionMaster;
+import com.fom.boot.domain.ingredient.model.vo.PriceHistory;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상세 페이지 조회 4건(기본 정보/가격 이력/영양/안전)을 전용 풀에서 동시에 실행
+ * - 응답 시간이 네 쿼리의 합이 아니라 가장 느린 쿼리 하나에 가깝게 됨
+ * - 풀과 대기열이 모두 차면 요청 스레드에서 직접 실행 (느려질 뿐 실패하지 않음)
+ * - 조회 결과는 (식재료, 기간, 개수)별로 캐시하고 동기화 이벤트가 오면 전부 비움
+ */
+@Slf4j
+@Service
+public class IngredientDetailServiceImpl implements IngredientDetailService {
+
+	public static final int MAX_DAYS = 365 * 3;
+	public static final int MAX_POINTS = 1000;
+	// 기간/개수 조합이 많아도 메모리가 계속 늘지 않도록 상한
+	private static final int MAX_CACHE_ENTRIES = 2000;
+
+	private final IngredientMapper iMapper;
+	private final IngredientPriceHistoryMapper priceHistoryMapper;
+	private final ThreadPoolExecutor executor;
+
+	private final ConcurrentHashMap<DetailKey, IngredientDetail> cache = new ConcurrentHashMap<>();
+	// 마지막 동기화 커밋 후 무효화 시각 - 이 시각까지 조회를 시작한 결과는 캐시하지 않음
+	private volatile long invalidatedAt;
+
+	public IngredientDetailServiceImpl(
+			IngredientMapper iMapper,
+			IngredientPriceHistoryMapper priceHistoryMapper,
+			@Value("${ingredient.detail.pool-size:8}") int poolSize,
+			@Value("${ingredient.detail.queue-capacity:64}") int queueCapacity) {
+		this.iMapper = iMapper;
+		this.priceHistoryMapper = priceHistoryMapper;
+
+		AtomicInteger threadNo = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				poolSize, poolSize, 30L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				r -> {
+					Thread t = new Thread(r, "ingredient-detail-" + threadNo.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				},
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	@Override
+	public IngredientDetail getDetail(int ingredientId, int days, int maxPoints) {
+		DetailKey key = new DetailKey(ingredientId,
+				Math.max(1, Math.min(days, MAX_DAYS)),
+				Math.max(1, Math.min(maxPoints, MAX_POINTS)));
+
+		IngredientDetail cached = cache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		IngredientDetail detail = load(key);
+		if (detail != null && detail.getBuiltAt() > invalidatedAt) {
+			if (cache.size() >= MAX_CACHE_ENTRIES) {
+				cache.clear();
+			}
+			cache.put(key, detail);
+		}
+		return detail;
+	}
+
+	private IngredientDetail load(DetailKey key) {
+		long startedAt = System.currentTimeMillis();
+		int id = key.ingredientId();
+
+		CompletableFuture<Ingredient> info = supply(() -> iMapper.selectById(id));
+		CompletableFuture<List<PriceHistory>> history = supply(() -> priceHistoryMapper.getPriceHistoryWindow(
+				id, LocalDate.now().minusDays(key.days()).atStartOfDay(), key.maxPoints()));
+		CompletableFuture<NutritionMaster> nutrition = supply(() -> iMapper.selectNutritionByIngredientId(id));
+		CompletableFuture<String> safetyStatus = supply(() -> iMapper.selectSafetyStatus(id));
+
+		try {
+			CompletableFuture.allOf(info, history, nutrition, safetyStatus).join();
+		} catch (CompletionException e) {
+			// 조회 중 발생한 원래 예외를 그대로 전달
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw e;
+		}
+
+		if (info.join() == null) {
+			return null;
+		}
+		log.debug("식재료 상세 조회 - id: {}, {}ms", id, System.currentTimeMillis() - startedAt);
+		return new IngredientDetail(info.join(), history.join(), nutrition.join(), safetyStatus.join(), startedAt);
+	}
+
+	private <T> CompletableFuture<T> supply(Supplier<T> loader) {
+		return CompletableFuture.supplyAsync(loader, executor);
+	}
+
+	/**
+	 * 가격(KAMIS)/안전정보 동기화, 관리자 영양성분/안전 정보 수정 커밋 후 캐시 비움
+	 * - 기준 시각은 발행 시각이 아니라 커밋 후 리스너 실행 시각
+	 *   (발행~커밋 사이에 커밋 전 데이터로 시작한 조회도 캐시에 남지 않도록)
+	 * - 그 이후에 시작한 조회 결과만 유지/캐시
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCatalogChanged(IngredientCatalogChangedEvent event) {
+		long committedAt = System.currentTimeMillis();
+		invalidatedAt = Math.max(invalidatedAt, committedAt);
+		int before = cache.size();
+		cache.values().removeIf(detail -> detail.getBuiltAt() <= committedAt);
+		log.debug("식재료 상세 캐시 정리 - source: {}, {}건 → {}건", event.source(), before, cache.size());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private record DetailKey(int ingredientId, int days, int maxPoints) {
+	}
+}
@@ -0,0 +1,49 @@
+package com.fom.boot.domain.ingredient.model.service.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Service;
+
+import com.fom.boot.app.ingredient.dto.IngredientSuggestionDTO;
+import com.fom.boot.domain.ingredient.model.service.IngredientCatalogService;
+import com.fom.boot.domain.ingredient.model.service.IngredientSearchService;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalog;
+import com.fom.boot.domain.ingredient.model.vo.IngredientSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientSearchServiceImpl implements IngredientSearchService {
+
+	public static final int MAX_LIMIT = 50;
+
+	private final IngredientCatalogService catalogService;
+
+	// 현재 색인 (카탈로그 버전이 바뀌면 교체)
+	private final AtomicReference<IngredientSearchIndex> current = new AtomicReference<>();
+
+	@Override
+	public List<IngredientSuggestionDTO> autocomplete(String query, int limit) {
+		return getIndex().search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+	}
+
+	private IngredientSearchIndex getIndex() {
+		IngredientCatalog catalog = catalogService.getCatalog();
+		IngredientSearchIndex index = current.get();
+		if (index != null && index.getVersion() == catalog.getVersion()) {
+			return index;
+		}
+
+		// 동시에 여러 요청이 다시 만들어도 결과는 같으므로 잠금 없이 교체
+		long startedAt = System.nanoTime();
+		IngredientSearchIndex rebuilt = IngredientSearchIndex.build(catalog.getVersion(), catalog.getItems());
+		current.set(rebuilt);
+		log.info("식재료 자동완성 색인 생성 - version: {}, {}건, {}ms", rebuilt.getVersion(), rebuilt.size(),
+				(System.nanoTime() - startedAt) / 1_000_000);
+		return rebuilt;
+	}
+}
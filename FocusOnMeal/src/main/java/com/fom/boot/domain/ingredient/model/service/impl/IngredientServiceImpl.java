@@ -3,18 +3,23 @@ package com.fom.boot.domain.ingredient.model.service.impl;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fom.boot.app.admin.dto.AdminIngredientDTO;
 import com.fom.boot.app.ingredient.dto.IngredientDTO;
 import com.fom.boot.app.mypage.dto.FavoriteIngredientSummaryDTO;
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
+import com.fom.boot.common.pagination.SeekCursor;
 import com.fom.boot.domain.ingredient.model.mapper.IngredientMapper;
 import com.fom.boot.domain.ingredient.model.mapper.IngredientPriceHistoryMapper;
 import com.fom.boot.domain.ingredient.model.service.IngredientService;
 import com.fom.boot.domain.ingredient.model.vo.FavoriteIngredient;
 import com.fom.boot.domain.ingredient.model.vo.Ingredient;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
 import com.fom.boot.domain.ingredient.model.vo.NutritionMaster;
 import com.fom.boot.domain.ingredient.model.vo.PriceHistory;
 
@@ -24,12 +29,15 @@ public class IngredientServiceImpl implements IngredientService {
 	
 	private final IngredientMapper iMapper;
 	private final IngredientPriceHistoryMapper priceHistoryMapper;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	@Autowired
 	public IngredientServiceImpl(IngredientMapper iMapper,
-			 					 IngredientPriceHistoryMapper priceHistoryMapper) {
+			 					 IngredientPriceHistoryMapper priceHistoryMapper,
+			 					 ApplicationEventPublisher eventPublisher) {
 		this.iMapper = iMapper;
 		this.priceHistoryMapper = priceHistoryMapper;
+		this.eventPublisher = eventPublisher;
 	}
 	
 	// 찜 등록
@@ -101,6 +109,14 @@ public class IngredientServiceImpl implements IngredientService {
 		return iMapper.selectAdminList(type, keyword, sortColumn, sortOrder, offset, limit);
 	}
 
+	@Override
+	public CursorPage<AdminIngredientDTO> selectAdminIngredients(CursorRequest cursor, String type, String keyword) {
+		List<AdminIngredientDTO> rows = iMapper.selectAdminListByCursor(cursor, type, keyword);
+		return CursorPage.of(rows, cursor,
+				dto -> SeekCursor.ofId(dto.getIngredientId()),
+				() -> iMapper.selectAdminTotalCount(type, keyword));
+	}
+
 	@Override
 	public NutritionMaster getNutritionByIngredientId(int id) {
 		return iMapper.selectNutritionByIngredientId(id);
@@ -116,6 +132,11 @@ public class IngredientServiceImpl implements IngredientService {
 	@Transactional
 	public int updateNutrition(AdminIngredientDTO dto) {
 		// Mapper XML에서 MERGE INTO를 사용하므로, insert/update 분기 없이 바로 호출합니다.
-		return iMapper.updateNutrition(dto);
+		int result = iMapper.updateNutrition(dto);
+		if (result > 0) {
+			// 커밋 후 식재료 상세 캐시/가격 스냅샷 갱신
+			eventPublisher.publishEvent(IngredientCatalogChangedEvent.of("ADMIN_NUTRITION"));
+		}
+		return result;
 	}
 }
\ No newline at end of file
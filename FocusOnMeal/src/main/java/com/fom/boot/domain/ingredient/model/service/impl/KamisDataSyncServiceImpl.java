@@ -1,26 +1,42 @@
 package com.fom.boot.domain.ingredient.model.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fom.boot.domain.ingredient.model.mapper.IngredientMapper;
 import com.fom.boot.domain.ingredient.model.mapper.IngredientPriceHistoryMapper;
 import com.fom.boot.domain.ingredient.model.service.KamisDataSyncService;
 import com.fom.boot.domain.ingredient.model.vo.Ingredient;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
 import com.fom.boot.domain.ingredient.model.vo.PriceHistory;
 import com.fom.boot.domain.meal.model.service.KamisApiService;
 import com.fom.boot.domain.alert.model.service.PriceAlertService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * KAMIS API 데이터 동기화 서비스 구현체
+ * - 전체 부류 동기화: 부류별로 동시에 조회(kamis.sync.parallelism), 부류마다 별도 트랜잭션으로 저장
+ *   (한 부류가 실패해도 다른 부류는 커밋)
+ * - KAMIS 동시 요청 수 제한: kamis.sync.max-concurrent-requests
  */
 @Slf4j
 @Service
@@ -32,6 +48,32 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
     private final IngredientPriceHistoryMapper priceHistoryMapper;
     private final ObjectMapper objectMapper;
     private final PriceAlertService priceAlertService;
+    private final ApplicationEventPublisher eventPublisher; // 카탈로그 스냅샷 갱신 알림
+    private final TransactionTemplate transactionTemplate; // 부류별 트랜잭션
+
+    private static final String[] CATEGORIES = {"100", "200", "300", "400", "500", "600"};
+
+    // 전체 동기화 시 동시에 처리하는 부류 수
+    @Value("${kamis.sync.parallelism:3}")
+    private int syncParallelism;
+
+    // KAMIS 동시 요청 수 상한
+    @Value("${kamis.sync.max-concurrent-requests:2}")
+    private int maxConcurrentRequests;
+
+    private Semaphore upstreamPermits;
+
+    // 부류별 동기화 결과 (error가 null이면 성공)
+    private record CategoryResult(String categoryCode, int saved, String error, long elapsedMs) {
+        boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    @PostConstruct
+    void initUpstreamPermits() {
+        upstreamPermits = new Semaphore(Math.max(1, maxConcurrentRequests));
+    }
 
     @Override
     @Transactional
@@ -63,17 +105,12 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
         log.info("Category sync started - category: {}", itemCategoryCode);
 
         try {
-            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            log.info("Calling KAMIS API for category: {}, date: {}", itemCategoryCode, today);
-            String response = kamisApiService.getDailyPriceByCategoryList(itemCategoryCode, today);
-
-            if (response == null) {
-                log.error("KAMIS API response is null for category: {}", itemCategoryCode);
-                return 0;
+            String response = fetchCategory(itemCategoryCode);
+            int saved = parseAndSaveAllItems(response, itemCategoryCode);
+            if (saved > 0) {
+                publishCatalogChanged();
             }
-
-            log.debug("KAMIS API response for category {}: {}", itemCategoryCode, response.substring(0, Math.min(500, response.length())));
-            return parseAndSaveAllItems(response, itemCategoryCode);
+            return saved;
 
         } catch (Exception e) {
             log.error("Category sync failed for category: {}", itemCategoryCode, e);
@@ -135,9 +172,10 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
             priceHistory.setRegion("서울");
             priceHistory.setCollectedDate(LocalDateTime.now());
 
-            int saved = priceHistoryMapper.insertPrice(priceHistory);
+            int saved = savePrice(priceHistory);
 
             if (saved > 0) {
+                publishCatalogChanged();
                 return String.format("Sync success - item: %s, price: %d KRW, ingredientId: %d",
                         itemName, avgPrice, ingredient.getIngredientId());
             } else {
@@ -200,8 +238,11 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
             priceHistory.setRegion("서울");
             priceHistory.setCollectedDate(LocalDateTime.now());
 
-            int saved = priceHistoryMapper.insertPrice(priceHistory);
+            int saved = savePrice(priceHistory);
             log.info("Price history saved - item: {}, price: {} KRW", itemName, avgPrice);
+            if (saved > 0) {
+                publishCatalogChanged();
+            }
 
             return saved > 0;
 
@@ -282,6 +323,24 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
         return null;
     }
 
+    /**
+     * 가격 이력 저장 + 최신/직전 가격 요약(LATEST_PRICE) 반영
+     */
+    private int savePrice(PriceHistory priceHistory) {
+        int saved = priceHistoryMapper.insertPrice(priceHistory);
+        if (saved > 0) {
+            priceHistoryMapper.upsertLatestPrice(priceHistory);
+        }
+        return saved;
+    }
+
+    /**
+     * 가격이 저장되면 식재료 카탈로그 스냅샷 갱신 요청 (트랜잭션 커밋 후 처리)
+     */
+    private void publishCatalogChanged() {
+        eventPublisher.publishEvent(IngredientCatalogChangedEvent.of("KAMIS"));
+    }
+
     /**
      * 부류 코드를 한글명으로 변환
      */
@@ -299,53 +358,127 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
 
     @Override
     @Transactional
+    public int rebuildLatestPrices() {
+        int merged = priceHistoryMapper.rebuildLatestPrices();
+        log.info("LATEST_PRICE rebuilt - {} rows", merged);
+        return merged;
+    }
+
+    @Override
     public int syncAllCategories() {
         log.info("All categories sync started");
 
-        String[] categories = {"100", "200", "300", "400", "500", "600"};
-        int totalSynced = 0;
-
-        for (String category : categories) {
-            try {
-                int synced = syncCategoryPrices(category);
-                totalSynced += synced;
-                log.info("Category {} sync completed - {} items", getCategoryName(category), synced);
-            } catch (Exception e) {
-                log.error("Category {} sync failed", category, e);
-            }
-        }
+        List<CategoryResult> results = syncCategoriesConcurrently();
+        int totalSynced = results.stream().mapToInt(CategoryResult::saved).sum();
 
-        log.info("All categories sync completed - total {} items", totalSynced);
+        log.info("All categories sync completed - total {} items [{}]", totalSynced, summarize(results));
         return totalSynced;
     }
 
     @Override
-    @Transactional
     public String syncAllCategoriesAndGetResult() {
         log.info("All categories sync started (with result)");
 
-        StringBuilder result = new StringBuilder();
-        String[] categories = {"100", "200", "300", "400", "500", "600"};
-        int totalSynced = 0;
-
-        for (String category : categories) {
-            try {
-                int synced = syncCategoryPrices(category);
-                totalSynced += synced;
-                result.append(String.format("%s: %d, ", getCategoryName(category), synced));
-            } catch (Exception e) {
-                log.error("Category {} sync failed", category, e);
-                result.append(String.format("%s: failed, ", getCategoryName(category)));
-            }
-        }
+        List<CategoryResult> results = syncCategoriesConcurrently();
+        int totalSynced = results.stream().mapToInt(CategoryResult::saved).sum();
+        long succeeded = results.stream().filter(CategoryResult::succeeded).count();
 
-        String finalResult = String.format("Sync completed - total %d items [%s]", totalSynced, result.toString());
+        String finalResult = String.format("Sync completed - total %d items, %d/%d categories succeeded [%s]",
+                totalSynced, succeeded, results.size(), summarize(results));
         log.info(finalResult);
         return finalResult;
     }
 
+    /**
+     * 전체 부류 동시 동기화 (부류마다 조회 → 별도 트랜잭션으로 저장)
+     * 가격이 하나라도 저장되면 끝난 뒤 카탈로그 갱신 한 번
+     */
+    private List<CategoryResult> syncCategoriesConcurrently() {
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(syncParallelism, CATEGORIES.length)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "kamis-sync-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            List<CompletableFuture<CategoryResult>> futures = Arrays.stream(CATEGORIES)
+                    .map(category -> CompletableFuture.supplyAsync(() -> syncCategoryInOwnTransaction(category), executor))
+                    .toList();
+            List<CategoryResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+            if (results.stream().anyMatch(result -> result.saved() > 0)) {
+                publishCatalogChanged();
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private CategoryResult syncCategoryInOwnTransaction(String category) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 조회는 트랜잭션 밖에서 (KAMIS 응답을 기다리는 동안 커넥션을 잡지 않음)
+            String response = fetchCategory(category);
+            Integer saved = transactionTemplate.execute(status -> parseAndSaveAllItems(response, category));
+            long elapsed = System.currentTimeMillis() - startedAt;
+            log.info("Category {} sync completed - {} items, {}ms", getCategoryName(category), saved, elapsed);
+            return new CategoryResult(category, saved != null ? saved : 0, null, elapsed);
+
+        } catch (Exception e) {
+            long elapsed = System.currentTimeMillis() - startedAt;
+            log.error("Category {} sync failed - rolled back, {}ms", getCategoryName(category), elapsed, e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return new CategoryResult(category, 0, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName(), elapsed);
+        }
+    }
+
+    /**
+     * 부류 전체 가격 조회 (동시 요청 수 제한)
+     */
+    private String fetchCategory(String category) throws InterruptedException {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        String response;
+        upstreamPermits.acquire();
+        try {
+            log.info("Calling KAMIS API for category: {}, date: {}", category, today);
+            response = kamisApiService.getDailyPriceByCategoryList(category, today);
+        } finally {
+            upstreamPermits.release();
+        }
+
+        if (response == null) {
+            throw new IllegalStateException("KAMIS API response is null for category: " + category);
+        }
+        log.debug("KAMIS API response for category {}: {}", category, response.substring(0, Math.min(500, response.length())));
+        return response;
+    }
+
+    // "Grains: 12 (850ms), Vegetables: failed (Read timed out), ..."
+    private String summarize(List<CategoryResult> results) {
+        StringBuilder summary = new StringBuilder();
+        for (CategoryResult result : results) {
+            if (summary.length() > 0) {
+                summary.append(", ");
+            }
+            summary.append(getCategoryName(result.categoryCode())).append(": ");
+            if (result.succeeded()) {
+                summary.append(result.saved());
+            } else {
+                summary.append("failed (").append(result.error()).append(')');
+            }
+            summary.append(" (").append(result.elapsedMs()).append("ms)");
+        }
+        return summary.toString();
+    }
+
     /**
      * dailyPriceByCategoryList 응답에서 모든 품목 파싱 및 저장
+     * KAMIS 오류 코드/파싱 실패는 예외 (부류 트랜잭션 롤백), 품목 하나의 저장 실패는 건너뜀
      */
     private int parseAndSaveAllItems(String response, String categoryCode) {
         try {
@@ -355,8 +488,7 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
             // 에러 체크
             if (data.isArray() && data.size() > 0 && !data.get(0).isObject()) {
                 String errorCode = data.get(0).asText();
-                log.error("KAMIS API error code: {} for category: {}", errorCode, categoryCode);
-                return 0;
+                throw new IllegalStateException("KAMIS API error code: " + errorCode + " for category: " + categoryCode);
             }
 
             JsonNode items = data.path("item");
@@ -413,7 +545,7 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
                     priceHistory.setRegion("서울");
                     priceHistory.setCollectedDate(LocalDateTime.now());
 
-                    int saved = priceHistoryMapper.insertPrice(priceHistory);
+                    int saved = savePrice(priceHistory);
                     if (saved > 0) {
                         savedCount++;
                         log.debug("Price saved - item: {}, price: {} KRW", itemName, price);
@@ -439,9 +571,8 @@ public class KamisDataSyncServiceImpl implements KamisDataSyncService {
                     getCategoryName(categoryCode), savedCount, skippedCount, items.size());
             return savedCount;
 
-        } catch (Exception e) {
-            log.error("All items parsing and save failed", e);
-            return 0;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("KAMIS response parsing failed for category: " + categoryCode, e);
         }
     }
 }
\ No newline at end of file
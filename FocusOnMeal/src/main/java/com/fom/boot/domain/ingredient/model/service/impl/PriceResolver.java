@@ -0,0 +1,325 @@
+package com.fom.boot.domain.ingredient.model.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fom.boot.common.util.HangulUtils;
+import com.fom.boot.common.util.NGramIndex;
+import com.fom.boot.domain.ingredient.model.mapper.IngredientPriceHistoryMapper;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
+import com.fom.boot.domain.ingredient.model.vo.PriceSnapshotChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식자재명 → 가격 변환기 (DB 조회 없이 메모리 스냅샷에서 처리)
+ * - 스냅샷: 식재료별 최신 가격 (LATEST_PRICE), KAMIS 동기화 후 다시 생성
+ * - 1순위 정확히 일치, 2순위 이름에 검색어 포함 (기존 NAME LIKE '%검색어%'와 동일, 최신 수집일 우선)
+ * - 스냅샷에 없으면 기본 가격 상수 (정확히 일치 → 부분 일치)
+ * - 결과별 카운터: price.resolver.lookups{result=hit|fuzzy_hit|default|miss}
+ * - 스냅샷을 새로 만들면 PriceSnapshotChangedEvent 발행
+ */
+@Slf4j
+@Component
+public class PriceResolver {
+
+	public enum Source { HIT, FUZZY_HIT, DEFAULT, MISS }
+
+	public record Resolution(Integer price, Source source, String matchedName) {
+		static final Resolution MISS = new Resolution(null, Source.MISS, null);
+	}
+
+	// 같은 식재료를 부르는 다른 이름 → 표준 품목명
+	private static final Map<String, String> ALIASES = Map.of(
+			"소고기", "쇠고기",
+			"달걀", "계란",
+			"돈육", "돼지고기",
+			"우육", "쇠고기",
+			"계육", "닭고기",
+			"방토", "방울토마토",
+			"파", "대파");
+
+	// 메모할 검색어 수 상한 (스냅샷마다 새로 시작)
+	private static final int MAX_MEMO_SIZE = 10_000;
+
+	/**
+	 * 기본 가격 상수 (원/kg)
+	 * 스냅샷에서 찾지 못했을 때 사용되는 Fallback 가격
+	 */
+	private static final Map<String, Integer> DEFAULT_PRICES = new HashMap<>() {{
+		// 곡류 (100 카테고리)
+		put("쌀", 3500);
+		put("찹쌀", 4500);
+		put("현미", 3800);
+		put("보리쌀", 3000);
+		put("콩", 8000);
+		put("팥", 9000);
+		put("녹두", 12000);
+
+		// 채소류 (200 카테고리)
+		put("배추", 2000);
+		put("양배추", 1500);
+		put("시금치", 5000);
+		put("상추", 8000);
+		put("깻잎", 15000);
+		put("무", 1200);
+		put("당근", 2500);
+		put("양파", 1500);
+		put("대파", 3000);
+		put("마늘", 8000);
+		put("생강", 12000);
+		put("고추", 15000);
+		put("청양고추", 18000);
+		put("피망", 6000);
+		put("파프리카", 7000);
+		put("브로콜리", 5000);
+		put("오이", 3000);
+		put("호박", 2500);
+		put("애호박", 3000);
+		put("가지", 4000);
+		put("토마토", 5000);
+		put("방울토마토", 8000);
+		put("감자", 2500);
+		put("고구마", 3000);
+
+		// 과일류 (300 카테고리)
+		put("사과", 5000);
+		put("배", 6000);
+		put("감", 4000);
+		put("귤", 4500);
+		put("오렌지", 5000);
+		put("바나나", 3000);
+		put("포도", 8000);
+		put("수박", 2000);
+		put("참외", 3500);
+		put("딸기", 15000);
+		put("복숭아", 7000);
+		put("자두", 6000);
+		put("키위", 8000);
+
+		// 축산물 (400 카테고리)
+		put("쇠고기", 40000);
+		put("한우", 60000);
+		put("돼지고기", 8000);
+		put("삼겹살", 10000);
+		put("목살", 9000);
+		put("닭고기", 5000);
+		put("닭가슴살", 7000);
+		put("계란", 6000);   // 30개 기준 약 6000원 → kg당 환산
+		put("우유", 2500);   // 1L 기준
+
+		// 수산물 (500 카테고리)
+		put("고등어", 8000);
+		put("갈치", 15000);
+		put("삼치", 12000);
+		put("조기", 20000);
+		put("명태", 10000);
+		put("연어", 30000);
+		put("참치", 25000);
+		put("오징어", 12000);
+		put("낙지", 25000);
+		put("문어", 20000);
+		put("새우", 18000);
+		put("게", 30000);
+		put("조개", 8000);
+
+		// 가공식품 및 기타
+		put("두부", 4000);
+		put("된장", 12000);
+		put("고추장", 10000);
+		put("간장", 8000);
+		put("참기름", 50000);
+		put("들기름", 45000);
+		put("식용유", 5000);
+		put("버터", 15000);
+		put("치즈", 20000);
+		put("햄", 12000);
+		put("소시지", 10000);
+		put("베이컨", 18000);
+
+		// 버섯류
+		put("느타리버섯", 8000);
+		put("팽이버섯", 6000);
+		put("새송이버섯", 7000);
+		put("표고버섯", 15000);
+		put("양송이버섯", 8000);
+
+		// 해조류
+		put("김", 30000);
+		put("미역", 15000);
+		put("다시마", 12000);
+		put("파래", 20000);
+	}};
+
+	// 기본 가격 부분 일치용: 긴 키부터 (예: "청양고추 2개"는 "고추"보다 "청양고추"에 먼저 일치)
+	private static final List<String> DEFAULT_KEYS_BY_LENGTH = DEFAULT_PRICES.keySet().stream()
+			.sorted(Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()))
+			.toList();
+	private static final NGramIndex DEFAULT_KEY_INDEX = new NGramIndex(DEFAULT_KEYS_BY_LENGTH);
+
+	private final IngredientPriceHistoryMapper priceHistoryMapper;
+	private final ApplicationEventPublisher eventPublisher;
+	private final AtomicReference<Snapshot> current = new AtomicReference<>();
+	private final AtomicLong versionSeq = new AtomicLong();
+	private final Map<Source, Counter> counters = new HashMap<>();
+
+	public PriceResolver(IngredientPriceHistoryMapper priceHistoryMapper,
+			ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+		this.priceHistoryMapper = priceHistoryMapper;
+		this.eventPublisher = eventPublisher;
+		for (Source source : Source.values()) {
+			counters.put(source, Counter.builder("price.resolver.lookups")
+					.description("식자재 가격 조회 결과별 건수")
+					.tag("result", source.name().toLowerCase())
+					.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * @param ingredientName 식자재명
+	 * @return 가격과 출처 (없으면 source = MISS, price = null)
+	 */
+	public Resolution resolve(String ingredientName) {
+		String key = canonical(ingredientName);
+		if (key.isEmpty()) {
+			counters.get(Source.MISS).increment();
+			return Resolution.MISS;
+		}
+		Snapshot snapshot = getSnapshot();
+		Resolution resolution = snapshot.memo.get(key);
+		if (resolution == null) {
+			resolution = snapshot.lookup(key);
+			if (resolution == null) {
+				resolution = lookupDefault(key);
+			}
+			if (snapshot.memo.size() < MAX_MEMO_SIZE) {
+				snapshot.memo.put(key, resolution);
+			}
+		}
+		counters.get(resolution.source()).increment();
+		return resolution;
+	}
+
+	/**
+	 * 식재료 데이터 변경(KAMIS 동기화, 관리자 수정 등) 커밋 후 스냅샷 재생성 (실패하면 기존 스냅샷 유지)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCatalogChanged(IngredientCatalogChangedEvent event) {
+		try {
+			refresh();
+		} catch (Exception e) {
+			log.error("가격 스냅샷 갱신 실패 - source: {}", event.source(), e);
+		}
+	}
+
+	public void refresh() {
+		long startedAt = System.currentTimeMillis();
+		List<Map<String, Object>> rows = priceHistoryMapper.selectLatestPricePerIngredient();
+		Snapshot snapshot = new Snapshot(versionSeq.incrementAndGet(), rows);
+		current.set(snapshot);
+		log.info("가격 스냅샷 갱신 - version: {}, {}건, {}ms",
+				snapshot.version, snapshot.names.size(), System.currentTimeMillis() - startedAt);
+		eventPublisher.publishEvent(new PriceSnapshotChangedEvent(snapshot.version));
+	}
+
+	// 현재 스냅샷 버전 (아직 없으면 생성)
+	public long getVersion() {
+		return getSnapshot().version;
+	}
+
+	private Snapshot getSnapshot() {
+		Snapshot snapshot = current.get();
+		if (snapshot == null) {
+			synchronized (this) {
+				if (current.get() == null) {
+					refresh();
+				}
+				snapshot = current.get();
+			}
+		}
+		return snapshot;
+	}
+
+	private static Resolution lookupDefault(String key) {
+		Integer exact = DEFAULT_PRICES.get(key);
+		if (exact != null) {
+			return new Resolution(exact, Source.DEFAULT, key);
+		}
+		// 검색어가 키를 포함 (예: "국산 양배추" → "양배추")
+		for (String defaultKey : DEFAULT_KEYS_BY_LENGTH) {
+			if (key.contains(defaultKey)) {
+				return new Resolution(DEFAULT_PRICES.get(defaultKey), Source.DEFAULT, defaultKey);
+			}
+		}
+		// 키가 검색어를 포함 (예: "버섯" → "느타리버섯"), 짧은 키 우선
+		int[] candidates = DEFAULT_KEY_INDEX.candidates(key);
+		for (int i = candidates.length - 1; i >= 0; i--) {
+			String defaultKey = DEFAULT_KEYS_BY_LENGTH.get(candidates[i]);
+			if (defaultKey.contains(key)) {
+				return new Resolution(DEFAULT_PRICES.get(defaultKey), Source.DEFAULT, defaultKey);
+			}
+		}
+		return Resolution.MISS;
+	}
+
+	// 공백 제거 + 별칭 치환
+	private static String canonical(String ingredientName) {
+		String key = HangulUtils.normalize(ingredientName);
+		return ALIASES.getOrDefault(key, key);
+	}
+
+	/**
+	 * 식재료별 최신 가격 스냅샷 (불변, memo만 조회 중에 채워짐)
+	 * - names/prices: 최신 수집일 순 → 부분 일치 후보 중 앞쪽이 가장 최신
+	 */
+	private static final class Snapshot {
+
+		private final long version;
+		private final List<String> names = new ArrayList<>();
+		private final List<Integer> prices = new ArrayList<>();
+		private final Map<String, Integer> exact = new HashMap<>();
+		private final NGramIndex index;
+		private final ConcurrentHashMap<String, Resolution> memo = new ConcurrentHashMap<>();
+
+		Snapshot(long version, List<Map<String, Object>> rows) {
+			this.version = version;
+			for (Map<String, Object> row : rows) {
+				Object name = row.get("name");
+				Object price = row.get("priceValue");
+				if (name == null || !(price instanceof Number number)) {
+					continue;
+				}
+				String key = HangulUtils.normalize(name.toString());
+				names.add(key);
+				prices.add(number.intValue());
+				exact.putIfAbsent(key, number.intValue());
+			}
+			this.index = new NGramIndex(names);
+		}
+
+		Resolution lookup(String key) {
+			Integer price = exact.get(key);
+			if (price != null) {
+				return new Resolution(price, Source.HIT, key);
+			}
+			for (int idx : index.candidates(key)) {
+				if (names.get(idx).contains(key)) {
+					return new Resolution(prices.get(idx), Source.FUZZY_HIT, names.get(idx));
+				}
+			}
+			return null;
+		}
+	}
+}
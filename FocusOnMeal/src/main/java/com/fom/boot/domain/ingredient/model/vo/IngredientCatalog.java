@@ -0,0 +1,35 @@
+package com.fom.boot.domain.ingredient.model.vo;
+
+import java.util.List;
+
+import com.fom.boot.app.ingredient.dto.IngredientDTO;
+
+import lombok.Getter;
+
+/**
+ * 리스트 페이지용 식재료 카탈로그 스냅샷 (불변)
+ * - 동기화(KAMIS/식품안전) 후 새로 만들어 통째로 교체
+ * - body: 응답 JSON을 미리 직렬화해 둔 값 (요청마다 직렬화하지 않음)
+ * - etag: body의 SHA-256 기반 강한 ETag (내용이 같으면 재시작 후에도 같은 값)
+ */
+@Getter
+public class IngredientCatalog {
+
+    private final long version;              // 스냅샷 버전 (내용이 바뀔 때마다 1 증가)
+    private final String etag;               // "..." 형태의 강한 ETag
+    private final List<IngredientDTO> items; // 식재료 목록 (수정 불가)
+    private final byte[] body;               // 직렬화된 JSON (수정하지 말 것)
+    private final long builtAt;              // 스냅샷 생성 시작 시각 (ms)
+
+    public IngredientCatalog(long version, String etag, List<IngredientDTO> items, byte[] body, long builtAt) {
+        this.version = version;
+        this.etag = etag;
+        this.items = List.copyOf(items);
+        this.body = body;
+        this.builtAt = builtAt;
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fom.boot.domain.ingredient.model.vo;
+
+/**
+ * 식재료 카탈로그(가격/안전 알림)가 바뀌었음을 알리는 이벤트
+ * - 동기화 서비스가 데이터를 저장했을 때, 관리자가 영양성분/안전 정보를 수정했을 때 발행
+ * - 트랜잭션 커밋 후 IngredientCatalogService/PriceResolver가 스냅샷을 다시 만들고 식재료 상세 캐시를 비움
+ * - 발행 시각은 싣지 않음 (트랜잭션 안에서 찍혀 커밋보다 이르므로) - 리스너가 실행 시각을 기준으로 판단
+ * @param source 발행한 곳 (로그용)
+ */
+public record IngredientCatalogChangedEvent(String source) {
+
+    public static IngredientCatalogChangedEvent of(String source) {
+        return new IngredientCatalogChangedEvent(source);
+    }
+}
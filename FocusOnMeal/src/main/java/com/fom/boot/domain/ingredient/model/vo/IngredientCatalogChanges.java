@@ -0,0 +1,42 @@
+package com.fom.boot.domain.ingredient.model.vo;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fom.boot.app.ingredient.dto.IngredientDTO;
+
+import lombok.Getter;
+
+/**
+ * 식재료 카탈로그 변경분 응답 (/ingredient/api/list/changes)
+ * - full = false: since 이후 바뀐 행(changed)과 삭제된 ID(removed)만
+ * - full = true: 변경 이력이 남아 있지 않아 전체 목록(items)을 대신 내려줌
+ * - 클라이언트는 응답의 version을 다음 요청의 since로 사용
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngredientCatalogChanges {
+
+    private final long version;
+    private final boolean full;
+    private final List<IngredientDTO> items;    // full일 때만
+    private final List<IngredientDTO> changed;  // 추가/변경된 식재료
+    private final List<Integer> removed;        // 삭제된 식재료 ID (tombstone)
+
+    private IngredientCatalogChanges(long version, boolean full, List<IngredientDTO> items,
+            List<IngredientDTO> changed, List<Integer> removed) {
+        this.version = version;
+        this.full = full;
+        this.items = items;
+        this.changed = changed;
+        this.removed = removed;
+    }
+
+    public static IngredientCatalogChanges full(IngredientCatalog catalog) {
+        return new IngredientCatalogChanges(catalog.getVersion(), true, catalog.getItems(), null, null);
+    }
+
+    public static IngredientCatalogChanges delta(long version, List<IngredientDTO> changed, List<Integer> removed) {
+        return new IngredientCatalogChanges(version, false, null, List.copyOf(changed), List.copyOf(removed));
+    }
+}
@@ -0,0 +1,29 @@
+package com.fom.boot.domain.ingredient.model.vo;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 상세 페이지용 식재료 정보 묶음 (불변)
+ * - 기본 정보/가격 이력/영양 성분/안전 위험도를 한 번에 조회해 캐시
+ * - history: 조회 기간·최대 개수로 잘라낸 최신순 이력
+ */
+@Getter
+public class IngredientDetail {
+
+    private final Ingredient info;              // 식재료 기본 정보
+    private final List<PriceHistory> history;   // 가격 이력 (그래프용, 수정 불가)
+    private final NutritionMaster nutrition;    // 영양 성분 정보 (없으면 null)
+    private final String safetyStatus;          // 안전 위험도
+    private final long builtAt;                 // 조회 시각 (ms)
+
+    public IngredientDetail(Ingredient info, List<PriceHistory> history, NutritionMaster nutrition,
+            String safetyStatus, long builtAt) {
+        this.info = info;
+        this.history = List.copyOf(history);
+        this.nutrition = nutrition;
+        this.safetyStatus = safetyStatus;
+        this.builtAt = builtAt;
+    }
+}
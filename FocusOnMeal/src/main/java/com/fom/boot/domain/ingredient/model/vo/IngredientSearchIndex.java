@@ -0,0 +1,119 @@
+package com.fom.boot.domain.ingredient.model.vo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.fom.boot.app.ingredient.dto.IngredientDTO;
+import com.fom.boot.app.ingredient.dto.IngredientSuggestionDTO;
+import com.fom.boot.common.util.HangulUtils;
+import com.fom.boot.common.util.NGramIndex;
+
+import lombok.Getter;
+
+/**
+ * 식재료 자동완성용 메모리 색인 (불변, 카탈로그 스냅샷 버전별로 생성)
+ * - 이름 1·2-gram → 식재료 위치 목록으로 후보를 좁힌 뒤 실제 문자열로 확인
+ * - 초성 검색("ㄷㅈ", "돼ㅈ")은 이름의 초성 문자열 n-gram으로 후보를 찾음
+ * - 순위: 완전 일치 > 앞부분 일치 > 중간 일치 > 초성 일치 > 분류 일치, 같으면 앞쪽 위치·짧은 이름 우선
+ */
+public class IngredientSearchIndex {
+
+	public enum MatchType { EXACT, PREFIX, INFIX, CHOSEONG, CATEGORY }
+
+	@Getter
+	private final long version;          // 기반 카탈로그 버전
+	private final Entry[] entries;
+	private final NGramIndex nameGrams;
+	private final NGramIndex choseongGrams;
+
+	private IngredientSearchIndex(long version, Entry[] entries,
+			NGramIndex nameGrams, NGramIndex choseongGrams) {
+		this.version = version;
+		this.entries = entries;
+		this.nameGrams = nameGrams;
+		this.choseongGrams = choseongGrams;
+	}
+
+	public static IngredientSearchIndex build(long version, List<IngredientDTO> items) {
+		Entry[] entries = new Entry[items.size()];
+		List<String> names = new ArrayList<>(entries.length);
+		List<String> choseongs = new ArrayList<>(entries.length);
+
+		for (int i = 0; i < entries.length; i++) {
+			IngredientDTO item = items.get(i);
+			String name = HangulUtils.normalize(item.getName());
+			Entry entry = new Entry(item.getIngredientId(), item.getName(), item.getCategory(),
+					name, HangulUtils.toChoseong(name), HangulUtils.normalize(item.getCategory()));
+			entries[i] = entry;
+			names.add(entry.key);
+			choseongs.add(entry.choseong);
+		}
+		return new IngredientSearchIndex(version, entries, new NGramIndex(names), new NGramIndex(choseongs));
+	}
+
+	public int size() {
+		return entries.length;
+	}
+
+	/**
+	 * @param query 입력 중인 검색어 (공백·대소문자 무시)
+	 * @param limit 최대 결과 수
+	 */
+	public List<IngredientSuggestionDTO> search(String query, int limit) {
+		String q = HangulUtils.normalize(query);
+		if (q.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		List<Match> matches = new ArrayList<>();
+		boolean[] matched = new boolean[entries.length];
+
+		if (HangulUtils.containsChoseong(q)) {
+			for (int idx : choseongGrams.candidates(HangulUtils.toChoseong(q))) {
+				int pos = HangulUtils.indexOfWithChoseong(entries[idx].key, q);
+				if (pos >= 0) {
+					matches.add(new Match(entries[idx], MatchType.CHOSEONG, pos));
+					matched[idx] = true;
+				}
+			}
+		} else {
+			for (int idx : nameGrams.candidates(q)) {
+				Entry entry = entries[idx];
+				int pos = entry.key.indexOf(q);
+				if (pos >= 0) {
+					MatchType type = entry.key.length() == q.length() ? MatchType.EXACT
+							: pos == 0 ? MatchType.PREFIX : MatchType.INFIX;
+					matches.add(new Match(entry, type, pos));
+					matched[idx] = true;
+				}
+			}
+		}
+
+		// 분류명으로 입력한 경우 (예: "채소")
+		for (int i = 0; i < entries.length; i++) {
+			if (!matched[i] && entries[i].categoryKey.startsWith(q)) {
+				matches.add(new Match(entries[i], MatchType.CATEGORY, 0));
+			}
+		}
+
+		return matches.stream()
+				.sorted(Match.RANKING)
+				.limit(limit)
+				.map(m -> new IngredientSuggestionDTO(m.entry.ingredientId, m.entry.name,
+						m.entry.category, m.type.name()))
+				.toList();
+	}
+
+	private record Entry(int ingredientId, String name, String category,
+			String key, String choseong, String categoryKey) {
+	}
+
+	private record Match(Entry entry, MatchType type, int position) {
+		static final Comparator<Match> RANKING = Comparator
+				.comparing(Match::type)
+				.thenComparingInt(Match::position)
+				.thenComparingInt(m -> m.entry().key().length())
+				.thenComparing(m -> m.entry().key());
+	}
+}
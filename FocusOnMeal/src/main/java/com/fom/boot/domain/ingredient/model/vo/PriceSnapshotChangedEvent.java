@@ -0,0 +1,10 @@
+package com.fom.boot.domain.ingredient.model.vo;
+
+/**
+ * 가격 스냅샷(PriceResolver)이 새로 만들어졌음을 알리는 이벤트
+ * - 가격 기반 캐시(프롬프트 가격 정보 등)는 이 이벤트를 받아 다시 생성
+ *
+ * @param version 새 스냅샷 버전
+ */
+public record PriceSnapshotChangedEvent(long version) {
+}
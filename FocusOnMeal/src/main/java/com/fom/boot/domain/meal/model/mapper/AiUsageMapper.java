@@ -0,0 +1,18 @@
+package com.fom.boot.domain.meal.model.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.fom.boot.domain.meal.model.vo.AiUsage;
+
+@Mapper
+public interface AiUsageMapper {
+
+    /**
+     * 사용량 누적 (회원+일자 행이 있으면 더하고, 없으면 추가)
+     * @param usages 누적할 사용량 (비어 있으면 안 됨)
+     * @return 반영된 행 수
+     */
+    int mergeUsages(List<AiUsage> usages);
+}
@@ -0,0 +1,29 @@
+package com.fom.boot.domain.meal.model.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.fom.boot.domain.meal.model.vo.MealCatalogEntry;
+
+@Mapper
+public interface MealCatalogMapper {
+
+    /**
+     * 카탈로그 전체 조회
+     */
+    List<MealCatalogEntry> selectCatalog();
+
+    /**
+     * 카탈로그 전체 삭제 (재생성 전)
+     * @return 삭제된 행 수
+     */
+    int deleteCatalog();
+
+    /**
+     * 카탈로그 여러 건 저장 (INSERT 한 번)
+     * @param entries 저장할 식단 (비어 있으면 안 됨)
+     * @return 저장된 행 수
+     */
+    int insertCatalogEntries(List<MealCatalogEntry> entries);
+}
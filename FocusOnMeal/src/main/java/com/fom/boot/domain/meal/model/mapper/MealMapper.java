@@ -1,5 +1,7 @@
 package com.fom.boot.domain.meal.model.mapper;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import com.fom.boot.domain.meal.model.vo.MealPlan;
 
@@ -12,4 +14,11 @@ public interface MealMapper {
      * @return 저장된 행 수
      */
     int insertMealPlan(MealPlan mealPlan);
+
+    /**
+     * 식단 여러 건 저장 (INSERT 한 번)
+     * @param mealPlans 저장할 식단 목록 (비어 있으면 안 됨)
+     * @return 저장된 행 수
+     */
+    int insertMealPlans(List<MealPlan> mealPlans);
 }
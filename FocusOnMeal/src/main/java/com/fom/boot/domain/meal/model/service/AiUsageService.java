@@ -0,0 +1,27 @@
+package com.fom.boot.domain.meal.model.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 회원별 AI 사용량(토큰 수) 집계
+ * - 호출마다 DB에 쓰지 않고 메모리에 모았다가 flush()로 한 번에 반영
+ */
+public interface AiUsageService {
+
+    /**
+     * task 실행 중 기록되는 사용량을 memberKey 몫으로 집계
+     * @param memberKey 회원 ID 또는 "ip:주소"
+     */
+    <T> T callAs(String memberKey, Supplier<T> task);
+
+    /**
+     * Gemini 호출 1건의 토큰 수 기록 (callAs 밖이면 "system" 몫)
+     */
+    void record(long promptTokens, long responseTokens);
+
+    /**
+     * 모아 둔 사용량을 DB에 반영
+     * @return 반영한 행 수 (실패 시 0, 사용량은 다음 flush로 이월)
+     */
+    int flush();
+}
@@ -1,9 +1,27 @@
 package com.fom.boot.domain.meal.model.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+
+import com.fom.boot.domain.meal.model.vo.ChatContext;
 
 public interface GeminiApiService {
     String testConnection();
 
-    String generateMealPlan(int height, int weight, int servingSize, List<String> allergies, String message, Integer previousPrice);
+    default String generateMealPlan(int height, int weight, int servingSize, List<String> allergies, String message, Integer previousPrice) {
+        return generateMealPlan(height, weight, servingSize, allergies, message, previousPrice, null);
+    }
+
+    /**
+     * 식단 추천 생성 - 채팅 세션의 이전 대화(context)를 프롬프트에 함께 넣음 (없으면 null)
+     */
+    String generateMealPlan(int height, int weight, int servingSize, List<String> allergies, String message,
+                            Integer previousPrice, ChatContext context);
+
+    /**
+     * 식단 추천 스트리밍 - 생성되는 텍스트 조각을 순서대로 onText에 전달 (끝날 때까지 블로킹)
+     * @param context 채팅 세션의 이전 대화 (없으면 null)
+     */
+    void streamMealPlan(int height, int weight, int servingSize, List<String> allergies, String message,
+                        Integer previousPrice, ChatContext context, Consumer<String> onText);
 }
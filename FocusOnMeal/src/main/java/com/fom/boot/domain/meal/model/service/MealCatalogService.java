@@ -0,0 +1,35 @@
+package com.fom.boot.domain.meal.model.service;
+
+import java.util.List;
+
+import com.fom.boot.app.meal.dto.MealPlanResponse;
+
+/**
+ * 미리 생성해 둔 식단 카탈로그
+ * - 한가한 시간에 칼로리/예산/알레르기 구간별 식단을 생성, 가격 계산해서 저장
+ * - Gemini 없이 메모리 인덱스에서 바로 응답 (이름 일치, 장애 시 근접 검색)
+ */
+public interface MealCatalogService {
+
+    /**
+     * 카탈로그 재생성 (구간별 Gemini 호출 → 가격 계산 → 전체 교체)
+     * @return 저장한 식단 수 (중단/실패 시 0, 기존 카탈로그 유지)
+     */
+    int rebuild();
+
+    /**
+     * 요청 메시지에 이름이 나오는 카탈로그 식단 (알레르기 제외, 없으면 null)
+     */
+    MealPlanResponse findByName(String message, List<String> allergies);
+
+    /**
+     * 신체 정보/예산/끼니에 가장 가까운 카탈로그 식단 (알레르기 제외, 없으면 null)
+     * @param previousPrice 이전 추천 가격 (있으면 그보다 저렴한 식단)
+     */
+    MealPlanResponse findNearest(int height, int weight, List<String> allergies, String message, Integer previousPrice);
+
+    /**
+     * @return 메모리에 올라온 카탈로그 식단 수
+     */
+    int size();
+}
@@ -1,5 +1,7 @@
 package com.fom.boot.domain.meal.model.service;
 
+import java.util.List;
+
 import com.fom.boot.domain.meal.model.vo.MealPlan;
 
 public interface MealService {
@@ -10,4 +12,11 @@ public interface MealService {
      * @return 저장 성공 여부
      */
     boolean saveMealPlan(MealPlan mealPlan);
+
+    /**
+     * 식단 여러 건 저장 (한 번의 INSERT)
+     * @param mealPlans 저장할 식단 목록
+     * @return 저장된 식단 수 (실패 시 0)
+     */
+    int saveMealPlans(List<MealPlan> mealPlans);
 }
@@ -0,0 +1,17 @@
+package com.fom.boot.domain.meal.model.service;
+
+/**
+ * AI 식단 추천 프롬프트용 주요 식자재 가격 정보
+ * - 가격 스냅샷이 바뀔 때만 다시 만들고, 평소에는 만들어 둔 문자열을 그대로 반환
+ */
+public interface PriceContextService {
+
+	// 분류별 가격 정보 문자열 (가격 정보가 없으면 안내 문구)
+	String getPriceContext();
+
+	// 같은 가격 정보의 표 형식 ("분류|품목=가격|..." 한 줄씩, 가격 정보가 없으면 빈 문자열)
+	String getCompactPriceContext();
+
+	// 현재 가격 정보 버전 (가격 스냅샷이 바뀌면 증가, 캐시 키 용도)
+	long getVersion();
+}
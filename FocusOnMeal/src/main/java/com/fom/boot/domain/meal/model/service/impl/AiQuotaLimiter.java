@@ -0,0 +1,135 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 생성 요청 회원(또는 IP)별 제한 - 토큰 버킷
+ * - 버킷마다 최대 burst개, 초당 refill-per-minute/60개씩 다시 참
+ * - 요청 비용만큼 꺼낼 수 없으면 거절하고 다시 시도할 수 있는 시간(초)을 알려줌
+ * - 꺼낸 뒤 생성 풀 포화로 실행하지 못한 요청은 refund()로 되돌림
+ * - 가득 찬(한동안 쓰지 않은) 버킷은 키가 max-keys를 넘을 때 정리
+ * - 지표: meal.quota{result=allowed|throttled}, meal.quota.keys
+ */
+@Slf4j
+@Component
+public class AiQuotaLimiter {
+
+	private final double burst;
+	private final double refillPerSecond;
+	private final int maxKeys;
+	private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+	private final Counter allowedCounter;
+	private final Counter throttledCounter;
+
+	/**
+	 * @param allowed 허용 여부
+	 * @param retryAfterSeconds 거절 시 다시 시도할 수 있을 때까지 남은 시간 (허용이면 0)
+	 */
+	public record Decision(boolean allowed, long retryAfterSeconds) {}
+
+	private static final class Bucket {
+		private double tokens;
+		private long updatedAt;
+
+		private Bucket(double tokens, long updatedAt) {
+			this.tokens = tokens;
+			this.updatedAt = updatedAt;
+		}
+	}
+
+	public AiQuotaLimiter(
+			MeterRegistry meterRegistry,
+			@Value("${meal.quota.burst:10}") int burst,
+			@Value("${meal.quota.refill-per-minute:12}") int refillPerMinute,
+			@Value("${meal.quota.max-keys:10000}") int maxKeys) {
+		this.burst = Math.max(1, burst);
+		this.refillPerSecond = Math.max(1, refillPerMinute) / 60.0;
+		this.maxKeys = maxKeys;
+
+		this.allowedCounter = counter(meterRegistry, "allowed");
+		this.throttledCounter = counter(meterRegistry, "throttled");
+		Gauge.builder("meal.quota.keys", buckets, ConcurrentMap::size)
+				.description("요청 제한 버킷 수 (회원/IP)")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * @param key 회원 ID 또는 IP
+	 * @param cost 꺼낼 토큰 수 (burst보다 크면 burst로 제한)
+	 */
+	public Decision tryAcquire(String key, int cost) {
+		long now = System.nanoTime();
+		double need = Math.min(Math.max(1, cost), burst);
+		if (buckets.size() > maxKeys) {
+			evictFull(now);
+		}
+		Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(burst, now));
+
+		synchronized (bucket) {
+			refill(bucket, now);
+			if (bucket.tokens >= need) {
+				bucket.tokens -= need;
+				allowedCounter.increment();
+				return new Decision(true, 0);
+			}
+			long retryAfter = (long) Math.ceil((need - bucket.tokens) / refillPerSecond);
+			throttledCounter.increment();
+			log.info("AI 요청 제한 - key: {}, 남은 토큰: {}, {}초 후 가능", key, String.format("%.1f", bucket.tokens), retryAfter);
+			return new Decision(false, Math.max(1, retryAfter));
+		}
+	}
+
+	/**
+	 * tryAcquire로 꺼낸 토큰을 되돌림 (생성 풀이 거절해 Gemini를 호출하지 않은 경우)
+	 *
+	 * @param key 회원 ID 또는 IP
+	 * @param cost tryAcquire에 넘긴 비용
+	 */
+	public void refund(String key, int cost) {
+		Bucket bucket = buckets.get(key);
+		if (bucket == null) {
+			return;
+		}
+		double amount = Math.min(Math.max(1, cost), burst);
+		synchronized (bucket) {
+			refill(bucket, System.nanoTime());
+			bucket.tokens = Math.min(burst, bucket.tokens + amount);
+		}
+	}
+
+	private void refill(Bucket bucket, long now) {
+		double elapsedSeconds = (now - bucket.updatedAt) / 1_000_000_000.0;
+		bucket.tokens = Math.min(burst, bucket.tokens + elapsedSeconds * refillPerSecond);
+		bucket.updatedAt = now;
+	}
+
+	// 가득 찬 버킷은 지워도 새로 만든 버킷과 같으므로 제거
+	private void evictFull(long now) {
+		int before = buckets.size();
+		buckets.entrySet().removeIf(entry -> {
+			Bucket bucket = entry.getValue();
+			synchronized (bucket) {
+				refill(bucket, now);
+				return bucket.tokens >= burst;
+			}
+		});
+		log.debug("요청 제한 버킷 정리 - {} → {}", before, buckets.size());
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("meal.quota")
+				.description("AI 요청 제한 결과")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,152 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fom.boot.domain.meal.model.mapper.AiUsageMapper;
+import com.fom.boot.domain.meal.model.service.AiUsageService;
+import com.fom.boot.domain.meal.model.vo.AiUsage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 AI 사용량 집계
+ * - (회원, 일자)별 합계를 메모리에 누적, 스케줄러가 주기적으로 MERGE 한 번(batch-size행 단위)으로 반영
+ * - 반영 실패 시 다시 누적해서 다음 주기에 반영, 종료 시 남은 값 반영
+ * - 지표: meal.ai.tokens{type=prompt|response}, meal.ai.usage.pending
+ */
+@Slf4j
+@Service
+public class AiUsageServiceImpl implements AiUsageService {
+
+	private static final String SYSTEM_KEY = "system";
+
+	// 현재 스레드의 Gemini 호출을 누구 몫으로 기록할지
+	private static final ThreadLocal<String> CURRENT_MEMBER = new ThreadLocal<>();
+
+	private final AiUsageMapper usageMapper;
+	private final int batchSize;
+	private final ConcurrentMap<UsageKey, Totals> pending = new ConcurrentHashMap<>();
+	private final Object flushLock = new Object();
+
+	private final Counter promptTokenCounter;
+	private final Counter responseTokenCounter;
+
+	private record UsageKey(String memberKey, LocalDate date) {}
+
+	private record Totals(long requests, long promptTokens, long responseTokens) {
+		Totals plus(Totals other) {
+			return new Totals(requests + other.requests, promptTokens + other.promptTokens,
+					responseTokens + other.responseTokens);
+		}
+	}
+
+	public AiUsageServiceImpl(
+			AiUsageMapper usageMapper,
+			MeterRegistry meterRegistry,
+			@Value("${meal.usage.batch-size:500}") int batchSize) {
+		this.usageMapper = usageMapper;
+		this.batchSize = Math.max(1, batchSize);
+
+		this.promptTokenCounter = counter(meterRegistry, "prompt");
+		this.responseTokenCounter = counter(meterRegistry, "response");
+		Gauge.builder("meal.ai.usage.pending", pending, ConcurrentMap::size)
+				.description("DB 반영 전 사용량 행 수")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public <T> T callAs(String memberKey, Supplier<T> task) {
+		String previous = CURRENT_MEMBER.get();
+		CURRENT_MEMBER.set(memberKey);
+		try {
+			return task.get();
+		} finally {
+			if (previous != null) {
+				CURRENT_MEMBER.set(previous);
+			} else {
+				CURRENT_MEMBER.remove();
+			}
+		}
+	}
+
+	@Override
+	public void record(long promptTokens, long responseTokens) {
+		String memberKey = CURRENT_MEMBER.get();
+		UsageKey key = new UsageKey(memberKey != null ? memberKey : SYSTEM_KEY, LocalDate.now());
+		// 불변 값으로 합치므로 flush 중 remove와 겹쳐도 누락 없음
+		pending.merge(key, new Totals(1, promptTokens, responseTokens), Totals::plus);
+		promptTokenCounter.increment(promptTokens);
+		responseTokenCounter.increment(responseTokens);
+	}
+
+	@Override
+	public int flush() {
+		synchronized (flushLock) {
+			List<UsageKey> keys = new ArrayList<>(pending.keySet());
+			List<UsageKey> taken = new ArrayList<>();
+			List<AiUsage> rows = new ArrayList<>();
+			for (UsageKey key : keys) {
+				Totals totals = pending.remove(key);
+				if (totals != null) {
+					taken.add(key);
+					rows.add(new AiUsage(key.memberKey(), Date.valueOf(key.date()),
+							totals.requests(), totals.promptTokens(), totals.responseTokens()));
+				}
+			}
+			if (rows.isEmpty()) {
+				return 0;
+			}
+
+			int written = 0;
+			for (int from = 0; from < rows.size(); from += batchSize) {
+				int to = Math.min(from + batchSize, rows.size());
+				try {
+					written += usageMapper.mergeUsages(rows.subList(from, to));
+				} catch (Exception e) {
+					log.error("AI 사용량 반영 실패 - {}건 이월", rows.size() - from, e);
+					restore(taken.subList(from, taken.size()), rows.subList(from, rows.size()));
+					return written;
+				}
+			}
+			log.debug("AI 사용량 반영 - {}건", written);
+			return written;
+		}
+	}
+
+	// 반영하지 못한 사용량을 다시 누적
+	private void restore(List<UsageKey> keys, List<AiUsage> rows) {
+		for (int i = 0; i < keys.size(); i++) {
+			AiUsage row = rows.get(i);
+			pending.merge(keys.get(i), new Totals(row.getRequestCount(), row.getPromptTokens(),
+					row.getResponseTokens()), Totals::plus);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		int written = flush();
+		if (written > 0) {
+			log.info("종료 전 AI 사용량 반영 - {}건", written);
+		}
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String type) {
+		return Counter.builder("meal.ai.tokens")
+				.description("Gemini 사용 토큰 수")
+				.tag("type", type)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,199 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.domain.meal.model.vo.ChatContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 세션 메모리 (LRU + 유휴 TTL)
+ * - 세션마다 최근 recent-turns개 대화는 그대로, 그 이전 대화는 "요청→식단(가격)" 한 줄 요약으로 접어서 보관
+ * - 요약 + 최근 대화의 추정 토큰 수가 max-context-tokens를 넘으면 오래된 요약부터, 그래도 넘으면 오래된 대화부터 버림
+ *   → 대화가 길어져도 프롬프트 크기는 일정
+ * - 세션에서 말한 알러지는 기억 (요청에 알러지가 없을 때 사용)
+ * - 지표: meal.chat.sessions, meal.chat.sessions.evicted{reason=idle|capacity}, meal.chat.context.tokens
+ */
+@Slf4j
+@Component
+public class ChatSessionStore {
+
+	// 한 대화에서 보관하는 요청 최대 길이 (붙여넣은 긴 글 대비)
+	private static final int MAX_MESSAGE_LENGTH = 200;
+
+	private final int maxSessions;
+	private final long idleTtlMillis;
+	private final int recentTurns;
+	private final int maxContextTokens;
+	private final Map<String, Session> sessions;
+
+	private final Counter idleEvictionCounter;
+	private final Counter capacityEvictionCounter;
+	private final DistributionSummary contextTokens;
+
+	private static final class Session {
+		private final Deque<String> summary = new ArrayDeque<>();
+		private final Deque<ChatContext.Turn> turns = new ArrayDeque<>();
+		private final Set<String> allergies = new LinkedHashSet<>();
+		private long lastAccess;
+	}
+
+	public ChatSessionStore(
+			MeterRegistry meterRegistry,
+			@Value("${meal.chat-session.max-sessions:1000}") int maxSessions,
+			@Value("${meal.chat-session.idle-ttl-seconds:1800}") long idleTtlSeconds,
+			@Value("${meal.chat-session.recent-turns:4}") int recentTurns,
+			@Value("${meal.chat-session.max-context-tokens:300}") int maxContextTokens) {
+		this.maxSessions = maxSessions;
+		this.idleTtlMillis = idleTtlSeconds * 1000;
+		this.recentTurns = Math.max(1, recentTurns);
+		this.maxContextTokens = Math.max(0, maxContextTokens);
+		// accessOrder = true : 맨 앞이 가장 오래 안 쓴 세션
+		this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+				if (size() > ChatSessionStore.this.maxSessions) {
+					capacityEvictionCounter.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+
+		this.idleEvictionCounter = evictionCounter(meterRegistry, "idle");
+		this.capacityEvictionCounter = evictionCounter(meterRegistry, "capacity");
+		this.contextTokens = DistributionSummary.builder("meal.chat.context.tokens")
+				.description("프롬프트에 넣은 이전 대화 추정 토큰 수")
+				.register(meterRegistry);
+		Gauge.builder("meal.chat.sessions", this, ChatSessionStore::size)
+				.description("보관 중인 채팅 세션 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * @param key 세션 키 (회원 키 + 세션 ID)
+	 * @return 이전 대화 (세션이 없거나 만료되면 null)
+	 */
+	public ChatContext get(String key) {
+		synchronized (sessions) {
+			long now = System.currentTimeMillis();
+			evictIdle(now);
+			Session session = sessions.get(key);
+			if (session == null) {
+				return null;
+			}
+			session.lastAccess = now;
+			ChatContext context = new ChatContext(String.join("; ", session.summary),
+					List.copyOf(session.turns), List.copyOf(session.allergies));
+			contextTokens.record(tokensOf(session));
+			return context;
+		}
+	}
+
+	/**
+	 * 대화 1건 추가 (세션이 없으면 새로 만듦)
+	 */
+	public void append(String key, String message, String mealName, Integer price, List<String> allergies) {
+		if (maxSessions <= 0 || idleTtlMillis <= 0) {
+			return;
+		}
+		String trimmed = message == null ? "" : message.strip().replaceAll("\\s+", " ");
+		if (trimmed.length() > MAX_MESSAGE_LENGTH) {
+			trimmed = trimmed.substring(0, MAX_MESSAGE_LENGTH) + "…";
+		}
+
+		synchronized (sessions) {
+			long now = System.currentTimeMillis();
+			evictIdle(now);
+			Session session = sessions.computeIfAbsent(key, k -> new Session());
+			session.lastAccess = now;
+			if (allergies != null) {
+				allergies.stream().filter(a -> a != null && !a.isBlank()).map(String::strip)
+						.forEach(session.allergies::add);
+			}
+
+			session.turns.addLast(new ChatContext.Turn(trimmed, mealName, price));
+			// 최근 대화 수를 넘으면 가장 오래된 대화를 요약으로
+			while (session.turns.size() > recentTurns) {
+				session.summary.addLast(summarize(session.turns.removeFirst()));
+			}
+			// 토큰 상한 - 오래된 요약부터, 그래도 넘으면 오래된 대화부터 버림
+			while (tokensOf(session) > maxContextTokens) {
+				if (!session.summary.isEmpty()) {
+					session.summary.removeFirst();
+				} else if (!session.turns.isEmpty()) {
+					session.turns.removeFirst();
+				} else {
+					break;
+				}
+			}
+		}
+	}
+
+	public void remove(String key) {
+		synchronized (sessions) {
+			sessions.remove(key);
+		}
+	}
+
+	public int size() {
+		synchronized (sessions) {
+			return sessions.size();
+		}
+	}
+
+	// 접근 순서로 정렬되어 있으므로 앞에서부터 만료된 것만 제거
+	private void evictIdle(long now) {
+		Iterator<Session> iterator = sessions.values().iterator();
+		while (iterator.hasNext()) {
+			Session session = iterator.next();
+			if (now - session.lastAccess < idleTtlMillis) {
+				break;
+			}
+			iterator.remove();
+			idleEvictionCounter.increment();
+		}
+	}
+
+	// "요청→식단(가격원)"
+	private static String summarize(ChatContext.Turn turn) {
+		StringBuilder sb = new StringBuilder(turn.message()).append("→").append(turn.mealName());
+		if (turn.price() != null) {
+			sb.append('(').append(turn.price()).append("원)");
+		}
+		return sb.toString();
+	}
+
+	private static int tokensOf(Session session) {
+		int tokens = 0;
+		for (String line : session.summary) {
+			tokens += MealPromptBuilder.estimateTokens(line) + 1;
+		}
+		for (ChatContext.Turn turn : session.turns) {
+			tokens += MealPromptBuilder.estimateTokens(turn.message())
+					+ MealPromptBuilder.estimateTokens(turn.mealName()) + 3;
+		}
+		return tokens;
+	}
+
+	private static Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("meal.chat.sessions.evicted")
+				.description("제거된 채팅 세션 수")
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,127 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gemini 상태 추적 (closed → open → half-open)
+ * - 연결 실패/타임아웃/5xx/429가 failure-threshold번 연속되면 open-seconds 동안 "장애"(open)로 판단
+ *   (이 동안 식단 추천은 카탈로그에서 응답)
+ * - 장애 시간이 지나면 half-open: allowRequest()를 처음 통과한 호출 하나만 시험 삼아 보내고
+ *   나머지는 계속 카탈로그로 응답
+ * - 시험 호출이 성공하면 정상(closed), 실패하면 다시 open-seconds 동안 장애
+ * - 시험 호출이 결과를 기록하지 않으면(풀 거절, Gemini 외 오류 등) open-seconds 뒤 다음 호출 하나를 다시 시험
+ * - 지표: meal.gemini.degraded (1 = 장애 또는 시험 중)
+ */
+@Slf4j
+@Component
+public class GeminiHealthTracker {
+
+	private final int failureThreshold;
+	private final long openMillis;
+	private final LongSupplier clock;
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	// 장애 종료 시각 (0 = 정상)
+	private final AtomicLong degradedUntil = new AtomicLong();
+	// half-open 시험 호출 만료 시각 (이 시각 전에는 다른 시험 호출을 보내지 않음)
+	private final AtomicLong probeUntil = new AtomicLong();
+
+	@Autowired
+	public GeminiHealthTracker(
+			MeterRegistry meterRegistry,
+			@Value("${meal.gemini.failure-threshold:3}") int failureThreshold,
+			@Value("${meal.gemini.open-seconds:60}") long openSeconds) {
+		this(meterRegistry, failureThreshold, openSeconds, System::currentTimeMillis);
+	}
+
+	GeminiHealthTracker(MeterRegistry meterRegistry, int failureThreshold, long openSeconds, LongSupplier clock) {
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.openMillis = Math.max(1, openSeconds) * 1000;
+		this.clock = clock;
+		Gauge.builder("meal.gemini.degraded", this, tracker -> tracker.isDegraded() ? 1 : 0)
+				.description("Gemini 장애 판단 여부")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 장애(open) 또는 시험 중(half-open)인지 (상태 조회만, 시험 호출 자격은 가져가지 않음)
+	 */
+	public boolean isDegraded() {
+		return degradedUntil.get() != 0;
+	}
+
+	/**
+	 * 이번 호출을 Gemini로 보내도 되는지
+	 * - 정상: 항상 true
+	 * - 장애(open): false
+	 * - half-open: 시험 호출 하나만 true (동시에 여러 요청이 와도 CAS로 하나만 통과)
+	 */
+	public boolean allowRequest() {
+		long until = degradedUntil.get();
+		if (until == 0) {
+			return true;
+		}
+		long now = clock.getAsLong();
+		if (now < until) {
+			return false;
+		}
+		long probe = probeUntil.get();
+		if (now < probe) {
+			return false;
+		}
+		if (probeUntil.compareAndSet(probe, now + openMillis)) {
+			log.info("Gemini 시험 호출 허용 (half-open)");
+			return true;
+		}
+		return false;
+	}
+
+	public void recordSuccess() {
+		consecutiveFailures.set(0);
+		if (degradedUntil.getAndSet(0) != 0) {
+			probeUntil.set(0);
+			log.info("Gemini 정상 복구");
+		}
+	}
+
+	/**
+	 * 호출 실패 기록 (Gemini 쪽 문제가 아닌 실패는 무시)
+	 */
+	public void recordFailure(Throwable error) {
+		if (!isUpstreamFailure(error)) {
+			return;
+		}
+		int failures = consecutiveFailures.incrementAndGet();
+		if (failures >= failureThreshold) {
+			degradedUntil.set(clock.getAsLong() + openMillis);
+			probeUntil.set(0);
+			log.warn("Gemini 장애 판단 - 연속 실패 {}회, {}초 동안 카탈로그 응답", failures, openMillis / 1000);
+		}
+	}
+
+	// 연결 실패/타임아웃, 5xx, 429
+	private static boolean isUpstreamFailure(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ResourceAccessException) {
+				return true;
+			}
+			if (cause instanceof HttpStatusCodeException statusError) {
+				return statusError.getStatusCode().is5xxServerError()
+						|| statusError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,247 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fom.boot.domain.meal.model.vo.GeneratedMeal;
+
+/**
+ * AI 식단 응답(JSON) → GeneratedMeal (한 번 읽기)
+ * - ```json 펜스나 앞뒤 설명 문장은 건너뜀 (첫 '{'부터 그 객체가 닫힐 때까지만 읽음, 문자열 복사 없음)
+ * - 문자열 안의 이스케이프되지 않은 줄바꿈/제어 문자, 끝 쉼표, 작은따옴표 허용
+ * - 숫자는 3500, "3500", "3,500원" 모두 허용
+ * - JsonNode 트리를 만들지 않고 토큰을 바로 필드에 담음, 모르는 필드는 건너뜀
+ */
+public final class GeneratedMealReader {
+
+	private static final JsonFactory FACTORY = JsonFactory.builder()
+			.enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+			.enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+			.enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+			.enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+			.build();
+
+	private GeneratedMealReader() {
+	}
+
+	/**
+	 * @param aiResponse AI 응답 원문
+	 * @throws IllegalArgumentException JSON 객체가 없거나 형식이 잘못됐을 때
+	 */
+	public static GeneratedMeal read(String aiResponse) {
+		int start = aiResponse == null ? -1 : aiResponse.indexOf('{');
+		if (start < 0) {
+			throw new IllegalArgumentException("응답에 JSON 객체가 없습니다.");
+		}
+
+		try (StringReader reader = new StringReader(aiResponse);
+				JsonParser parser = FACTORY.createParser(reader)) {
+			reader.skip(start);
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IllegalArgumentException("응답에 JSON 객체가 없습니다.");
+			}
+			return readMeal(parser);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("JSON 형식 오류: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 스트리밍 파서가 넘겨준 재료 1건 (JsonNode) 변환
+	 */
+	public static GeneratedMeal.Ingredient ingredientOf(JsonNode node) {
+		return new GeneratedMeal.Ingredient(
+				node.path("name").asText(),
+				node.path("amount").asText(),
+				node.path("unit").asText(),
+				node.has("estimatedPrice") ? parseInt(node.get("estimatedPrice").asText()) : null);
+	}
+
+	/**
+	 * 스트리밍 파서가 넘겨준 영양 정보 (JsonNode) 변환
+	 */
+	public static GeneratedMeal.Nutrition nutritionOf(JsonNode node) {
+		if (node == null || !node.isObject()) {
+			return null;
+		}
+		return new GeneratedMeal.Nutrition(
+				node.path("calories").asText(),
+				node.path("carbs").asText(),
+				node.path("protein").asText(),
+				node.path("fat").asText());
+	}
+
+	/**
+	 * "3,500원", "약 3500", "3500.7" → 3500 (숫자가 없으면 null)
+	 */
+	public static Integer parseInt(String text) {
+		if (text == null) {
+			return null;
+		}
+		long value = 0;
+		boolean found = false;
+		boolean negative = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				found = true;
+				if (value > Integer.MAX_VALUE) {
+					return Integer.MAX_VALUE;
+				}
+			} else if (c == '-' && !found) {
+				negative = true;
+			} else if (found && c != ',') {
+				// 소수점이나 단위가 나오면 정수 부분에서 끝
+				break;
+			}
+		}
+		if (!found) {
+			return null;
+		}
+		return (int) (negative ? -value : value);
+	}
+
+	private static GeneratedMeal readMeal(JsonParser parser) throws IOException {
+		String mealName = null;
+		String mealType = null;
+		String description = null;
+		List<GeneratedMeal.Ingredient> ingredients = new ArrayList<>();
+		List<String> recipe = new ArrayList<>();
+		GeneratedMeal.Nutrition nutrition = null;
+		Integer estimatedPrice = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			switch (field) {
+				case "mealName" -> mealName = text(parser, token);
+				case "mealType" -> mealType = text(parser, token);
+				case "description" -> description = text(parser, token);
+				case "estimatedPrice" -> estimatedPrice = number(parser, token);
+				case "nutrition" -> nutrition = readNutrition(parser, token);
+				case "ingredients" -> readArray(parser, token, () -> {
+					GeneratedMeal.Ingredient ingredient = readIngredient(parser, parser.currentToken());
+					if (ingredient != null) {
+						ingredients.add(ingredient);
+					}
+				});
+				case "recipe" -> readArray(parser, token, () -> {
+					String step = text(parser, parser.currentToken());
+					if (step != null) {
+						recipe.add(step);
+					}
+				});
+				default -> parser.skipChildren();
+			}
+		}
+
+		if (mealName == null || mealName.isBlank()) {
+			throw new IllegalArgumentException("mealName이 없습니다.");
+		}
+		return new GeneratedMeal(mealName, nvl(mealType), nvl(description),
+				List.copyOf(ingredients), List.copyOf(recipe), nutrition, estimatedPrice);
+	}
+
+	private static GeneratedMeal.Ingredient readIngredient(JsonParser parser, JsonToken token) throws IOException {
+		if (token != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return null;
+		}
+		String name = null;
+		String amount = null;
+		String unit = null;
+		Integer estimatedPrice = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			switch (field) {
+				case "name" -> name = text(parser, value);
+				case "amount" -> amount = text(parser, value);
+				case "unit" -> unit = text(parser, value);
+				case "estimatedPrice" -> estimatedPrice = number(parser, value);
+				default -> parser.skipChildren();
+			}
+		}
+		// 이름 없는 재료는 가격을 찾을 수 없으므로 제외
+		if (name == null || name.isBlank()) {
+			return null;
+		}
+		return new GeneratedMeal.Ingredient(name, nvl(amount), nvl(unit), estimatedPrice);
+	}
+
+	private static GeneratedMeal.Nutrition readNutrition(JsonParser parser, JsonToken token) throws IOException {
+		if (token != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return null;
+		}
+		String calories = null;
+		String carbs = null;
+		String protein = null;
+		String fat = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			switch (field) {
+				case "calories" -> calories = text(parser, value);
+				case "carbs" -> carbs = text(parser, value);
+				case "protein" -> protein = text(parser, value);
+				case "fat" -> fat = text(parser, value);
+				default -> parser.skipChildren();
+			}
+		}
+		return new GeneratedMeal.Nutrition(nvl(calories), nvl(carbs), nvl(protein), nvl(fat));
+	}
+
+	private interface ElementReader {
+		void read() throws IOException;
+	}
+
+	// 배열이면 원소마다 element 호출 (원소 토큰이 현재 토큰), 배열이 아니면 건너뜀
+	private static void readArray(JsonParser parser, JsonToken token, ElementReader element) throws IOException {
+		if (token != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return;
+		}
+		JsonToken next;
+		while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if (next == null) {
+				throw new IOException("배열이 닫히지 않았습니다.");
+			}
+			element.read();
+		}
+	}
+
+	// 문자열/숫자/불리언 → 문자열, 객체/배열은 건너뛰고 null
+	private static String text(JsonParser parser, JsonToken token) throws IOException {
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (token.isScalarValue()) {
+			return parser.getText();
+		}
+		parser.skipChildren();
+		return null;
+	}
+
+	private static Integer number(JsonParser parser, JsonToken token) throws IOException {
+		if (token == JsonToken.VALUE_NUMBER_INT) {
+			return parser.getValueAsInt();
+		}
+		if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+			return (int) parser.getDoubleValue();
+		}
+		return parseInt(text(parser, token));
+	}
+
+	private static String nvl(String value) {
+		return value != null ? value : "";
+	}
+}
@@ -0,0 +1,198 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import com.fom.boot.app.meal.dto.MealPlanResponse;
+import com.fom.boot.domain.meal.model.vo.Allergen;
+
+/**
+ * 식단 카탈로그 메모리 검색 인덱스 (불변, 재생성 시 통째로 교체)
+ * - 알레르기: 식단별 Allergen 비트마스크로 한 번에 제외, 비트에 없는 알러지 이름은 재료명과 직접 비교
+ * - 근접 검색: (칼로리, 가격) 2차원 최근접 - 칼로리 순 정렬 후 목표 칼로리에서 양쪽으로 넓혀가며,
+ *   칼로리 차이만으로 현재 최선보다 멀어지면 중단
+ */
+public final class MealCatalogIndex {
+
+	// 거리 계산 단위 (100kcal 차이 = 1000원 차이)
+	private static final double CALORIE_SCALE = 100.0;
+	private static final double PRICE_SCALE = 1000.0;
+
+	public static final MealCatalogIndex EMPTY = new MealCatalogIndex(List.of());
+
+	/**
+	 * @param plan 응답으로 보낼 식단 (가격 계산 완료)
+	 * @param mealType 아침/점심/저녁 (없으면 null)
+	 * @param calories 칼로리 (모르면 0)
+	 * @param price 가격 (원)
+	 * @param allergenMask 포함된 알레르기 식품
+	 * @param ingredientNames 재료명 (비트에 없는 알러지 비교용)
+	 */
+	public record Item(MealPlanResponse plan, String mealType, int calories, int price, long allergenMask,
+			List<String> ingredientNames) {
+	}
+
+	/**
+	 * @param mealType 원하는 끼니 (상관없으면 null)
+	 * @param targetCalories 목표 칼로리
+	 * @param targetPrice 목표 가격 (가격 상관없으면 null, 있으면 이 가격 이하만)
+	 * @param allergies 사용자 알러지
+	 */
+	public record Query(String mealType, int targetCalories, Integer targetPrice, List<String> allergies) {
+	}
+
+	// 칼로리 오름차순
+	private final Item[] items;
+	private final int[] calories;
+
+	public MealCatalogIndex(List<Item> items) {
+		this.items = items.stream().sorted(Comparator.comparingInt(Item::calories)).toArray(Item[]::new);
+		this.calories = new int[this.items.length];
+		for (int i = 0; i < this.items.length; i++) {
+			this.calories[i] = this.items[i].calories();
+		}
+	}
+
+	public int size() {
+		return items.length;
+	}
+
+	/**
+	 * 요청 메시지에 이름이 나오는 식단 (여러 개면 가장 긴 이름, 없으면 null)
+	 * 예: "김치찌개 추천해줘" → "김치찌개"
+	 */
+	public Item findByName(String message, List<String> allergies) {
+		if (message == null || message.isBlank()) {
+			return null;
+		}
+		String normalized = normalize(message);
+		Filter filter = new Filter(allergies);
+		Item best = null;
+		int bestLength = 0;
+		for (Item item : items) {
+			String name = normalize(item.plan().getMealName());
+			if (name.length() > bestLength && normalized.contains(name) && filter.accepts(item)) {
+				best = item;
+				bestLength = name.length();
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * 조건에 가장 가까운 식단 (조건에 맞는 것이 없으면 null)
+	 */
+	public Item nearest(Query query) {
+		if (items.length == 0) {
+			return null;
+		}
+		Filter filter = new Filter(query.allergies());
+		int start = lowerBound(query.targetCalories());
+		int left = start - 1;
+		int right = start;
+		Item best = null;
+		double bestDistance = Double.MAX_VALUE;
+
+		while (left >= 0 || right < items.length) {
+			// 목표 칼로리에 더 가까운 쪽부터
+			int index;
+			if (right >= items.length || (left >= 0
+					&& query.targetCalories() - calories[left] <= calories[right] - query.targetCalories())) {
+				index = left--;
+			} else {
+				index = right++;
+			}
+
+			double calorieDistance = (calories[index] - query.targetCalories()) / CALORIE_SCALE;
+			double calorieOnly = calorieDistance * calorieDistance;
+			if (calorieOnly >= bestDistance) {
+				// 이후 후보는 칼로리 차이만으로도 더 멂
+				break;
+			}
+
+			Item item = items[index];
+			if (query.mealType() != null && item.mealType() != null && !query.mealType().equals(item.mealType())) {
+				continue;
+			}
+			if (query.targetPrice() != null && item.price() > query.targetPrice()) {
+				continue;
+			}
+			if (!filter.accepts(item)) {
+				continue;
+			}
+
+			double distance = calorieOnly;
+			if (query.targetPrice() != null) {
+				double priceDistance = (query.targetPrice() - item.price()) / PRICE_SCALE;
+				distance += priceDistance * priceDistance;
+			}
+			if (distance < bestDistance) {
+				best = item;
+				bestDistance = distance;
+			}
+		}
+		return best;
+	}
+
+	// targetCalories 이상인 첫 위치
+	private int lowerBound(int targetCalories) {
+		int low = 0;
+		int high = calories.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (calories[mid] < targetCalories) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+	}
+
+	// 알레르기 필터 (비트마스크 + 비트에 없는 이름은 재료명 비교)
+	private static final class Filter {
+		private final long excludeMask;
+		private final List<String> unknown = new ArrayList<>();
+
+		Filter(List<String> allergies) {
+			long mask = 0;
+			if (allergies != null) {
+				for (String allergy : allergies) {
+					if (allergy == null || allergy.isBlank()) {
+						continue;
+					}
+					long bits = Allergen.maskOf(allergy);
+					if (bits != 0) {
+						mask |= bits;
+					} else {
+						unknown.add(allergy.strip());
+					}
+				}
+			}
+			this.excludeMask = mask;
+		}
+
+		boolean accepts(Item item) {
+			if ((item.allergenMask() & excludeMask) != 0) {
+				return false;
+			}
+			for (String allergy : unknown) {
+				if (item.plan().getMealName() != null && item.plan().getMealName().contains(allergy)) {
+					return false;
+				}
+				for (String ingredient : item.ingredientNames()) {
+					if (ingredient.contains(allergy)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fom.boot.app.meal.dto.MealIngredient;
+import com.fom.boot.app.meal.dto.MealNutrition;
+import com.fom.boot.app.meal.dto.MealPlanResponse;
+import com.fom.boot.domain.meal.model.mapper.MealCatalogMapper;
+import com.fom.boot.domain.meal.model.service.AiUsageService;
+import com.fom.boot.domain.meal.model.service.GeminiApiService;
+import com.fom.boot.domain.meal.model.service.MealCatalogService;
+import com.fom.boot.domain.meal.model.vo.Allergen;
+import com.fom.boot.domain.meal.model.vo.MealCatalogEntry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식단 카탈로그
+ * - 재생성: 끼니 × 칼로리 × 예산 × 알레르기 조합마다 Gemini로 한 끼 생성 → 가격 계산 → 한 트랜잭션에서 전체 교체
+ *   (생성 중 Gemini 장애로 판단되면 중단하고 기존 카탈로그 유지)
+ * - 조회: MealCatalogIndex (처음 조회 시 DB에서 올림, 재생성 후 교체)
+ * - 지표: meal.catalog.lookup{type=name|nearest, result=hit|miss}, meal.catalog.size
+ */
+@Slf4j
+@Service
+public class MealCatalogServiceImpl implements MealCatalogService {
+
+	private static final String USAGE_KEY = "system:catalog";
+	private static final Pattern NUMBER = Pattern.compile("\\d+(\\.\\d+)?");
+
+	// 카탈로그 생성 기준 신체 정보 (1인분)
+	private static final int BASE_HEIGHT = 170;
+	private static final int BASE_WEIGHT = 70;
+
+	private final GeminiApiService geminiApiService;
+	private final MealPlanPricer mealPlanPricer;
+	private final MealCatalogMapper catalogMapper;
+	private final AiUsageService aiUsageService;
+	private final GeminiHealthTracker healthTracker;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	private final List<String> mealTypes;
+	private final List<Integer> calorieBuckets;
+	private final List<Integer> budgetBuckets;
+	private final List<List<String>> allergySets;
+	private final int batchSize;
+
+	private final AtomicReference<MealCatalogIndex> index = new AtomicReference<>();
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+	private final Counter nameHitCounter;
+	private final Counter nameMissCounter;
+	private final Counter nearestHitCounter;
+	private final Counter nearestMissCounter;
+
+	public MealCatalogServiceImpl(
+			GeminiApiService geminiApiService,
+			MealPlanPricer mealPlanPricer,
+			MealCatalogMapper catalogMapper,
+			AiUsageService aiUsageService,
+			GeminiHealthTracker healthTracker,
+			ObjectMapper objectMapper,
+			TransactionTemplate transactionTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${meal.catalog.meal-types:아침,점심,저녁}") List<String> mealTypes,
+			@Value("${meal.catalog.calories:400,600,800}") List<Integer> calorieBuckets,
+			@Value("${meal.catalog.budgets:5000,10000,15000}") List<Integer> budgetBuckets,
+			@Value("${meal.catalog.allergy-sets:-;우유,알류;땅콩,호두,잣;새우,게,조개류;밀,대두}") String allergySets,
+			@Value("${meal.catalog.batch-size:100}") int batchSize) {
+		this.geminiApiService = geminiApiService;
+		this.mealPlanPricer = mealPlanPricer;
+		this.catalogMapper = catalogMapper;
+		this.aiUsageService = aiUsageService;
+		this.healthTracker = healthTracker;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = transactionTemplate;
+		this.mealTypes = mealTypes;
+		this.calorieBuckets = calorieBuckets;
+		this.budgetBuckets = budgetBuckets;
+		this.allergySets = parseAllergySets(allergySets);
+		this.batchSize = Math.max(1, batchSize);
+
+		this.nameHitCounter = lookupCounter(meterRegistry, "name", "hit");
+		this.nameMissCounter = lookupCounter(meterRegistry, "name", "miss");
+		this.nearestHitCounter = lookupCounter(meterRegistry, "nearest", "hit");
+		this.nearestMissCounter = lookupCounter(meterRegistry, "nearest", "miss");
+		Gauge.builder("meal.catalog.size", index, ref -> ref.get() != null ? ref.get().size() : 0)
+				.description("메모리에 올라온 카탈로그 식단 수")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public int rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			log.warn("식단 카탈로그 재생성이 이미 진행 중");
+			return 0;
+		}
+		try {
+			long startedAt = System.currentTimeMillis();
+			List<MealCatalogEntry> entries = new ArrayList<>();
+			Set<String> seen = new HashSet<>();
+			int failures = 0;
+
+			for (String mealType : mealTypes) {
+				for (int calories : calorieBuckets) {
+					for (int budget : budgetBuckets) {
+						for (List<String> allergies : allergySets) {
+							if (!healthTracker.allowRequest()) {
+								log.warn("Gemini 장애로 카탈로그 재생성 중단 - {}건 생성, 기존 카탈로그 유지", entries.size());
+								return 0;
+							}
+							try {
+								MealCatalogEntry entry = generate(mealType, calories, budget, allergies);
+								// 같은 끼니에 같은 이름은 하나만
+								if (seen.add(mealType + "|" + entry.getPlanName().replaceAll("\\s+", ""))) {
+									entries.add(entry);
+								}
+							} catch (Exception e) {
+								failures++;
+								log.warn("카탈로그 식단 생성 실패 - {}, {}kcal, {}원, 알러지 {}: {}",
+										mealType, calories, budget, allergies, e.getMessage());
+							}
+						}
+					}
+				}
+			}
+
+			if (entries.isEmpty()) {
+				log.warn("생성된 카탈로그 식단 없음 - 기존 카탈로그 유지 (실패 {}건)", failures);
+				return 0;
+			}
+
+			// 전체 교체 (중간에 실패하면 기존 카탈로그 그대로)
+			transactionTemplate.executeWithoutResult(status -> {
+				catalogMapper.deleteCatalog();
+				for (int from = 0; from < entries.size(); from += batchSize) {
+					catalogMapper.insertCatalogEntries(entries.subList(from, Math.min(from + batchSize, entries.size())));
+				}
+			});
+			index.set(toIndex(entries));
+			log.info("식단 카탈로그 재생성 완료 - {}건 (실패 {}건), {}ms",
+					entries.size(), failures, System.currentTimeMillis() - startedAt);
+			return entries.size();
+		} finally {
+			rebuilding.set(false);
+		}
+	}
+
+	@Override
+	public MealPlanResponse findByName(String message, List<String> allergies) {
+		MealCatalogIndex.Item item = getIndex().findByName(message, allergies);
+		(item != null ? nameHitCounter : nameMissCounter).increment();
+		return item != null ? item.plan() : null;
+	}
+
+	@Override
+	public MealPlanResponse findNearest(int height, int weight, List<String> allergies, String message,
+			Integer previousPrice) {
+		Integer targetPrice = previousPrice != null && previousPrice > 0 ? (int) (previousPrice * 0.8) : null;
+		MealCatalogIndex.Query query = new MealCatalogIndex.Query(
+				mealTypeOf(message), targetCaloriesOf(height), targetPrice, allergies);
+		MealCatalogIndex.Item item = getIndex().nearest(query);
+		(item != null ? nearestHitCounter : nearestMissCounter).increment();
+		return item != null ? item.plan() : null;
+	}
+
+	@Override
+	public int size() {
+		return getIndex().size();
+	}
+
+	private MealCatalogEntry generate(String mealType, int calories, int budget, List<String> allergies) {
+		String message = String.format("%s 식단 추천해줘. 1인분 %dkcal 안팎, 재료비 %,d원 이하", mealType, calories, budget);
+		String aiResponse = aiUsageService.callAs(USAGE_KEY, () -> geminiApiService.generateMealPlan(
+				BASE_HEIGHT, BASE_WEIGHT, 1, allergies, message, null));
+		MealPlanResponse plan = mealPlanPricer.parse(aiResponse);
+
+		MealCatalogEntry entry = new MealCatalogEntry();
+		entry.setPlanName(plan.getMealName());
+		entry.setWhenEat(mealType);
+		entry.setDescription(plan.getDescription());
+		entry.setServingSize(1);
+		entry.setTotalCost(priceOf(plan));
+		if (plan.getNutrition() != null) {
+			entry.setCalories(decimalOf(plan.getNutrition().getCalories()));
+			entry.setCarbsG(decimalOf(plan.getNutrition().getCarbs()));
+			entry.setProteinG(decimalOf(plan.getNutrition().getProtein()));
+			entry.setFatG(decimalOf(plan.getNutrition().getFat()));
+		}
+		try {
+			entry.setAiRecipe(objectMapper.writeValueAsString(plan.getRecipe()));
+			entry.setIngredientsJson(objectMapper.writeValueAsString(plan.getIngredients()));
+		} catch (IOException e) {
+			throw new IllegalStateException("카탈로그 식단 직렬화 실패: " + plan.getMealName(), e);
+		}
+		entry.setAllergenMask(allergenMaskOf(plan.getMealName(), ingredientNamesOf(plan.getIngredients())));
+		return entry;
+	}
+
+	private MealCatalogIndex getIndex() {
+		MealCatalogIndex current = index.get();
+		if (current == null) {
+			synchronized (this) {
+				current = index.get();
+				if (current == null) {
+					current = load();
+					index.set(current);
+				}
+			}
+		}
+		return current;
+	}
+
+	// DB에서 카탈로그 조회 (실패하면 빈 인덱스, 다음 재생성 때 채움)
+	private MealCatalogIndex load() {
+		try {
+			MealCatalogIndex loaded = toIndex(catalogMapper.selectCatalog());
+			log.info("식단 카탈로그 로드 - {}건", loaded.size());
+			return loaded;
+		} catch (Exception e) {
+			log.error("식단 카탈로그 로드 실패 - 빈 카탈로그 사용", e);
+			return MealCatalogIndex.EMPTY;
+		}
+	}
+
+	private MealCatalogIndex toIndex(List<MealCatalogEntry> entries) {
+		List<MealCatalogIndex.Item> items = new ArrayList<>(entries.size());
+		for (MealCatalogEntry entry : entries) {
+			try {
+				List<MealIngredient> ingredients = entry.getIngredientsJson() != null
+						? objectMapper.readValue(entry.getIngredientsJson(), new TypeReference<List<MealIngredient>>() {})
+						: List.of();
+				List<String> recipe = entry.getAiRecipe() != null
+						? objectMapper.readValue(entry.getAiRecipe(), new TypeReference<List<String>>() {})
+						: List.of();
+				MealPlanResponse plan = MealPlanResponse.builder()
+						.mealName(entry.getPlanName())
+						.mealType(entry.getWhenEat())
+						.description(entry.getDescription())
+						.ingredients(ingredients)
+						.recipe(recipe)
+						.nutrition(MealNutrition.builder()
+								.calories(plainOf(entry.getCalories()))
+								.carbs(plainOf(entry.getCarbsG()))
+								.protein(plainOf(entry.getProteinG()))
+								.fat(plainOf(entry.getFatG()))
+								.build())
+						.calculatedPrice(entry.getTotalCost())
+						.build();
+				List<String> ingredientNames = ingredientNamesOf(ingredients);
+				// 저장된 비트마스크 + 현재 기준으로 다시 계산 (Allergen 키워드가 늘어난 경우)
+				long mask = entry.getAllergenMask() | allergenMaskOf(entry.getPlanName(), ingredientNames);
+				items.add(new MealCatalogIndex.Item(plan, entry.getWhenEat(),
+						entry.getCalories() != null ? entry.getCalories().intValue() : 0,
+						entry.getTotalCost(), mask, ingredientNames));
+			} catch (IOException e) {
+				log.warn("카탈로그 식단 변환 실패 - {}: {}", entry.getPlanName(), e.getMessage());
+			}
+		}
+		return new MealCatalogIndex(items);
+	}
+
+	// 표준 체중(키² × 22) × 30kcal를 세 끼로 나눔
+	private static int targetCaloriesOf(int height) {
+		double meters = height / 100.0;
+		return (int) Math.round(meters * meters * 22 * 30 / 3);
+	}
+
+	private static String mealTypeOf(String message) {
+		if (message == null) {
+			return null;
+		}
+		for (String mealType : List.of("아침", "점심", "저녁")) {
+			if (message.contains(mealType)) {
+				return mealType;
+			}
+		}
+		return null;
+	}
+
+	private static long allergenMaskOf(String mealName, List<String> ingredientNames) {
+		List<String> names = new ArrayList<>(ingredientNames);
+		if (mealName != null) {
+			names.add(mealName);
+		}
+		return Allergen.maskOfIngredients(names);
+	}
+
+	private static List<String> ingredientNamesOf(List<MealIngredient> ingredients) {
+		if (ingredients == null) {
+			return List.of();
+		}
+		return ingredients.stream().map(MealIngredient::getName).filter(name -> name != null).toList();
+	}
+
+	private static int priceOf(MealPlanResponse plan) {
+		if (plan.getCalculatedPrice() != null) {
+			return plan.getCalculatedPrice();
+		}
+		return plan.getEstimatedPrice() != null ? plan.getEstimatedPrice() : 0;
+	}
+
+	// "520kcal", "약 520" → 520 (숫자가 없으면 null)
+	private static BigDecimal decimalOf(String value) {
+		if (value == null) {
+			return null;
+		}
+		Matcher matcher = NUMBER.matcher(value);
+		return matcher.find() ? new BigDecimal(matcher.group()) : null;
+	}
+
+	private static String plainOf(BigDecimal value) {
+		return value != null ? value.stripTrailingZeros().toPlainString() : null;
+	}
+
+	// "-;우유,알류;땅콩" → [[], [우유, 알류], [땅콩]]
+	private static List<List<String>> parseAllergySets(String value) {
+		List<List<String>> sets = new ArrayList<>();
+		for (String set : value.split(";")) {
+			String trimmed = set.strip();
+			if (trimmed.isEmpty() || trimmed.equals("-")) {
+				sets.add(List.of());
+			} else {
+				sets.add(Arrays.stream(trimmed.split(",")).map(String::strip).filter(s -> !s.isEmpty()).toList());
+			}
+		}
+		return sets.isEmpty() ? List.of(List.of()) : sets;
+	}
+
+	private static Counter lookupCounter(MeterRegistry meterRegistry, String type, String result) {
+		return Counter.builder("meal.catalog.lookup")
+				.description("식단 카탈로그 조회 결과")
+				.tag("type", type)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,134 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.common.util.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 식단 생성(Gemini 호출) 전용 스레드 풀
+ * - 생성은 수 초씩 걸리므로 Tomcat 요청 스레드에서 돌리지 않음 (몰려도 다른 API는 정상 응답)
+ * - 동시 생성 수 = pool-size, 대기는 queue-capacity까지만
+ * - 대기열이 가득 차면 RejectedExecutionException으로 즉시 거절 (호출 측에서 503 + Retry-After)
+ * - 같은 키로 동시에 들어온 생성은 하나만 실행하고 결과를 나눠 받음 (submitShared)
+ * - 지표: meal.generation.in-flight, meal.generation.queue.depth, meal.generation.rejected,
+ *         meal.generation.coalesced
+ */
+@Slf4j
+@Component
+public class MealGenerationExecutor {
+
+	private final ThreadPoolExecutor executor;
+	private final int retryAfterSeconds;
+	private final Counter rejectedCounter;
+	private final Counter coalescedCounter;
+	// 진행 중인 공유 생성 (키 타입별로 결과 타입이 정해지므로 Object로 보관)
+	private final SingleFlight<Object, Object> inFlight = new SingleFlight<>();
+
+	public MealGenerationExecutor(
+			MeterRegistry meterRegistry,
+			@Value("${meal.generation.pool-size:8}") int poolSize,
+			@Value("${meal.generation.queue-capacity:16}") int queueCapacity,
+			@Value("${meal.generation.retry-after-seconds:5}") int retryAfterSeconds) {
+		this.retryAfterSeconds = retryAfterSeconds;
+
+		AtomicInteger threadNo = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+				r -> {
+					Thread t = new Thread(r, "meal-generation-" + threadNo.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+
+		Gauge.builder("meal.generation.in-flight", executor, ThreadPoolExecutor::getActiveCount)
+				.description("진행 중인 식단 생성 수")
+				.register(meterRegistry);
+		Gauge.builder("meal.generation.queue.depth", executor, e -> e.getQueue().size())
+				.description("식단 생성 대기열 길이")
+				.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("meal.generation.rejected")
+				.description("대기열 초과로 거절된 식단 생성 요청 수")
+				.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("meal.generation.coalesced")
+				.description("진행 중인 같은 생성에 합류한 요청 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 결과를 돌려주는 생성 작업 (일반 추천)
+	 * @throws RejectedExecutionException 대기열이 가득 찼을 때
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, executor);
+		} catch (RejectedExecutionException e) {
+			throw rejected(e);
+		}
+	}
+
+	/**
+	 * 같은 키의 생성이 진행 중이면 합류, 없으면 새로 실행
+	 * - 합류한 요청은 풀 자리를 차지하지 않음
+	 * - 실패도 같이 받지만 보관하지 않으므로 다음 요청은 다시 생성
+	 * @param key 정규화된 요청 (equals/hashCode 구현 필요, 결과 타입이 다른 작업끼리 겹치지 않아야 함)
+	 * @throws RejectedExecutionException 새로 실행해야 하는데 대기열이 가득 찼을 때
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> submitShared(Object key, Supplier<T> task) {
+		SingleFlight.Result<Object> result = inFlight.execute(key, () -> submit(task::get));
+		if (result.shared()) {
+			coalescedCounter.increment();
+			log.debug("진행 중인 식단 생성에 합류 - {}", key);
+		}
+		return (CompletableFuture<T>) result.future();
+	}
+
+	/**
+	 * 결과를 직접 전달하는 생성 작업 (스트리밍)
+	 * @throws RejectedExecutionException 대기열이 가득 찼을 때
+	 */
+	public void execute(Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			throw rejected(e);
+		}
+	}
+
+	// 거절 응답의 Retry-After 값 (초)
+	public int getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	private RejectedExecutionException rejected(RejectedExecutionException e) {
+		rejectedCounter.increment();
+		log.warn("식단 생성 거절 - 진행 {}건, 대기 {}건", executor.getActiveCount(), executor.getQueue().size());
+		return e;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
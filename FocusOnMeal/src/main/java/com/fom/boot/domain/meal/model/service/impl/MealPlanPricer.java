@@ -0,0 +1,150 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.app.meal.dto.MealIngredient;
+import com.fom.boot.app.meal.dto.MealNutrition;
+import com.fom.boot.app.meal.dto.MealPlanResponse;
+import com.fom.boot.domain.ingredient.model.service.PriceService;
+import com.fom.boot.domain.meal.model.vo.GeneratedMeal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI가 생성한 식단의 가격 계산
+ * - 채팅 추천, 주간 식단, 식단 카탈로그 배치가 같은 계산을 쓰도록 분리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MealPlanPricer {
+
+    private final PriceService priceService;
+
+    /**
+     * AI 응답 파싱 및 가격 계산
+     */
+    public MealPlanResponse parse(String aiResponse) {
+        GeneratedMeal meal;
+        try {
+            meal = GeneratedMealReader.read(aiResponse);
+        } catch (IllegalArgumentException e) {
+            log.error("AI 응답 파싱 실패: {}", aiResponse, e);
+            throw new RuntimeException("식단 데이터 파싱에 실패했습니다: " + e.getMessage());
+        }
+        log.info("JSON 파싱 성공 - {}, 재료 {}개", meal.mealName(), meal.ingredients().size());
+        return price(meal, priceService::getPrice);
+    }
+
+    /**
+     * 생성된 식단 → 가격 계산된 식단
+     * @param priceOf 재료명 → 가격(원/kg), 없으면 null
+     */
+    public MealPlanResponse price(GeneratedMeal meal, Function<String, Integer> priceOf) {
+        // 재료 목록 가격 계산
+        List<MealIngredient> ingredients = new ArrayList<>(meal.ingredients().size());
+        int totalPrice = 0;
+        for (GeneratedMeal.Ingredient generated : meal.ingredients()) {
+            MealIngredient ingredient = price(generated, priceOf);
+            if (ingredient.getCalculatedPrice() != null) {
+                totalPrice += ingredient.getCalculatedPrice();
+            }
+            ingredients.add(ingredient);
+        }
+
+        // 계산된 가격이 0이면 AI 예상 가격 사용
+        Integer estimatedPrice = meal.estimatedPrice();
+        Integer finalPrice = totalPrice > 0 ? totalPrice : estimatedPrice;
+
+        return MealPlanResponse.builder()
+                .mealName(meal.mealName())
+                .mealType(meal.mealType())
+                .description(meal.description())
+                .ingredients(ingredients)
+                .recipe(meal.recipe())
+                .nutrition(nutrition(meal.nutrition()))
+                .calculatedPrice(finalPrice)
+                .estimatedPrice(estimatedPrice)
+                .build();
+    }
+
+    /**
+     * AI 응답의 재료 1건 → 가격 계산된 재료
+     * DB 가격이 있으면 단위에 맞춰 계산, 없으면 AI 예상 가격 사용
+     */
+    public MealIngredient price(GeneratedMeal.Ingredient generated, Function<String, Integer> priceOf) {
+        String name = generated.name();
+        String amount = generated.amount();
+        String unit = generated.unit();
+
+        // DB에서 가격 조회
+        Integer pricePerKg = priceOf.apply(name);
+        Integer ingredientPrice = null;
+
+        if (pricePerKg != null) {
+            // DB 가격으로 계산 (단위에 따라)
+            ingredientPrice = calculateIngredientPrice(pricePerKg, amount, unit);
+        } else if (generated.estimatedPrice() != null) {
+            // DB에 가격이 없으면 AI 예상 가격 사용
+            ingredientPrice = generated.estimatedPrice();
+            log.info("DB 가격 없음 - AI 예상 가격 사용: {} = {}원", name, ingredientPrice);
+        }
+
+        return MealIngredient.builder()
+                .name(name)
+                .amount(amount)
+                .unit(unit)
+                .price(pricePerKg)
+                .calculatedPrice(ingredientPrice)  // 실제 계산된 가격 저장
+                .build();
+    }
+
+    /**
+     * 영양 정보 → MealNutrition (없으면 null)
+     */
+    public MealNutrition nutrition(GeneratedMeal.Nutrition nutrition) {
+        if (nutrition == null) {
+            return null;
+        }
+        return MealNutrition.builder()
+                .calories(nutrition.calories())
+                .carbs(nutrition.carbs())
+                .protein(nutrition.protein())
+                .fat(nutrition.fat())
+                .build();
+    }
+
+    /**
+     * 재료 가격 계산
+     */
+    private Integer calculateIngredientPrice(Integer pricePerKg, String amount, String unit) {
+        try {
+            double amountValue = Double.parseDouble(amount);
+
+            // 단위에 따라 계산
+            switch (unit.toLowerCase()) {
+                case "g":
+                    return (int) (pricePerKg * amountValue / 1000);
+                case "kg":
+                    return (int) (pricePerKg * amountValue);
+                case "개":
+                    // 개당 평균 중량 가정 (예: 계란 60g, 양파 200g 등)
+                    return (int) (pricePerKg * amountValue * 0.2);  // 대략 200g 기준
+                case "ml":
+                case "l":
+                    // 액체는 무게와 유사하게 계산
+                    return (int) (pricePerKg * amountValue / (unit.equals("ml") ? 1000 : 1));
+                default:
+                    return pricePerKg;
+            }
+        } catch (NumberFormatException e) {
+            log.warn("가격 계산 실패 - amount: {}, unit: {}", amount, unit);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.domain.meal.model.service.PriceContextService;
+import com.fom.boot.domain.meal.model.vo.ChatContext;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식단 추천 프롬프트 생성
+ * - VERBOSE: 기존 자연어 프롬프트 한 덩어리 (매 요청 지침 전체 + 가격 목록)
+ * - COMPACT: 고정 지침은 systemInstruction으로 분리 (상수, 매번 같은 앞부분)
+ *            사용자/가격 정보는 "키|값" 표 형식으로 짧게
+ *            (사용자 입력 안의 '|'와 줄바꿈은 구분자로 읽히지 않도록 '/'와 공백으로 바꿈)
+ * - 채팅 세션이 있으면 이전 대화(요약 + 최근 대화)를 함께 넣음 (크기 상한은 ChatSessionStore)
+ * - meal.prompt.compact-percent로 A/B 비율 조절 (0 = 항상 VERBOSE, 100 = 항상 COMPACT)
+ * - 지표: meal.prompt.tokens{format, kind=estimated|actual} (추정치와 Gemini가 알려준 실제 값 비교용)
+ */
+@Slf4j
+@Component
+public class MealPromptBuilder {
+
+    public enum Format { VERBOSE, COMPACT }
+
+    /**
+     * @param system systemInstruction으로 보낼 고정 지침 (VERBOSE면 null)
+     * @param user 요청마다 달라지는 내용
+     * @param format 프롬프트 형식
+     * @param estimatedTokens 추정 입력 토큰 수 (system + user)
+     */
+    public record MealPrompt(String system, String user, Format format, int estimatedTokens) {}
+
+    /**
+     * COMPACT 형식 고정 지침 (요청마다 같음)
+     */
+    static final String SYSTEM_PREAMBLE = """
+            너는 전문 영양사이자 요리 전문가다. 사용자 요청에 가장 맞는 한 끼 식단을 추천한다.
+            입력 형식 (한 줄에 하나, "키|값"):
+            user|키cm|몸무게kg|인분|알러지(없으면 -)
+            req|사용자 요청
+            budget|이전 가격|목표 가격 (있을 때만: 목표 가격 이하로, 재료 양/대체 재료/간단한 조리법 등으로 낮추되 맛과 영양 유지)
+            price|분류|품목=원/kg|... (한국 시장 가격, 참고용)
+            memo|이전 대화 요약 (있을 때만)
+            turn|이전 요청|추천한 식단|가격 (있을 때만, 오래된 것부터)
+
+            규칙:
+            - 요청한 음식이 있으면 그것을 우선 추천. 목록에 없는 재료도 사용 가능. 세계 각국 요리 가능 (양식/중식/일식/한식/베이킹/디저트)
+            - 가격은 요청에 "저렴한/싼/가성비/경제적인"이 있을 때만 우선. 그 외에는 맛/영양/요청 우선. 예상 가격은 시장 가격 기준으로 정확히
+            - 알러지 식품은 쓰지 말 것. 사용자가 명시적으로 요청하면 description에 "⚠️ 알레르기 주의: 이 요리에는 {알레르기 식품}이(가) 포함되어 있습니다" 포함, 대체 재료 버전 우선, 대체 불가 시 경고와 함께 추천
+            - 수량 단위는 g/kg/ml/l. "개"는 계란 등 셀 수 있는 것만. 채소/향신료는 g, 고기/생선은 g 또는 kg, 액체 조미료는 ml
+            - 매번 다른 재료와 조합으로 창의적으로. 건강식이라고 항상 닭가슴살일 필요는 없음. 특정 음식 요청이 없을 때만 영양과 가격 균형 고려
+            - 영양 정보는 대략적인 추정치
+            - memo/turn은 같은 대화의 이전 내용. 이어지는 요청("더 싸게", "그거 말고")이면 맥락을 반영하고, 이미 추천한 식단은 반복하지 말 것
+
+            출력: 아래 JSON만 (다른 텍스트, 마크다운 금지). estimatedPrice는 숫자만(원 단위)
+            {"mealName":"식단 이름","mealType":"아침|점심|저녁","description":"간단한 설명","ingredients":[{"name":"재료명","amount":"수량","unit":"단위","estimatedPrice":0}],"recipe":["조리 순서"],"nutrition":{"calories":"kcal","carbs":"g","protein":"g","fat":"g"},"estimatedPrice":0}
+            예: {"mealName":"김치볶음밥","mealType":"점심","description":"간단한 한끼","ingredients":[{"name":"밥","amount":"200","unit":"g","estimatedPrice":500},{"name":"김치","amount":"100","unit":"g","estimatedPrice":800},{"name":"계란","amount":"1","unit":"개","estimatedPrice":300}],"recipe":["팬에 김치를 볶는다","밥을 넣고 섞는다","계란을 넣고 마무리한다"],"nutrition":{"calories":"520","carbs":"65","protein":"18","fat":"15"},"estimatedPrice":3500}
+            """;
+
+    private static final int SYSTEM_PREAMBLE_TOKENS = estimateTokens(SYSTEM_PREAMBLE);
+
+    private final PriceContextService priceContextService;
+    private final int compactPercent;
+    private final MeterRegistry meterRegistry;
+
+    public MealPromptBuilder(
+            PriceContextService priceContextService,
+            MeterRegistry meterRegistry,
+            @Value("${meal.prompt.compact-percent:100}") int compactPercent) {
+        this.priceContextService = priceContextService;
+        this.meterRegistry = meterRegistry;
+        this.compactPercent = Math.max(0, Math.min(100, compactPercent));
+    }
+
+    /**
+     * A/B 비율에 따라 형식을 골라 프롬프트 생성
+     */
+    public MealPrompt build(int height, int weight, int servingSize, List<String> allergies,
+                            String chatMessage, Integer previousPrice, ChatContext context) {
+        Format format = compactPercent >= 100 || ThreadLocalRandom.current().nextInt(100) < compactPercent
+                ? Format.COMPACT
+                : Format.VERBOSE;
+        return build(format, height, weight, servingSize, allergies, chatMessage, previousPrice, context);
+    }
+
+    /**
+     * @param context 이전 대화 (세션이 없으면 null)
+     */
+    public MealPrompt build(Format format, int height, int weight, int servingSize, List<String> allergies,
+                            String chatMessage, Integer previousPrice, ChatContext context) {
+        MealPrompt prompt = format == Format.COMPACT
+                ? compact(height, weight, servingSize, allergies, chatMessage, previousPrice, context)
+                : verbose(height, weight, servingSize, allergies, chatMessage, previousPrice, context);
+        summary(format, "estimated").record(prompt.estimatedTokens());
+        log.debug("프롬프트 생성 - 형식: {}, 추정 토큰: {}", format, prompt.estimatedTokens());
+        return prompt;
+    }
+
+    /**
+     * Gemini가 알려준 실제 입력 토큰 수 기록 (추정치와 비교)
+     */
+    public void recordActual(MealPrompt prompt, long promptTokens) {
+        if (promptTokens <= 0) {
+            return;
+        }
+        summary(prompt.format(), "actual").record(promptTokens);
+        log.debug("프롬프트 토큰 - 형식: {}, 추정: {}, 실제: {}", prompt.format(), prompt.estimatedTokens(), promptTokens);
+    }
+
+    private MealPrompt compact(int height, int weight, int servingSize, List<String> allergies,
+                               String chatMessage, Integer previousPrice, ChatContext context) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("user|").append(height).append('|').append(weight).append('|').append(servingSize).append('|');
+        if (allergies == null || allergies.isEmpty()) {
+            sb.append('-');
+        } else {
+            sb.append(String.join(",", allergies.stream().map(MealPromptBuilder::cell).toList()));
+        }
+        sb.append("\nreq|").append(cell(chatMessage));
+        if (previousPrice != null && previousPrice > 0) {
+            sb.append("\nbudget|").append(previousPrice).append('|').append((int) (previousPrice * 0.8));
+        }
+
+        String prices = priceContextService.getCompactPriceContext();
+        if (prices.isEmpty()) {
+            sb.append("\nprice|-");
+        } else {
+            for (String line : prices.split("\n")) {
+                sb.append("\nprice|").append(line);
+            }
+        }
+
+        if (context != null) {
+            if (!context.summary().isEmpty()) {
+                sb.append("\nmemo|").append(cell(context.summary()));
+            }
+            for (ChatContext.Turn turn : context.turns()) {
+                sb.append("\nturn|").append(cell(turn.message())).append('|').append(cell(turn.mealName())).append('|')
+                        .append(turn.price() != null ? turn.price() : "-");
+            }
+        }
+
+        String user = sb.toString();
+        return new MealPrompt(SYSTEM_PREAMBLE, user, Format.COMPACT, SYSTEM_PREAMBLE_TOKENS + estimateTokens(user));
+    }
+
+    /**
+     * COMPACT 한 칸에 들어갈 값 - 구분자('|')와 줄바꿈을 바꿔 행/칸이 나뉘지 않게 함
+     */
+    static String cell(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace('|', '/').replaceAll("[\\r\\n]+", " ").strip();
+    }
+
+    private MealPrompt verbose(int height, int weight, int servingSize, List<String> allergies,
+                               String chatMessage, Integer previousPrice, ChatContext context) {
+
+        String allergyText = allergies == null || allergies.isEmpty()
+                ? "없음"
+                : String.join(", ", allergies);
+
+        // 주요 식자재 가격 정보 (가격 스냅샷이 바뀔 때만 다시 생성)
+        String priceInfo = priceContextService.getPriceContext();
+
+        // 이전 가격 정보 텍스트
+        String previousPriceText = "";
+        if (previousPrice != null && previousPrice > 0) {
+            previousPriceText = String.format("""
+
+                ⚠️ **중요: 가격 제약 조건**
+                - 이전에 추천한 식단 가격: %,d원
+                - 이번에는 이것보다 저렴한 식단을 추천해주세요
+                - 목표 가격: %,d원 이하
+                - 방법은 자유롭게: 재료 양 조절, 저렴한 대체 재료 사용, 간단한 조리법 등
+                - 단, 맛과 영양이 크게 떨어지지 않도록 주의하세요
+                """, previousPrice, (int)(previousPrice * 0.8));
+        }
+
+        // 이전 대화 텍스트
+        String historyText = "";
+        if (context != null && !context.isEmpty()) {
+            StringBuilder history = new StringBuilder("이전 대화 (이어지는 요청이면 맥락을 반영하고, 이미 추천한 식단은 반복하지 마세요):\n");
+            if (!context.summary().isEmpty()) {
+                history.append("- 요약: ").append(context.summary()).append('\n');
+            }
+            for (ChatContext.Turn turn : context.turns()) {
+                history.append("- 요청: ").append(turn.message()).append(" → 추천: ").append(turn.mealName());
+                if (turn.price() != null) {
+                    history.append(String.format(" (%,d원)", turn.price()));
+                }
+                history.append('\n');
+            }
+            historyText = history.append('\n').toString();
+        }
+
+        String text = String.format("""
+            당신은 전문 영양사이자 요리 전문가입니다.
+
+            사용자 정보:
+            - 키: %dcm
+            - 몸무게: %dkg
+            - 인분: %d인분
+            - 알러지: %s
+
+            %s사용자 요청: %s
+
+            **참고: 한국 주요 식자재 시장 가격 정보 (원/kg)**
+            %s
+            %s
+
+            위 정보를 참고하되, **사용자 요청에 가장 적합한 식단**을 자유롭게 추천해주세요.
+            - 위 목록에 없는 재료도 필요하면 자유롭게 사용하세요
+            - 사용자가 특정 음식을 요청하면 해당 음식을 우선 추천하세요
+            - 다양한 세계 각국의 요리를 추천할 수 있습니다 (양식, 중식, 일식, 한식, 디저트 등)
+
+            **가격 고려 지침:**
+            - 사용자가 "저렴한", "싼", "가성비", "경제적인" 등의 키워드를 사용할 때만 가격을 우선 고려하세요
+            - 그 외에는 맛과 영양, 사용자 요청을 최우선으로 하세요
+            - 예상 가격은 일반적인 시장 가격을 기준으로 정확하게 계산해주세요
+
+            반드시 아래 JSON 형식으로만 응답해주세요. 다른 텍스트는 포함하지 마세요.
+
+            {
+              "mealName": "식단 이름",
+              "mealType": "아침/점심/저녁 중 하나",
+              "description": "식단에 대한 간단한 설명",
+              "ingredients": [
+                {
+                  "name": "재료명",
+                  "amount": "수량",
+                  "unit": "단위",
+                  "estimatedPrice": "해당 재료의 예상 가격(숫자만, 원 단위)"
+                }
+              ],
+              "recipe": [
+                "조리 순서 1",
+                "조리 순서 2",
+                "조리 순서 3"
+              ],
+              "nutrition": {
+                "calories": "예상 칼로리(kcal)",
+                "carbs": "탄수화물(g)",
+                "protein": "단백질(g)",
+                "fat": "지방(g)"
+              },
+              "estimatedPrice": "예상 가격(숫자만, 단위 제외)"
+            }
+
+            예시:
+            {
+              "mealName": "김치볶음밥",
+              "mealType": "점심",
+              "description": "간단하면서도 영양가 있는 한끼 식사",
+              "ingredients": [
+                {"name": "밥", "amount": "200", "unit": "g", "estimatedPrice": 500},
+                {"name": "김치", "amount": "100", "unit": "g", "estimatedPrice": 800},
+                {"name": "계란", "amount": "1", "unit": "개", "estimatedPrice": 300},
+                {"name": "참기름", "amount": "15", "unit": "ml", "estimatedPrice": 400},
+                {"name": "대파", "amount": "30", "unit": "g", "estimatedPrice": 200}
+              ],
+              "recipe": [
+                "팬에 참기름을 두르고 김치를 볶습니다",
+                "밥을 넣고 잘 섞어줍니다",
+                "계란을 풀어서 넣고 함께 볶습니다",
+                "대파를 송송 썰어 넣고 마무리합니다"
+              ],
+              "nutrition": {
+                "calories": "520",
+                "carbs": "65",
+                "protein": "18",
+                "fat": "15"
+              },
+              "estimatedPrice": "3500"
+            }
+
+            주의사항:
+            - 반드시 유효한 JSON 형식으로만 응답
+            - estimatedPrice는 숫자만 입력 (원, 약 등 제외)
+            - 영양 정보는 대략적인 추정치로 제공
+
+            **알러지 처리 지침:**
+            - 기본적으로 알러지 식품은 사용하지 마세요
+            - 단, 사용자가 알러지 식품이 포함된 요리를 명시적으로 요청한 경우:
+              1. description에 "⚠️ 알레르기 주의: 이 요리에는 {알레르기 식품}이(가) 포함되어 있습니다" 경고를 포함하세요
+              2. 대체 재료를 사용한 알레르기 프리 버전을 추천하는 것을 우선 고려하세요
+              3. 대체가 불가능하면 경고와 함께 원래 요청대로 추천하세요
+
+            **재료 단위 지침 (매우 중요):**
+            - 재료 수량은 반드시 g, kg, ml, l 단위로 표기하세요
+            - "개" 단위는 계란 등 명확한 개수 단위 식재료에만 사용
+            - 채소, 향신료는 반드시 g 단위로 표기 (예: "파슬리 5g", "바질 10g")
+            - 고기, 생선은 반드시 g 또는 kg 단위로 표기
+            - 액체 조미료는 ml 단위로 표기
+
+            **다양성 및 창의성 지침 (매우 중요):**
+            - 사용자 요청을 최우선으로 고려하세요
+            - 케이크를 요청하면 케이크를, 파스타를 요청하면 파스타를 추천하세요
+            - 다양한 요리를 추천하세요 (양식, 중식, 일식, 한식, 베이킹, 디저트 등)
+            - 매번 다른 재료와 조합을 사용하여 창의적인 식단을 만드세요
+            - 건강식이라고 해서 항상 닭가슴살이 필요한 것은 아닙니다
+            - 사용자가 특정 음식을 명시하지 않았을 때만 영양과 가격을 균형있게 고려하세요
+            """,
+                height, weight, servingSize, allergyText, historyText, chatMessage, priceInfo, previousPriceText
+        );
+
+        return new MealPrompt(null, text, Format.VERBOSE, estimateTokens(text));
+    }
+
+    /**
+     * 입력 토큰 수 추정 (SentencePiece 계열 기준 근사치)
+     * - 한글 음절: 1토큰
+     * - 그 외 문자: 공백 제외 3.5자당 1토큰
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int hangul = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\uAC00' && c <= '\uD7A3') {
+                hangul++;
+            } else if (!Character.isWhitespace(c)) {
+                other++;
+            }
+        }
+        return hangul + (int) Math.ceil(other / 3.5);
+    }
+
+    private DistributionSummary summary(Format format, String kind) {
+        return DistributionSummary.builder("meal.prompt.tokens")
+                .description("식단 추천 프롬프트 입력 토큰 수")
+                .tag("format", format.name().toLowerCase())
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,166 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fom.boot.app.meal.dto.MealPlanResponse;
+import com.fom.boot.domain.ingredient.model.vo.PriceSnapshotChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 식단 추천 결과 캐시 (LRU + TTL)
+ * - 키: 정규화한 요청 (키/몸무게 구간, 정렬한 알러지, 정리한 메시지, 가격 정보 버전)
+ * - 비슷한 요청은 Gemini 호출(수 초) 없이 바로 응답
+ * - 가격 스냅샷이 바뀌면 전부 비움 (가격이 들어간 추천이므로)
+ * - 지표: meal.recommendation.cache{result=hit|miss|bypass}, meal.recommendation.cache.size
+ */
+@Slf4j
+@Component
+public class MealRecommendationCache {
+
+	private static final int HEIGHT_BUCKET_CM = 5;
+	private static final int WEIGHT_BUCKET_KG = 5;
+	private static final int PRICE_BUCKET_WON = 500;
+
+	private final int maxSize;
+	private final long ttlMillis;
+	private final Map<Key, Entry> cache;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter bypassCounter;
+
+	private record Entry(MealPlanResponse plan, long expiresAt) {}
+
+	/**
+	 * 정규화된 요청 키
+	 */
+	public record Key(int heightBucket, int weightBucket, int servingSize, List<String> allergies,
+			String message, int previousPriceBucket, long priceVersion) {
+
+		public static Key of(int height, int weight, int servingSize, List<String> allergies,
+				String message, Integer previousPrice, long priceVersion) {
+			return new Key(
+					height / HEIGHT_BUCKET_CM * HEIGHT_BUCKET_CM,
+					weight / WEIGHT_BUCKET_KG * WEIGHT_BUCKET_KG,
+					servingSize,
+					normalizeAllergies(allergies),
+					normalizeMessage(message),
+					previousPrice != null && previousPrice > 0 ? previousPrice / PRICE_BUCKET_WON * PRICE_BUCKET_WON : 0,
+					priceVersion);
+		}
+	}
+
+	public MealRecommendationCache(
+			MeterRegistry meterRegistry,
+			@Value("${meal.recommendation-cache.max-size:500}") int maxSize,
+			@Value("${meal.recommendation-cache.ttl-seconds:1800}") long ttlSeconds) {
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlSeconds * 1000;
+		// accessOrder = true : 조회 순서 기준 LRU
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > MealRecommendationCache.this.maxSize;
+			}
+		};
+
+		this.hitCounter = counter(meterRegistry, "hit");
+		this.missCounter = counter(meterRegistry, "miss");
+		this.bypassCounter = counter(meterRegistry, "bypass");
+		Gauge.builder("meal.recommendation.cache.size", this, MealRecommendationCache::size)
+				.description("캐시된 식단 추천 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * @return 캐시된 추천 (없거나 만료되면 null)
+	 */
+	public MealPlanResponse get(Key key) {
+		synchronized (cache) {
+			Entry entry = cache.get(key);
+			if (entry != null && System.currentTimeMillis() < entry.expiresAt()) {
+				hitCounter.increment();
+				return entry.plan();
+			}
+			if (entry != null) {
+				cache.remove(key);
+			}
+		}
+		missCounter.increment();
+		return null;
+	}
+
+	public void put(Key key, MealPlanResponse plan) {
+		if (maxSize <= 0 || ttlMillis <= 0) {
+			return;
+		}
+		synchronized (cache) {
+			cache.put(key, new Entry(plan, System.currentTimeMillis() + ttlMillis));
+		}
+	}
+
+	// "다른 거 추천해줘" 등 캐시를 건너뛴 요청 기록
+	public void recordBypass() {
+		bypassCounter.increment();
+	}
+
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	@EventListener
+	public void onPriceSnapshotChanged(PriceSnapshotChangedEvent event) {
+		int removed;
+		synchronized (cache) {
+			removed = cache.size();
+			cache.clear();
+		}
+		if (removed > 0) {
+			log.info("가격 변경으로 식단 추천 캐시 비움 - {}건 (version: {})", removed, event.version());
+		}
+	}
+
+	// 대소문자/공백 정리 + 중복 제거 + 정렬
+	private static List<String> normalizeAllergies(List<String> allergies) {
+		if (allergies == null || allergies.isEmpty()) {
+			return List.of();
+		}
+		TreeSet<String> sorted = new TreeSet<>();
+		for (String allergy : allergies) {
+			if (allergy != null && !allergy.isBlank()) {
+				sorted.add(allergy.strip().toLowerCase(Locale.ROOT));
+			}
+		}
+		return List.copyOf(sorted);
+	}
+
+	// 연속 공백 하나로, 끝의 문장부호(!?.~) 제거, 소문자
+	private static String normalizeMessage(String message) {
+		if (message == null) {
+			return "";
+		}
+		String normalized = message.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+		return normalized.replaceAll("[!?.~\\s]+$", "");
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("meal.recommendation.cache")
+				.description("식단 추천 캐시 조회 결과")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
@@ -1,5 +1,7 @@
 package com.fom.boot.domain.meal.model.service.impl;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
 import com.fom.boot.domain.meal.model.mapper.MealMapper;
@@ -27,4 +29,20 @@ public class MealServiceImpl implements MealService {
             return false;
         }
     }
+
+    @Override
+    public int saveMealPlans(List<MealPlan> mealPlans) {
+        if (mealPlans == null || mealPlans.isEmpty()) {
+            return 0;
+        }
+        String memberId = mealPlans.get(0).getMemberId();
+        try {
+            int result = mealMapper.insertMealPlans(mealPlans);
+            log.info("식단 일괄 저장 완료 - 회원ID: {}, {}건", memberId, result);
+            return result;
+        } catch (Exception e) {
+            log.error("식단 일괄 저장 실패 - 회원ID: {}, {}건", memberId, mealPlans.size(), e);
+            return 0;
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fom.boot.common.config.PriceContextProperties;
+import com.fom.boot.domain.ingredient.model.service.PriceService;
+import com.fom.boot.domain.ingredient.model.service.impl.PriceResolver;
+import com.fom.boot.domain.ingredient.model.vo.PriceSnapshotChangedEvent;
+import com.fom.boot.domain.meal.model.service.PriceContextService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프롬프트 가격 정보 캐시
+ * - 가격 스냅샷 버전별로 한 번만 생성 (KAMIS 동기화 → PriceSnapshotChangedEvent → 재생성)
+ * - 요청 시에도 버전을 비교해 이벤트를 놓친 경우를 보완
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceContextServiceImpl implements PriceContextService {
+
+	private static final String UNAVAILABLE = "가격 정보를 불러올 수 없습니다. 일반적인 시장 가격을 고려하여 추천합니다.";
+
+	private final PriceService priceService;
+	private final PriceResolver priceResolver;
+	private final PriceContextProperties properties;
+
+	private final AtomicReference<Fragment> current = new AtomicReference<>();
+
+	@Override
+	public String getPriceContext() {
+		Fragment fragment = currentFragment();
+		return fragment != null ? fragment.text() : UNAVAILABLE;
+	}
+
+	@Override
+	public String getCompactPriceContext() {
+		Fragment fragment = currentFragment();
+		return fragment != null ? fragment.compact() : "";
+	}
+
+	// 현재 버전의 가격 정보 (생성 실패 시 이전 것, 그것도 없으면 null)
+	private Fragment currentFragment() {
+		try {
+			long version = priceResolver.getVersion();
+			Fragment fragment = current.get();
+			if (fragment != null && fragment.version() == version) {
+				return fragment;
+			}
+			return rebuild(version);
+		} catch (Exception e) {
+			log.error("가격 정보 생성 실패", e);
+			return current.get();
+		}
+	}
+
+	@Override
+	public long getVersion() {
+		try {
+			return priceResolver.getVersion();
+		} catch (Exception e) {
+			// 가격 스냅샷을 만들 수 없을 때 (DB 장애 등) - 가격 정보 없는 프롬프트와 같은 버전으로 취급
+			log.debug("가격 정보 버전 조회 실패", e);
+			return -1;
+		}
+	}
+
+	@EventListener
+	public void onPriceSnapshotChanged(PriceSnapshotChangedEvent event) {
+		Fragment fragment = current.get();
+		if (fragment != null && fragment.version() >= event.version()) {
+			return;
+		}
+		try {
+			rebuild(event.version());
+		} catch (Exception e) {
+			// 실패 시 기존 문자열 유지 (다음 요청에서 다시 시도)
+			log.error("가격 정보 재생성 실패 - version: {}", event.version(), e);
+		}
+	}
+
+	private synchronized Fragment rebuild(long version) {
+		Fragment fragment = current.get();
+		if (fragment != null && fragment.version() >= version) {
+			return fragment;
+		}
+
+		// 설정된 모든 품목을 한 번에 조회 (중복 제거, 순서 유지)
+		Set<String> names = new LinkedHashSet<>();
+		for (PriceContextProperties.Group group : properties.getGroups()) {
+			names.addAll(group.getItems());
+		}
+		Map<String, Integer> prices = priceService.getPrices(names.toArray(String[]::new));
+
+		String text;
+		String compact;
+		if (prices.isEmpty()) {
+			log.warn("가격 정보를 가져올 수 없음 - 기본 메시지 사용");
+			text = UNAVAILABLE;
+			compact = "";
+		} else {
+			StringBuilder sb = new StringBuilder();
+			for (PriceContextProperties.Group group : properties.getGroups()) {
+				if (sb.length() > 0) {
+					sb.append('\n');
+				}
+				sb.append('【').append(group.getName()).append("】\n");
+				for (String item : group.getItems()) {
+					Integer price = prices.get(item);
+					if (price != null) {
+						sb.append(String.format("- %s: %,d원/kg\n", item, price));
+					}
+				}
+			}
+			text = sb.toString();
+			compact = toCompact(prices);
+		}
+
+		Fragment rebuilt = new Fragment(version, text, compact);
+		current.set(rebuilt);
+		log.info("가격 정보 생성 완료 - version: {}, {}개 품목", version, prices.size());
+		return rebuilt;
+	}
+
+	// 분류당 한 줄: "곡류|쌀=2500|찹쌀=4000" (원/kg, 천 단위 쉼표 없음)
+	private String toCompact(Map<String, Integer> prices) {
+		StringBuilder sb = new StringBuilder();
+		for (PriceContextProperties.Group group : properties.getGroups()) {
+			int lineStart = sb.length();
+			sb.append(group.getName());
+			boolean any = false;
+			for (String item : group.getItems()) {
+				Integer price = prices.get(item);
+				if (price != null) {
+					sb.append('|').append(item).append('=').append(price);
+					any = true;
+				}
+			}
+			if (any) {
+				sb.append('\n');
+			} else {
+				sb.setLength(lineStart);
+			}
+		}
+		return sb.toString();
+	}
+
+	private record Fragment(long version, String text, String compact) {
+	}
+}
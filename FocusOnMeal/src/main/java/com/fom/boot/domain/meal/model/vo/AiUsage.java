@@ -0,0 +1,23 @@
+package com.fom.boot.domain.meal.model.vo;
+
+import java.sql.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 회원(또는 IP)별 하루 AI 사용량 (AI_USAGE)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiUsage {
+    private String memberKey;    // 회원 ID 또는 "ip:주소"
+    private Date usageDate;      // 사용 일자
+    private long requestCount;   // Gemini 호출 수
+    private long promptTokens;   // 프롬프트 토큰 수
+    private long responseTokens; // 응답 토큰 수
+}
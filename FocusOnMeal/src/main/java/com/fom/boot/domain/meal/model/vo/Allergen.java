@@ -0,0 +1,83 @@
+package com.fom.boot.domain.meal.model.vo;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알레르기 유발 식품 (식품 알레르기 표시 대상 기준) - 식단 카탈로그 알레르기 비트마스크용
+ * - aliases: 사용자가 알러지로 입력하는 이름 (정확히 일치)
+ * - keywords: 재료명에 포함되면 해당 알레르기 식품으로 봄 (넓게 잡아 안전한 쪽으로 제외)
+ */
+public enum Allergen {
+
+	EGG(List.of("알류", "난류", "계란", "달걀"), List.of("계란", "달걀", "메추리알", "마요네즈")),
+	MILK(List.of("우유", "유제품"), List.of("우유", "치즈", "버터", "요거트", "요구르트", "생크림", "크림", "연유")),
+	BUCKWHEAT(List.of("메밀"), List.of("메밀")),
+	PEANUT(List.of("땅콩", "견과류"), List.of("땅콩")),
+	SOY(List.of("대두", "콩"), List.of("대두", "콩", "두부", "된장", "간장", "두유", "고추장", "유부", "청국장")),
+	WHEAT(List.of("밀", "밀가루"), List.of("밀", "빵", "국수", "파스타", "스파게티", "라면", "우동", "소면", "또띠아",
+			"만두피", "부침가루", "튀김가루", "간장", "고추장")),
+	MACKEREL(List.of("고등어"), List.of("고등어")),
+	CRAB(List.of("게", "갑각류"), List.of("게", "꽃게", "대게")),
+	SHRIMP(List.of("새우", "갑각류"), List.of("새우", "대하", "크릴")),
+	PORK(List.of("돼지고기", "돼지"), List.of("돼지", "삼겹살", "목살", "항정살", "베이컨", "햄", "소시지")),
+	PEACH(List.of("복숭아"), List.of("복숭아")),
+	TOMATO(List.of("토마토"), List.of("토마토", "케첩")),
+	SULFITE(List.of("아황산류", "아황산"), List.of("와인", "건포도", "건블루베리")),
+	WALNUT(List.of("호두", "견과류"), List.of("호두")),
+	CHICKEN(List.of("닭고기", "닭"), List.of("닭", "치킨")),
+	BEEF(List.of("쇠고기", "소고기"), List.of("쇠고기", "소고기", "한우", "차돌", "사골")),
+	SQUID(List.of("오징어"), List.of("오징어")),
+	SHELLFISH(List.of("조개류", "조개", "굴", "전복", "홍합"), List.of("조개", "굴", "전복", "홍합", "바지락", "가리비", "꼬막")),
+	PINE_NUT(List.of("잣", "견과류"), List.of("잣"));
+
+	private final List<String> aliases;
+	private final List<String> keywords;
+
+	Allergen(List<String> aliases, List<String> keywords) {
+		this.aliases = aliases;
+		this.keywords = keywords;
+	}
+
+	public long bit() {
+		return 1L << ordinal();
+	}
+
+	/**
+	 * 재료 목록에 들어 있는 알레르기 식품 비트마스크
+	 */
+	public static long maskOfIngredients(Collection<String> ingredientNames) {
+		long mask = 0;
+		for (String name : ingredientNames) {
+			if (name == null) {
+				continue;
+			}
+			for (Allergen allergen : values()) {
+				for (String keyword : allergen.keywords) {
+					if (name.contains(keyword)) {
+						mask |= allergen.bit();
+						break;
+					}
+				}
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * 사용자 알러지 이름 → 비트마스크 (모르는 이름은 0, 재료명 직접 비교 필요)
+	 */
+	public static long maskOf(String allergy) {
+		if (allergy == null) {
+			return 0;
+		}
+		String name = allergy.strip();
+		long mask = 0;
+		for (Allergen allergen : values()) {
+			if (allergen.aliases.contains(name)) {
+				mask |= allergen.bit();
+			}
+		}
+		return mask;
+	}
+}
@@ -0,0 +1,25 @@
+package com.fom.boot.domain.meal.model.vo;
+
+import java.util.List;
+
+/**
+ * 채팅 세션의 이전 대화 (프롬프트에 넣을 부분, ChatSessionStore 결과)
+ *
+ * @param summary 오래된 대화 요약 (없으면 빈 문자열)
+ * @param turns 최근 대화 (오래된 것부터)
+ * @param allergies 세션에서 말한 알러지 (요청에 알러지가 없을 때 사용)
+ */
+public record ChatContext(String summary, List<Turn> turns, List<String> allergies) {
+
+	/**
+	 * @param message 사용자 요청
+	 * @param mealName 추천한 식단 이름
+	 * @param price 추천 식단 가격 (없으면 null)
+	 */
+	public record Turn(String message, String mealName, Integer price) {
+	}
+
+	public boolean isEmpty() {
+		return summary.isEmpty() && turns.isEmpty();
+	}
+}
@@ -0,0 +1,28 @@
+package com.fom.boot.domain.meal.model.vo;
+
+import java.util.List;
+
+/**
+ * AI가 생성한 식단 1건 (가격 계산 전, GeneratedMealReader 결과)
+ *
+ * @param mealName 식단 이름
+ * @param mealType 아침/점심/저녁
+ * @param description 식단 설명
+ * @param ingredients 재료 목록
+ * @param recipe 조리법
+ * @param nutrition 영양 정보 (없으면 null)
+ * @param estimatedPrice AI 예상 가격 (없으면 null)
+ */
+public record GeneratedMeal(String mealName, String mealType, String description,
+		List<Ingredient> ingredients, List<String> recipe, Nutrition nutrition, Integer estimatedPrice) {
+
+	/**
+	 * @param amount 수량 (숫자로 와도 문자열로 보관)
+	 * @param estimatedPrice AI 예상 가격 (없으면 null)
+	 */
+	public record Ingredient(String name, String amount, String unit, Integer estimatedPrice) {
+	}
+
+	public record Nutrition(String calories, String carbs, String protein, String fat) {
+	}
+}
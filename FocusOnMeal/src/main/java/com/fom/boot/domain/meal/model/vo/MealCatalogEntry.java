@@ -0,0 +1,36 @@
+package com.fom.boot.domain.meal.model.vo;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 미리 생성해 둔 식단 (MEAL_CATALOG) - Gemini 장애/지연 시 대체 응답용
+ * 컬럼 구성은 MEAL_PLAN과 같고, 회원 대신 설명/알레르기 비트마스크를 가짐
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealCatalogEntry {
+    private int catalogId; // 고유 ID (SEQ_MEAL_CATALOG)
+    private String planName; // 식단 이름
+    private String whenEat; // 아침/점심/저녁
+    private String description; // 식단 설명
+    private int servingSize; // 가격 기준 인분 (1)
+    private int totalCost; // 생성 시점 계산 가격
+    private BigDecimal calories; // 칼로리
+    private BigDecimal carbsG; // 탄수화물
+    private BigDecimal proteinG; // 단백질
+    private BigDecimal fatG; // 지방
+    private String aiRecipe; // 조리법 (JSON 배열)
+    private String ingredientsJson; // 재료 및 가격 정보 (JSON)
+    private long allergenMask; // 포함된 알레르기 식품 (Allergen 비트마스크)
+    private Timestamp createdAt; // 생성 일시 (default)
+}
@@ -0,0 +1,44 @@
+package com.fom.boot.domain.member.model.mapper;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.fom.boot.domain.member.model.vo.RevokedToken;
+
+@Mapper
+public interface RevokedTokenMapper {
+
+	/**
+	 * 폐기 토큰 저장 (이미 있으면 무시)
+	 * 
+	 * @param revokedToken 폐기 토큰 정보
+	 * @return 저장된 행 수
+	 */
+	int insertRevokedToken(RevokedToken revokedToken);
+
+	/**
+	 * 폐기 여부 확인 (만료되지 않은 폐기 토큰 개수)
+	 * 
+	 * @param jti 토큰 ID
+	 * @return 0 또는 1
+	 */
+	int countRevokedToken(@Param("jti") String jti);
+
+	/**
+	 * 아직 만료되지 않은 폐기 토큰 목록 (서버 시작 시 Bloom filter 적재용)
+	 * 
+	 * @return jti, 만료 시각만 채운 목록
+	 */
+	List<RevokedToken> selectActiveTokens();
+
+	/**
+	 * 기준 시각 이전에 만료된 폐기 토큰 삭제 (배치 작업용)
+	 * 
+	 * @param now 기준 시각
+	 * @return 삭제된 행 수
+	 */
+	int deleteExpiredTokens(@Param("now") Timestamp now);
+}
@@ -1,6 +1,7 @@
 package com.fom.boot.domain.member.model.service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.fom.boot.app.member.dto.LoginRequest;
 import com.fom.boot.app.mypage.dto.ProfileResponse;
@@ -53,7 +54,11 @@ public interface MemberService {
 	
 	ProfileResponse getUserProfile(String memberId);
 	
-	void updateProfile(String memberId, ProfileUpdateRequest request);
+	// 비밀번호 변경 시 기존 비밀번호 확인 후 새 비밀번호 암호화 (BCrypt 풀에서 비동기, 변경하지 않으면 null)
+	CompletableFuture<String> encodeNewPassword(String memberId, ProfileUpdateRequest request);
+	
+	// encodedNewPassword가 null이면 비밀번호는 그대로 둠
+	void updateProfile(String memberId, ProfileUpdateRequest request, String encodedNewPassword);
 	
 	boolean deleteMember(String memberId, String password);
 	
@@ -3,10 +3,10 @@ package com.fom.boot.domain.member.model.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fom.boot.app.security.PasswordHashService;
 import com.fom.boot.common.util.TokenUtil;
 import com.fom.boot.domain.member.model.mapper.MemberMapper;
 import com.fom.boot.domain.member.model.mapper.PasswordResetMapper;
@@ -36,7 +36,7 @@ public class PasswordResetService {
     private EmailService emailService;
     
     @Autowired
-    private BCryptPasswordEncoder bcrypt;
+    private PasswordHashService passwordHashService;
     
     // Rate Limiting 설정
     private static final int MAX_REQUESTS_PER_MEMBER_24H = 5;  // 회원당 24시간 내 최대 5회
@@ -198,7 +198,7 @@ public class PasswordResetService {
         }
         
         // 3. 비밀번호 암호화
-        String encodedPassword = bcrypt.encode(newPassword);
+        String encodedPassword = passwordHashService.encode(newPassword);
         
         // 4. 비밀번호 업데이트
         int updateResult = memberMapper.updateMemberPassword(memberId, encodedPassword);
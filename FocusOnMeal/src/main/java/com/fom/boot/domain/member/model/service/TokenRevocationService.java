@@ -0,0 +1,15 @@
+package com.fom.boot.domain.member.model.service;
+
+import java.util.Date;
+
+public interface TokenRevocationService {
+
+	// 토큰 폐기 (로그아웃, 리프레시 토큰 교체 시) - 이번 호출로 새로 폐기했으면 true, 이미 폐기된 토큰이면 false
+	boolean revoke(String jti, String memberId, String tokenType, Date expiration);
+
+	// 폐기된 토큰인지 확인 (메모리 Bloom filter 우선, 적중 가능성이 있을 때만 DB 확인)
+	boolean isRevoked(String jti);
+
+	// 만료된 폐기 토큰 정리 (Bloom filter + DB)
+	int cleanupExpired();
+}
@@ -3,25 +3,28 @@ package com.fom.boot.domain.member.model.service.impl;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.ibatis.annotations.Param;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fom.boot.app.member.dto.LoginRequest;
 import com.fom.boot.app.mypage.dto.ProfileResponse;
 import com.fom.boot.app.mypage.dto.ProfileUpdateRequest;
+import com.fom.boot.app.security.PasswordHashService;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.common.util.NicknameUtils;
 import com.fom.boot.domain.member.model.mapper.MemberMapper;
 import com.fom.boot.domain.member.model.service.EmailService;
 import com.fom.boot.domain.member.model.service.MemberService;
 import com.fom.boot.domain.member.model.vo.Member;
+import com.fom.boot.domain.member.model.vo.MemberChangedEvent;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,8 +38,13 @@ public class MemberServiceImpl implements MemberService {
     @Autowired
     private EmailService emailService;
 
+    // BCrypt 검증/암호화는 전용 스레드 풀에서 실행
     @Autowired
-    private BCryptPasswordEncoder bcrypt;
+    private PasswordHashService passwordHashService;
+
+    // 회원 정보 변경 시 JWT 필터의 인증 주체 캐시 무효화 (커밋 후 PrincipalCache에서 처리)
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     // 이메일 인증 코드 저장소
     private final ConcurrentHashMap<String, VerificationData> verificationCodes = new ConcurrentHashMap<>();
@@ -200,6 +208,7 @@ public class MemberServiceImpl implements MemberService {
         int result = memberMapper.updateAdminNickname(member);
 
         if (result > 0) {
+            eventPublisher.publishEvent(new MemberChangedEvent(memberId));
             // 4. 업데이트된 닉네임만 프론트엔드로 반환
             return newNickname;
         } else {
@@ -211,7 +220,9 @@ public class MemberServiceImpl implements MemberService {
 	// 회원 상태 변경
 	@Override
 	public int updateStatusYn(String memberId, String statusYn) {
-		return memberMapper.updateStatusYn(memberId, statusYn);
+		int result = memberMapper.updateStatusYn(memberId, statusYn);
+		eventPublisher.publishEvent(new MemberChangedEvent(memberId));
+		return result;
 	}
 
 	// 총 회원수 + 검색
@@ -363,9 +374,42 @@ public class MemberServiceImpl implements MemberService {
                 .build();
     }
 
+	@Override
+    public CompletableFuture<String> encodeNewPassword(String memberId, ProfileUpdateRequest request) {
+        // 비밀번호 변경 (선택적)
+        if (request.getCurrentPassword() == null || request.getCurrentPassword().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Member member = memberMapper.selectOneById(memberId);
+        if (member == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+
+        // 새 비밀번호 검증
+        if (request.getNewPassword() == null || request.getNewPassword().isEmpty()) {
+            throw new IllegalArgumentException("새 비밀번호를 입력해주세요.");
+        }
+
+        // 비밀번호 정규식 검증 (영문, 숫자, 특수문자 포함 8자 이상)
+        String passwordPattern = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$";
+        if (!request.getNewPassword().matches(passwordPattern)) {
+            throw new IllegalArgumentException("비밀번호는 영문, 숫자, 특수문자를 포함한 8자 이상이어야 합니다.");
+        }
+
+        // 기존 비밀번호 확인 → 새 비밀번호 암호화 (요청 스레드는 기다리지 않음)
+        return passwordHashService.matchesAsync(request.getCurrentPassword(), member.getMemberPw())
+                .thenCompose(matched -> {
+                    if (!matched) {
+                        throw new IllegalArgumentException("기존 비밀번호가 일치하지 않습니다.");
+                    }
+                    return passwordHashService.encodeAsync(request.getNewPassword());
+                });
+    }
+
 	@Override
 	@Transactional
-    public void updateProfile(String memberId, ProfileUpdateRequest request) {
+    public void updateProfile(String memberId, ProfileUpdateRequest request, String encodedNewPassword) {
         Member member = memberMapper.selectOneById(memberId);
         
         if (member == null) {
@@ -386,26 +430,9 @@ public class MemberServiceImpl implements MemberService {
             member.setPhone(request.getPhone());
         }
 
-        // 비밀번호 변경 (선택적)
-        if (request.getCurrentPassword() != null && !request.getCurrentPassword().isEmpty()) {
-            // 기존 비밀번호 확인
-            if (!bcrypt.matches(request.getCurrentPassword(), member.getMemberPw())) {
-                throw new IllegalArgumentException("기존 비밀번호가 일치하지 않습니다.");
-            }
-
-            // 새 비밀번호 검증
-            if (request.getNewPassword() == null || request.getNewPassword().isEmpty()) {
-                throw new IllegalArgumentException("새 비밀번호를 입력해주세요.");
-            }
-
-            // 비밀번호 정규식 검증 (영문, 숫자, 특수문자 포함 8자 이상)
-            String passwordPattern = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$";
-            if (!request.getNewPassword().matches(passwordPattern)) {
-                throw new IllegalArgumentException("비밀번호는 영문, 숫자, 특수문자를 포함한 8자 이상이어야 합니다.");
-            }
-
-            // 새 비밀번호 암호화 후 저장
-            member.setMemberPw(bcrypt.encode(request.getNewPassword()));
+        // 비밀번호 변경 - encodeNewPassword에서 확인/암호화를 마친 값
+        if (encodedNewPassword != null) {
+            member.setMemberPw(encodedNewPassword);
         }
 
         // DB 업데이트
@@ -414,6 +441,7 @@ public class MemberServiceImpl implements MemberService {
         if (result == 0) {
             throw new RuntimeException("프로필 수정에 실패했습니다.");
         }
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
         
         log.info("프로필 수정 완료: memberId={}", memberId);
     }
@@ -429,7 +457,7 @@ public class MemberServiceImpl implements MemberService {
 	    }
 
 	    // 2. 비밀번호 확인
-	    if (!bcrypt.matches(password, member.getMemberPw())) {
+	    if (!passwordHashService.matches(password, member.getMemberPw())) {
 	        return false;
 	    }
 
@@ -445,6 +473,7 @@ public class MemberServiceImpl implements MemberService {
 	    
 	    // 4. 회원 삭제
 	    int result = memberMapper.deleteMember(memberId);
+	    eventPublisher.publishEvent(new MemberChangedEvent(memberId));
 	    
 	    log.info("회원 탈퇴 완료: memberId={}", memberId);
 	    return result > 0;
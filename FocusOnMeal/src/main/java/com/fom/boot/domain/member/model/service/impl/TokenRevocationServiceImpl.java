@@ -0,0 +1,111 @@
+package com.fom.boot.domain.member.model.service.impl;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fom.boot.common.util.CountingBloomFilter;
+import com.fom.boot.domain.member.model.mapper.RevokedTokenMapper;
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+import com.fom.boot.domain.member.model.vo.RevokedToken;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 폐기 저장소
+ * - REVOKED_TOKEN 테이블이 원본, 메모리의 Counting Bloom filter는 빠른 "없음" 판정용
+ * - 요청마다 Bloom filter만 확인하고, "있을 수도 있음"일 때만 DB를 조회
+ * - 토큰 만료 시각이 지나면 cleanupExpired()에서 filter와 DB 양쪽에서 제거
+ * - filter에서는 이 서버가 넣은 jti만 뺌 (다른 서버가 저장했거나 시작 전에 이미 만료된 행을 빼면
+ *   카운터를 공유하는 다른 폐기 토큰이 "없음"으로 판정될 수 있음)
+ */
+@Slf4j
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+	private final RevokedTokenMapper revokedTokenMapper;
+	private final CountingBloomFilter bloomFilter;
+
+	// filter에 넣은 jti → 토큰 만료 시각(ms), 같은 jti는 한 번만 넣고 한 번만 뺌
+	private final Map<String, Long> trackedExpirations = new ConcurrentHashMap<>();
+
+	public TokenRevocationServiceImpl(
+			RevokedTokenMapper revokedTokenMapper,
+			@Value("${jwt.revocation.bloom-size:262144}") int bloomSize,
+			@Value("${jwt.revocation.bloom-hashes:4}") int bloomHashes) {
+		this.revokedTokenMapper = revokedTokenMapper;
+		this.bloomFilter = new CountingBloomFilter(bloomSize, bloomHashes);
+	}
+
+	// 서버 시작 시 아직 만료되지 않은 폐기 토큰을 filter에 적재
+	@PostConstruct
+	public void loadActiveRevocations() {
+		try {
+			List<RevokedToken> tokens = revokedTokenMapper.selectActiveTokens();
+			tokens.forEach(token -> track(token.getJti(), token.getExpireDate().getTime()));
+			log.info("Revoked token bloom filter loaded: {} tokens", tokens.size());
+		} catch (Exception e) {
+			// 테이블이 없거나 DB 연결 실패 시에도 서버는 정상 구동
+			log.error("Revoked token bloom filter load failed", e);
+		}
+	}
+
+	@Override
+	public boolean revoke(String jti, String memberId, String tokenType, Date expiration) {
+		if (jti == null || expiration == null) {
+			return false;
+		}
+		RevokedToken revokedToken = new RevokedToken();
+		revokedToken.setJti(jti);
+		revokedToken.setMemberId(memberId);
+		revokedToken.setTokenType(tokenType);
+		revokedToken.setExpireDate(new Timestamp(expiration.getTime()));
+
+		try {
+			if (revokedTokenMapper.insertRevokedToken(revokedToken) > 0) {
+				track(jti, expiration.getTime());
+				return true;
+			}
+			return false;
+		} catch (DuplicateKeyException e) {
+			// 동시에 같은 토큰을 폐기한 요청이 먼저 저장한 경우 (MERGE 경합 시 PK 위반)
+			track(jti, expiration.getTime());
+			return false;
+		}
+	}
+
+	@Override
+	public boolean isRevoked(String jti) {
+		if (jti == null || !bloomFilter.mightContain(jti)) {
+			return false;
+		}
+		return revokedTokenMapper.countRevokedToken(jti) > 0;
+	}
+
+	@Override
+	@Transactional
+	public int cleanupExpired() {
+		long now = System.currentTimeMillis();
+		for (Map.Entry<String, Long> entry : trackedExpirations.entrySet()) {
+			if (entry.getValue() <= now && trackedExpirations.remove(entry.getKey(), entry.getValue())) {
+				bloomFilter.remove(entry.getKey());
+			}
+		}
+		return revokedTokenMapper.deleteExpiredTokens(new Timestamp(now));
+	}
+
+	// 처음 보는 jti만 filter에 추가
+	private void track(String jti, long expiresAt) {
+		if (trackedExpirations.putIfAbsent(jti, expiresAt) == null) {
+			bloomFilter.add(jti);
+		}
+	}
+}
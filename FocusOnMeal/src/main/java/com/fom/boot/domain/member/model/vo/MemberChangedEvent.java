@@ -0,0 +1,10 @@
+package com.fom.boot.domain.member.model.vo;
+
+/**
+ * 회원 정보(등급/상태/프로필/비밀번호)가 바뀌었거나 탈퇴했음을 알리는 이벤트
+ * - 트랜잭션 커밋 후 PrincipalCache가 인증 주체 캐시를 비움
+ *   (커밋 전에 비우면 그 사이 요청이 변경 전 행을 다시 캐시할 수 있음)
+ * @param memberId 회원 ID
+ */
+public record MemberChangedEvent(String memberId) {
+}
@@ -0,0 +1,22 @@
+package com.fom.boot.domain.member.model.vo;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그아웃 등으로 폐기된 JWT (jti 기준)
+ * - 토큰 만료 시각(EXPIRE_DATE)이 지나면 배치로 삭제
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+	private String jti;
+	private String memberId;
+	private String tokenType;
+	private Timestamp expireDate;
+	private Timestamp revokedDate;
+}
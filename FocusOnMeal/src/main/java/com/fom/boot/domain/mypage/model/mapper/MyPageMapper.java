@@ -5,6 +5,7 @@ import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.app.mypage.dto.Allergy;
 import com.fom.boot.app.mypage.dto.FavoriteIngredientSummaryDTO;
 import com.fom.boot.app.mypage.dto.MealPlanSummaryDTO;
@@ -50,6 +51,10 @@ public interface MyPageMapper {
 									 @Param("startRow") int startRow,
 									 @Param("endRow") int endRow);
 
+	// 내 식단 페이지 (커서 방식)
+	List<MealPlan> selectMyMealPlansByCursor(@Param("memberId") String memberId,
+											 @Param("cursor") CursorRequest cursor);
+
 	// 식단 상세 조회
 	MealPlan selectMealPlanById(@Param("planId") int planId);
 
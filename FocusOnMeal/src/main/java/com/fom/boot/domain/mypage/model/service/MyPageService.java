@@ -3,6 +3,7 @@ package com.fom.boot.domain.mypage.model.service;
 import java.util.List;
 import java.util.Map;
 
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.app.mypage.dto.Allergy;
 import com.fom.boot.app.mypage.dto.MyPageDashboardDTO;
 import com.fom.boot.app.pricehistory.dto.PriceTrendResponse;
@@ -30,6 +31,9 @@ public interface MyPageService {
 	// 내 식단 페이지
 	Map<String, Object> getMyMealPlans(String memberId, int page);
 
+	// 내 식단 페이지 (커서 방식)
+	Map<String, Object> getMyMealPlans(String memberId, CursorRequest cursor);
+
 	MealPlan getMealPlanDetail(int planId);
 
 	// ====== 휴지통 기능 ======
@@ -8,8 +8,11 @@ import java.util.Map;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.common.pagination.Pagination;
+import com.fom.boot.common.pagination.SeekCursor;
 import com.fom.boot.domain.meal.model.vo.MealPlan;
 
 import com.fom.boot.app.mypage.dto.Allergy;
@@ -188,6 +191,24 @@ public class MyPageServiceImpl implements MyPageService {
 		return result;
 	}
 
+	// 내 식단 페이지 - 커서 방식 목록 조회
+	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Object> getMyMealPlans(String memberId, CursorRequest cursor) {
+		List<MealPlan> rows = mMapper.selectMyMealPlansByCursor(memberId, cursor);
+		CursorPage<MealPlan> page = CursorPage.of(rows, cursor,
+				m -> SeekCursor.of(m.getCreatedAt(), m.getPlanId()),
+				() -> mMapper.countMealPlans(memberId));
+
+		Map<String, Object> result = new HashMap<>();
+		result.put("mealList", page.getList());
+		result.put("nextCursor", page.getNextCursor());
+		result.put("hasNext", page.isHasNext());
+		result.put("totalCount", page.getTotalCount());
+
+		return result;
+	}
+
 	// 식단 상세 조회
 	@Override
 	@Transactional(readOnly = true)
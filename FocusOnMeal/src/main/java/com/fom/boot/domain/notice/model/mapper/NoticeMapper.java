@@ -6,6 +6,7 @@ import java.util.Map;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.domain.notice.model.vo.Notice;
 
 @Mapper
@@ -20,6 +21,12 @@ public interface NoticeMapper {
 			@Param("sortOrder") String sortOrder,
 			@Param("filterType") String filterType);
 
+	// 관리자 공지사항 목록 조회용 (커서 방식)
+	List<Notice> selectAllNoticesByCursor(@Param("cursor") CursorRequest cursor,
+			@Param("type") String type,
+			@Param("keyword") String keyword,
+			@Param("filterType") String filterType);
+
 	// 관리자 공지사항 수정용
 	int modifyNotice(Notice notice);
 
@@ -34,6 +41,11 @@ public interface NoticeMapper {
 			@Param("sortColumn") String sortColumn,
 			@Param("sortOrder") String sortOrder);
 	
+	// 일반 공지사항 조회 (커서 방식)
+	List<Notice> selectPublicNoticesByCursor(@Param("cursor") CursorRequest cursor,
+			@Param("type") String type,
+			@Param("keyword") String keyword);
+
 	// 일반 공지사항 상세 조회
     Notice selectNoticeDetail(int noticeNo);
 
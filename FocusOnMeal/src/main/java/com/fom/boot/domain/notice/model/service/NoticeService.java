@@ -3,6 +3,8 @@ package com.fom.boot.domain.notice.model.service;
 import java.util.List;
 import java.util.Map;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.domain.notice.model.vo.Notice;
 
@@ -11,6 +13,9 @@ public interface NoticeService {
 	// 관리자공지사항 목록 조회용
 	List<Notice> selectAllNotices(PageInfo pageInfo, String type, String keyword, String sortColumn, String sortOrder, String filterType);
 
+	// 관리자공지사항 목록 조회용 (커서 방식)
+	CursorPage<Notice> selectAllNotices(CursorRequest cursor, String type, String keyword, String filterType);
+
 	// 관리자 공지사항 수정
 	int modifyNotice(Notice notice);
 	
@@ -20,6 +25,9 @@ public interface NoticeService {
 	// 일반 공지사항 목록 조회
 	List<Notice> selectPublicNotices(PageInfo pageInfo, String type ,String keyword, String sortColumn, String sortOrderr);
 
+	// 일반 공지사항 목록 조회 (커서 방식)
+	CursorPage<Notice> selectPublicNotices(CursorRequest cursor, String type, String keyword);
+
 	// 일반 공지사항 상제 목록 조회
 	Notice selectNoticeDetail(int noticeNo);
 	
@@ -6,7 +6,10 @@ import java.util.Map;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
+import com.fom.boot.common.pagination.SeekCursor;
 import com.fom.boot.domain.notice.model.mapper.NoticeMapper;
 import com.fom.boot.domain.notice.model.service.NoticeService;
 import com.fom.boot.domain.notice.model.vo.Notice;
@@ -32,6 +35,15 @@ public class NoticeServiceImpl implements NoticeService {
 	            filterType);
 	}
 
+	// 관리자 공지사항 목록 조회용 (커서 방식)
+	@Override
+	public CursorPage<Notice> selectAllNotices(CursorRequest cursor, String type, String keyword, String filterType) {
+		List<Notice> rows = mapper.selectAllNoticesByCursor(cursor, type, keyword, filterType);
+		return CursorPage.of(rows, cursor,
+				n -> SeekCursor.of(n.getNoticeCreateAt(), n.getNoticeNo()),
+				() -> mapper.getTotalNoticesBySearch(type, keyword));
+	}
+
 	// 관리자 공지사항 수정
 	@Override
 	public int modifyNotice(Notice notice) {	
@@ -60,6 +72,15 @@ public class NoticeServiceImpl implements NoticeService {
 	            sortOrder);
 	}
 
+	// 일반 공지사항 조회 (커서 방식)
+	@Override
+	public CursorPage<Notice> selectPublicNotices(CursorRequest cursor, String type, String keyword) {
+		List<Notice> rows = mapper.selectPublicNoticesByCursor(cursor, type, keyword);
+		return CursorPage.of(rows, cursor,
+				n -> SeekCursor.of(n.getNoticeCreateAt(), n.getNoticeNo()),
+				() -> mapper.getTotalNoticesBySearch(type, keyword));
+	}
+
 	// 일반 공지사항 상세 조회
 	@Override
 	public Notice selectNoticeDetail(int noticeNo) {
@@ -27,6 +27,13 @@ public interface SafetyMapper {
 	// **수정: Map<String, Object>로 변경**
 	List<SafetyAlert> selectAlertList(Map<String, Object> searchMap);
 
+	/**
+	 * 안전 정보 목록 조회 (커서 방식)
+	 * @param searchMap 검색 조건 + sortColumn(publicationDate/alertId) + cursor(CursorRequest)
+	 * @return 안전 정보 목록 (cursor.fetchSize 개까지)
+	 */
+	List<SafetyAlert> selectAlertListByCursor(Map<String, Object> searchMap);
+
 	/**
 	 * 안전 정보 상세 조회
 	 * @param alertId 안전 정보 ID
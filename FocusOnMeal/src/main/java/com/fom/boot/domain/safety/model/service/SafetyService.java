@@ -3,6 +3,8 @@ package com.fom.boot.domain.safety.model.service;
 import java.util.List;
 import java.util.Map;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
 import com.fom.boot.domain.alert.model.vo.SafetyAlert;
 
@@ -24,6 +26,14 @@ public interface SafetyService {
 	// **수정: Map<String, Object>로 변경 (searchMap에 모든 정보 포함 예정)**
 	List<SafetyAlert> selectAlertList(PageInfo pi, Map<String, Object> searchMap); 
 
+	/**
+	 * 안전 정보 목록 조회 (커서 방식, 공표일 또는 ALERT_ID 정렬)
+	 * @param cursor 커서 조건
+	 * @param searchMap 검색 조건
+	 * @return 목록 + 다음 커서
+	 */
+	CursorPage<SafetyAlert> selectAlertList(CursorRequest cursor, Map<String, Object> searchMap);
+
 	/**
 	 * 안전 정보 상세 조회
 	 * @param alertId 안전 정보 ID
@@ -5,10 +5,16 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.session.RowBounds;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fom.boot.common.pagination.CursorPage;
+import com.fom.boot.common.pagination.CursorRequest;
 import com.fom.boot.common.pagination.PageInfo;
+import com.fom.boot.common.pagination.SeekCursor;
 import com.fom.boot.domain.alert.model.vo.SafetyAlert;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
 import com.fom.boot.domain.safety.model.mapper.SafetyMapper;
 import com.fom.boot.domain.safety.model.service.SafetyService;
 
@@ -21,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SafetyServiceImpl implements SafetyService {
 	
 	private final SafetyMapper safetyMapper;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	@Override
 	// **수정: Map<String, Object>로 변경**
@@ -63,6 +70,21 @@ public class SafetyServiceImpl implements SafetyService {
 		return safetyMapper.selectAlertList(params);
 	}
 
+	@Override
+	public CursorPage<SafetyAlert> selectAlertList(CursorRequest cursor, Map<String, Object> searchMap) {
+		// 커서 키: 공표일 정렬이면 (PUBLICATION_DATE, ALERT_ID), 그 외 ALERT_ID
+		boolean byDate = "publicationDate".equals(searchMap.get("sortColumn"));
+
+		Map<String, Object> params = new HashMap<>(searchMap);
+		params.put("sortColumn", byDate ? "publicationDate" : "alertId");
+		params.put("cursor", cursor);
+
+		List<SafetyAlert> rows = safetyMapper.selectAlertListByCursor(params);
+		return CursorPage.of(rows, cursor,
+				a -> byDate ? SeekCursor.of(a.getPublicationDate(), a.getAlertId()) : SeekCursor.ofId(a.getAlertId()),
+				() -> safetyMapper.selectAlertListCount(searchMap));
+	}
+
 	@Override
 	public SafetyAlert selectAlertDetail(int alertId) {
 		log.debug("안전 정보 상세 조회 - alertId: {}", alertId);
@@ -115,20 +137,31 @@ public class SafetyServiceImpl implements SafetyService {
 	// ========== 관리자 기능 추가 ==========
 	
 	@Override
+	@Transactional
 	public int insertAlert(SafetyAlert alert) {
 		log.debug("안전 정보 등록 - alert: {}", alert);
-		return safetyMapper.insertAlert(alert);
+		return publishIfChanged(safetyMapper.insertAlert(alert));
 	}
 	
 	@Override
+	@Transactional
 	public int updateAlert(SafetyAlert alert) {
 		log.debug("안전 정보 수정 - alert: {}", alert);
-		return safetyMapper.updateAlert(alert);
+		return publishIfChanged(safetyMapper.updateAlert(alert));
 	}
 	
 	@Override
+	@Transactional
 	public int deleteAlerts(List<Integer> alertIds) {
 		log.debug("안전 정보 삭제 - alertIds: {}", alertIds);
-		return safetyMapper.deleteAlerts(alertIds);
+		return publishIfChanged(safetyMapper.deleteAlerts(alertIds));
+	}
+
+	// 안전 정보가 바뀌면 커밋 후 식재료 카탈로그(안전 상태)/상세 캐시 갱신
+	private int publishIfChanged(int result) {
+		if (result > 0) {
+			eventPublisher.publishEvent(IngredientCatalogChangedEvent.of("ADMIN_SAFETY"));
+		}
+		return result;
 	}
 }
@@ -0,0 +1,152 @@
+package com.fom.boot.app.admin.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fom.boot.app.admin.dto.DashboardStatsDto;
+import com.fom.boot.app.jwt.JwtTokenProvider;
+import com.fom.boot.app.security.CustomUserDetailsService;
+import com.fom.boot.app.security.PrincipalCache;
+import com.fom.boot.app.security.RouteRegistry;
+import com.fom.boot.common.config.SecurityConfig;
+import com.fom.boot.domain.admin.model.service.AdminService;
+import com.fom.boot.domain.alert.model.service.AlertService;
+import com.fom.boot.domain.alert.model.service.FoodSafetyDataSyncService;
+import com.fom.boot.domain.ingredient.model.service.IngredientService;
+import com.fom.boot.domain.ingredient.model.service.KamisDataSyncService;
+import com.fom.boot.domain.member.model.mapper.MemberMapper;
+import com.fom.boot.domain.member.model.service.MemberService;
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+import com.fom.boot.domain.member.model.vo.Member;
+import com.fom.boot.domain.notice.model.service.NoticeService;
+import com.fom.boot.domain.safety.model.service.SafetyService;
+
+/**
+ * 관리자 API 권한 테스트 (SecurityConfig + JWT 필터 + @AdminOnly 메서드 보안)
+ * - 관리자가 아닌 로그인 회원은 403, 관리자는 통과
+ * - 어느 경우에도 회원을 다시 조회(selectOneById/findByMemberId)하지 않음
+ * - URL 규칙을 거치지 않고 컨트롤러를 직접 호출해도 @AdminOnly가 막는지 확인
+ */
+@WebMvcTest(controllers = AdminController.class, properties = {
+		"jwt.secret=Zm9jdXMtb24tbWVhbC1hZG1pbi1zZWN1cml0eS10ZXN0LXNlY3JldC1rZXk=",
+		"jwt.expiration-time=3600000",
+		"file.upload-dir=target/test-uploads"
+})
+@Import({ SecurityConfig.class, RouteRegistry.class, JwtTokenProvider.class, PrincipalCache.class,
+		CustomUserDetailsService.class })
+class AdminControllerSecurityTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private AdminController adminController;
+
+	@MockitoBean
+	private MemberMapper memberMapper;
+	@MockitoBean
+	private TokenRevocationService tokenRevocationService;
+	@MockitoBean
+	private MemberService mService;
+	@MockitoBean
+	private NoticeService nService;
+	@MockitoBean
+	private IngredientService iService;
+	@MockitoBean
+	private SafetyService safetyService;
+	@MockitoBean
+	private KamisDataSyncService kamisDataSyncService;
+	@MockitoBean
+	private FoodSafetyDataSyncService foodSafetyDataSyncService;
+	@MockitoBean
+	private AlertService alertService;
+	@MockitoBean
+	private AdminService adminService;
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void nonAdminGetsForbiddenWithoutMemberLookup() throws Exception {
+		String token = jwtTokenProvider.createToken(member("user01", "N"));
+
+		mockMvc.perform(get("/api/admin/dashboard/stats").header("Authorization", "Bearer " + token))
+				.andExpect(status().isForbidden());
+
+		verifyNoInteractions(adminService);
+		verify(mService, never()).selectOneById(anyString());
+		verify(memberMapper, never()).findByMemberId(anyString());
+	}
+
+	@Test
+	void adminPassesWithoutMemberLookup() throws Exception {
+		when(adminService.getDashboardStats()).thenReturn(new DashboardStatsDto());
+		String token = jwtTokenProvider.createToken(member("admin01", "Y"));
+
+		mockMvc.perform(get("/api/admin/dashboard/stats").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+
+		verify(adminService).getDashboardStats();
+		verify(mService, never()).selectOneById(anyString());
+		verify(memberMapper, never()).findByMemberId(anyString());
+	}
+
+	@Test
+	void anonymousRequestIsUnauthorized() throws Exception {
+		mockMvc.perform(get("/api/admin/dashboard/stats"))
+				.andExpect(status().isUnauthorized());
+
+		verifyNoInteractions(adminService);
+	}
+
+	@Test
+	void adminOnlyGuardsControllerMethodsDirectly() {
+		// URL 규칙(hasRole)을 거치지 않는 호출 - @AdminOnly 메서드 보안만으로 판단
+		SecurityContextHolder.getContext().setAuthentication(authenticate(member("user01", "N")));
+		assertThrows(AuthorizationDeniedException.class, () -> adminController.getStats(null));
+		verifyNoInteractions(adminService);
+
+		when(adminService.getDashboardStats()).thenReturn(new DashboardStatsDto());
+		SecurityContextHolder.getContext().setAuthentication(authenticate(member("admin01", "Y")));
+		ResponseEntity<?> response = adminController.getStats(null);
+		assertEquals(200, response.getStatusCode().value());
+		verify(mService, never()).selectOneById(anyString());
+	}
+
+	// JwtAuthenticationFilter.doFilterInternal 과 같은 순서로 인증 정보 생성
+	private Authentication authenticate(Member member) {
+		return jwtTokenProvider.getAuthentication(jwtTokenProvider.verify(jwtTokenProvider.createToken(member)));
+	}
+
+	private static Member member(String memberId, String adminYn) {
+		Member member = new Member();
+		member.setMemberId(memberId);
+		member.setAdminYn(adminYn);
+		member.setStatusYn("Y");
+		return member;
+	}
+}
@@ -0,0 +1,116 @@
+package com.fom.boot.app.admin.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.fom.boot.app.admin.dto.DashboardStatsDto;
+import com.fom.boot.app.jwt.JwtTokenProvider;
+import com.fom.boot.app.security.CustomUserDetailsService;
+import com.fom.boot.app.security.PrincipalCache;
+import com.fom.boot.app.security.RouteRegistry;
+import com.fom.boot.domain.admin.model.service.AdminService;
+import com.fom.boot.domain.alert.model.service.AlertService;
+import com.fom.boot.domain.alert.model.service.FoodSafetyDataSyncService;
+import com.fom.boot.domain.ingredient.model.service.IngredientService;
+import com.fom.boot.domain.ingredient.model.service.KamisDataSyncService;
+import com.fom.boot.domain.member.model.mapper.MemberMapper;
+import com.fom.boot.domain.member.model.service.MemberService;
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+import com.fom.boot.domain.member.model.vo.Member;
+import com.fom.boot.domain.notice.model.service.NoticeService;
+import com.fom.boot.domain.safety.model.service.SafetyService;
+
+/**
+ * 관리자 요청 1건당 회원 조회(MemberMapper.findByMemberId) 횟수 확인
+ * - JWT 필터 단계: 토큰 클레임/캐시로 인증 주체를 만들고
+ * - 컨트롤러 단계: 다시 회원을 조회하지 않아야 함
+ */
+class AdminControllerTest {
+
+	private static final String SECRET = Base64.getEncoder()
+			.encodeToString("focus-on-meal-admin-controller-test-secret-key".getBytes());
+
+	private MemberMapper memberMapper;
+	private MemberService mService;
+	private AdminService adminService;
+	private JwtTokenProvider jwtTokenProvider;
+	private AdminController adminController;
+
+	@BeforeEach
+	void setUp() {
+		memberMapper = mock(MemberMapper.class);
+		mService = mock(MemberService.class);
+		adminService = mock(AdminService.class);
+
+		PrincipalCache principalCache = new PrincipalCache(60, 100, 3600000L);
+		jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000L, 7200000L, 100,
+				new CustomUserDetailsService(memberMapper), principalCache,
+				mock(TokenRevocationService.class));
+
+		adminController = new AdminController(
+				new BCryptPasswordEncoder(), mService, mock(NoticeService.class),
+				mock(IngredientService.class), mock(SafetyService.class),
+				mock(KamisDataSyncService.class), mock(FoodSafetyDataSyncService.class),
+				mock(AlertService.class), adminService, new RouteRegistry());
+
+		when(adminService.getDashboardStats()).thenReturn(new DashboardStatsDto());
+	}
+
+	@Test
+	void adminRequestWithClaimTokenMakesNoMemberLookup() {
+		String token = jwtTokenProvider.createToken(admin());
+
+		for (int i = 0; i < 3; i++) {
+			Authentication authentication = authenticate(token);
+			ResponseEntity<?> response = adminController.getStats(authentication);
+			assertEquals(200, response.getStatusCode().value());
+		}
+
+		verify(memberMapper, never()).findByMemberId(anyString());
+		verify(mService, never()).findByMemberId(anyString());
+	}
+
+	@Test
+	void adminRequestWithoutClaimsLooksUpMemberOnceThenUsesCache() {
+		when(memberMapper.findByMemberId("admin01")).thenReturn(admin());
+		String token = jwtTokenProvider.createToken("admin01");
+
+		for (int i = 0; i < 3; i++) {
+			Authentication authentication = authenticate(token);
+			adminController.getStats(authentication);
+		}
+
+		verify(memberMapper, times(1)).findByMemberId("admin01");
+		verify(mService, never()).findByMemberId(anyString());
+	}
+
+	// JwtAuthenticationFilter.doFilterInternal 과 같은 순서로 인증 정보 생성
+	private Authentication authenticate(String token) {
+		Authentication authentication = jwtTokenProvider.getAuthentication(jwtTokenProvider.verify(token));
+		assertTrue(authentication.getAuthorities().stream()
+				.anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority())));
+		return authentication;
+	}
+
+	private Member admin() {
+		Member member = new Member();
+		member.setMemberId("admin01");
+		member.setAdminYn("Y");
+		member.setStatusYn("Y");
+		return member;
+	}
+}
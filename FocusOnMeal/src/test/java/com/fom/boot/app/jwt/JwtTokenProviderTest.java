@@ -0,0 +1,98 @@
+package com.fom.boot.app.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fom.boot.app.security.CustomUserDetailsService;
+import com.fom.boot.app.security.PrincipalCache;
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 검증 테스트
+ * - 같은 토큰은 한 번만 파싱하고 이후에는 캐시의 Claims 사용
+ * - 캐시에 있어도 폐기된 토큰, 만료된 토큰은 통과시키지 않음
+ */
+class JwtTokenProviderTest {
+
+	private static final String SECRET = Base64.getEncoder()
+			.encodeToString("focus-on-meal-jwt-test-secret-key-0123456789".getBytes());
+
+	private TokenRevocationService tokenRevocationService;
+
+	@BeforeEach
+	void setUp() {
+		tokenRevocationService = mock(TokenRevocationService.class);
+	}
+
+	@Test
+	void servesRepeatedTokenFromCache() {
+		JwtTokenProvider provider = provider(60_000);
+		String token = provider.createToken("user01");
+
+		Claims first = provider.verify(token);
+		Claims second = provider.verify(token);
+
+		assertNotNull(first);
+		assertEquals("user01", first.getSubject());
+		assertSame(first, second);
+	}
+
+	@Test
+	void revokedTokenIsNotServedFromCache() {
+		JwtTokenProvider provider = provider(60_000);
+		String token = provider.createToken("user01");
+		Claims claims = provider.verify(token);
+		assertNotNull(claims);
+
+		when(tokenRevocationService.isRevoked(claims.getId())).thenReturn(true);
+
+		assertNull(provider.verify(token));
+		assertNull(provider.verifyRefreshToken(token));
+	}
+
+	@Test
+	void expiredTokenIsNotServedFromCache() throws InterruptedException {
+		// exp는 초 단위로 잘리므로 유효시간 1.5초, 대기 2초
+		JwtTokenProvider provider = provider(1_500);
+		String token = provider.createToken("user01");
+		assertNotNull(provider.verify(token));
+
+		Thread.sleep(2_000);
+
+		assertNull(provider.verify(token));
+	}
+
+	@Test
+	void alreadyExpiredTokenIsRejected() {
+		JwtTokenProvider provider = provider(-60_000);
+
+		assertNull(provider.verify(provider.createToken("user01")));
+	}
+
+	@Test
+	void refreshTokenIsNotAnAccessToken() {
+		JwtTokenProvider provider = provider(60_000);
+		String refreshToken = provider.createRefreshToken("user01");
+
+		assertNull(provider.verify(refreshToken));
+		assertNotNull(provider.verifyRefreshToken(refreshToken));
+	}
+
+	private JwtTokenProvider provider(long expirationTime) {
+		when(tokenRevocationService.isRevoked(anyString())).thenReturn(false);
+		return new JwtTokenProvider(SECRET, expirationTime, 1_209_600_000L, 100,
+				mock(CustomUserDetailsService.class), mock(PrincipalCache.class), tokenRevocationService);
+	}
+}
@@ -0,0 +1,71 @@
+package com.fom.boot.app.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 검증 토큰 캐시 테스트
+ * - 만료 전에는 같은 Claims를 돌려주고, 만료 시각이 지나면 지움
+ * - 최대 크기를 넘으면 가장 오래 조회하지 않은 토큰부터 지움
+ */
+class VerifiedTokenCacheTest {
+
+	@Test
+	void returnsCachedClaimsUntilExpiry() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10);
+		Claims valid = claims("user01", System.currentTimeMillis() + 60_000);
+		Claims expired = claims("user02", System.currentTimeMillis() - 1);
+
+		cache.put("a", valid);
+		cache.put("b", expired);
+
+		assertSame(valid, cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void skipsClaimsWithoutExpiration() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10);
+		cache.put("a", Jwts.claims().setSubject("user01"));
+
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsed() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(2);
+		long expiry = System.currentTimeMillis() + 60_000;
+		cache.put("a", claims("user01", expiry));
+		cache.put("b", claims("user02", expiry));
+		cache.get("a");
+		cache.put("c", claims("user03", expiry));
+
+		assertNull(cache.get("b"));
+		assertEquals("user01", cache.get("a").getSubject());
+		assertEquals("user03", cache.get("c").getSubject());
+	}
+
+	@Test
+	void digestDoesNotKeepTokenText() {
+		String digest = VerifiedTokenCache.digest("header.payload.signature");
+
+		assertEquals(VerifiedTokenCache.digest("header.payload.signature"), digest);
+		assertNotEquals(VerifiedTokenCache.digest("header.payload.signaturf"), digest);
+		assertEquals(44, digest.length());
+	}
+
+	private static Claims claims(String subject, long expiry) {
+		return Jwts.claims().setSubject(subject).setExpiration(new Date(expiry));
+	}
+}
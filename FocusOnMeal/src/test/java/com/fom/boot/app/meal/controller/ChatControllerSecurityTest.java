@@ -0,0 +1,201 @@
+package com.fom.boot.app.meal.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fom.boot.app.jwt.JwtTokenProvider;
+import com.fom.boot.app.meal.dto.MealPlanResponse;
+import com.fom.boot.app.security.CustomUserDetailsService;
+import com.fom.boot.app.security.PrincipalCache;
+import com.fom.boot.app.security.RouteRegistry;
+import com.fom.boot.common.config.SecurityConfig;
+import com.fom.boot.domain.ingredient.model.service.PriceService;
+import com.fom.boot.domain.meal.model.service.AiUsageService;
+import com.fom.boot.domain.meal.model.service.GeminiApiService;
+import com.fom.boot.domain.meal.model.service.MealCatalogService;
+import com.fom.boot.domain.meal.model.service.MealService;
+import com.fom.boot.domain.meal.model.service.PriceContextService;
+import com.fom.boot.domain.meal.model.service.impl.AiQuotaLimiter;
+import com.fom.boot.domain.meal.model.service.impl.ChatSessionStore;
+import com.fom.boot.domain.meal.model.service.impl.GeminiHealthTracker;
+import com.fom.boot.domain.meal.model.service.impl.MealGenerationExecutor;
+import com.fom.boot.domain.meal.model.service.impl.MealPlanPricer;
+import com.fom.boot.domain.meal.model.service.impl.MealRecommendationCache;
+import com.fom.boot.domain.meal.model.vo.GeneratedMeal;
+import com.fom.boot.domain.member.model.mapper.MemberMapper;
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+import com.fom.boot.domain.member.model.vo.Member;
+
+/**
+ * 채팅 API 인증 테스트 (SecurityConfig + JWT 필터)
+ * - /api/chat/**는 비로그인도 허용하지만, 토큰이 있으면 필터가 인증 정보를 채워 회원으로 처리
+ * - 주간 식단 save=true는 토큰의 회원 ID로 저장
+ * - AI 요청 제한 키는 로그인 회원이면 회원 ID, 비로그인이면 "ip:접속 주소"
+ */
+@WebMvcTest(controllers = ChatController.class, properties = {
+		"jwt.secret=Zm9jdXMtb24tbWVhbC1jaGF0LXNlY3VyaXR5LXRlc3Qtc2VjcmV0LWtleS0wMQ==",
+		"jwt.expiration-time=3600000"
+})
+@Import({ SecurityConfig.class, RouteRegistry.class, JwtTokenProvider.class, PrincipalCache.class,
+		CustomUserDetailsService.class })
+class ChatControllerSecurityTest {
+
+	private static final String WEEKLY_ONE_MEAL = """
+			{"message":"한식","days":1,"mealTypes":["점심"],"save":true}
+			""";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@MockitoBean
+	private MemberMapper memberMapper;
+	@MockitoBean
+	private TokenRevocationService tokenRevocationService;
+	@MockitoBean
+	private GeminiApiService geminiApiService;
+	@MockitoBean
+	private PriceService priceService;
+	@MockitoBean
+	private MealService mealService;
+	@MockitoBean
+	private PriceContextService priceContextService;
+	@MockitoBean
+	private MealRecommendationCache recommendationCache;
+	@MockitoBean
+	private MealGenerationExecutor generationExecutor;
+	@MockitoBean
+	private AiQuotaLimiter quotaLimiter;
+	@MockitoBean
+	private AiUsageService aiUsageService;
+	@MockitoBean
+	private ChatSessionStore chatSessionStore;
+	@MockitoBean
+	private MealPlanPricer mealPlanPricer;
+	@MockitoBean
+	private MealCatalogService mealCatalogService;
+	@MockitoBean
+	private GeminiHealthTracker geminiHealthTracker;
+
+	@BeforeEach
+	void setUp() {
+		when(quotaLimiter.tryAcquire(anyString(), anyInt())).thenReturn(new AiQuotaLimiter.Decision(true, 0));
+		when(generationExecutor.<String>submit(any())).thenReturn(CompletableFuture.completedFuture("""
+				{"mealName":"된장찌개 정식","ingredients":[{"name":"두부","amount":"1","unit":"모"}]}
+				"""));
+		when(mealPlanPricer.price(any(GeneratedMeal.class), any()))
+				.thenReturn(MealPlanResponse.builder().mealName("된장찌개 정식").ingredients(List.of()).build());
+		when(mealService.saveMealPlans(anyList())).thenReturn(1);
+	}
+
+	@Test
+	void weeklySaveWithTokenStoresUnderMemberId() throws Exception {
+		String token = jwtTokenProvider.createToken(member("user01"));
+
+		weekly(WEEKLY_ONE_MEAL, token)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.weeklyPlan.savedCount").value(1));
+
+		verify(mealService).saveMealPlans(argThat(plans ->
+				plans.size() == 1 && "user01".equals(plans.get(0).getMemberId())));
+	}
+
+	@Test
+	void weeklySaveWithoutTokenIsRejectedByController() throws Exception {
+		// 채팅 경로는 계속 공개 - 보안 설정이 아니라 컨트롤러가 401 응답
+		weekly(WEEKLY_ONE_MEAL, null)
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.message").value("로그인이 필요합니다."));
+
+		verify(mealService, never()).saveMealPlans(anyList());
+		verify(quotaLimiter, never()).tryAcquire(anyString(), anyInt());
+	}
+
+	@Test
+	void weeklyWithoutSaveStaysPublic() throws Exception {
+		weekly(WEEKLY_ONE_MEAL.replace("true", "false"), null)
+				.andExpect(status().isOk());
+
+		verify(quotaLimiter).tryAcquire(eq("ip:127.0.0.1"), anyInt());
+		verify(mealService, never()).saveMealPlans(anyList());
+	}
+
+	@Test
+	void quotaKeyIsMemberIdWhenTokenPresent() throws Exception {
+		when(generationExecutor.<String>submitShared(any(), any())).thenReturn(CompletableFuture.completedFuture("된장찌개"));
+		String token = jwtTokenProvider.createToken(member("user01"));
+
+		simple(token).andExpect(status().isOk());
+
+		verify(quotaLimiter).tryAcquire("user01", 1);
+		verify(quotaLimiter, never()).tryAcquire(startsWith("ip:"), anyInt());
+	}
+
+	@Test
+	void quotaKeyIsClientIpWithoutToken() throws Exception {
+		when(generationExecutor.<String>submitShared(any(), any())).thenReturn(CompletableFuture.completedFuture("된장찌개"));
+
+		simple(null).andExpect(status().isOk());
+
+		verify(quotaLimiter).tryAcquire("ip:127.0.0.1", 1);
+	}
+
+	private ResultActions simple(String token) throws Exception {
+		return dispatch(post("/api/chat/simple"), "{\"message\":\"한식\"}", token);
+	}
+
+	private ResultActions weekly(String body, String token) throws Exception {
+		return dispatch(post("/api/chat/meal-plan/weekly"), body, token);
+	}
+
+	// 비동기(DeferredResult/CompletableFuture) 응답은 비동기 디스패치까지 진행
+	private ResultActions dispatch(MockHttpServletRequestBuilder builder, String body, String token)
+			throws Exception {
+		builder.contentType(MediaType.APPLICATION_JSON).content(body);
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		MvcResult started = mockMvc.perform(builder)
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(started));
+	}
+
+	private static Member member(String memberId) {
+		Member member = new Member();
+		member.setMemberId(memberId);
+		member.setAdminYn("N");
+		member.setStatusYn("Y");
+		return member;
+	}
+}
@@ -0,0 +1,90 @@
+package com.fom.boot.app.member.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fom.boot.app.jwt.JwtTokenProvider;
+import com.fom.boot.app.security.CustomUserDetailsService;
+import com.fom.boot.app.security.PasswordHashService;
+import com.fom.boot.app.security.PrincipalCache;
+import com.fom.boot.domain.member.model.mapper.MemberMapper;
+import com.fom.boot.domain.member.model.service.EmailService;
+import com.fom.boot.domain.member.model.service.MemberService;
+import com.fom.boot.domain.member.model.service.PasswordResetService;
+import com.fom.boot.domain.member.model.service.TokenRevocationService;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 로그아웃 시 리프레시 토큰 폐기 테스트
+ * - access 토큰이 만료되었어도 리프레시 토큰은 따로 검증해서 폐기
+ * - access 토큰이 유효하면 다른 회원의 리프레시 토큰은 폐기하지 않음
+ */
+class MemberControllerLogoutTest {
+
+	private static final String SECRET = Base64.getEncoder()
+			.encodeToString("focus-on-meal-logout-test-secret-key-0123456789".getBytes());
+
+	private TokenRevocationService tokenRevocationService;
+	private JwtTokenProvider expiredAccessProvider;
+	private JwtTokenProvider provider;
+
+	@BeforeEach
+	void setUp() {
+		tokenRevocationService = mock(TokenRevocationService.class);
+		when(tokenRevocationService.revoke(anyString(), anyString(), anyString(), any())).thenReturn(true);
+		// 같은 키로 서명, access 토큰 유효시간만 다름 (이미 만료된 access 토큰 발급용)
+		expiredAccessProvider = provider(-60_000);
+		provider = provider(60_000);
+	}
+
+	@Test
+	void revokesRefreshTokenEvenWhenAccessTokenExpired() {
+		String expiredAccess = expiredAccessProvider.createToken("user01");
+		String refresh = provider.createRefreshToken("user01");
+		Claims refreshClaims = provider.verifyRefreshToken(refresh);
+		assertNotNull(refreshClaims);
+
+		int status = controller().logout("Bearer " + expiredAccess, Map.of("refreshToken", refresh))
+				.getStatusCode().value();
+
+		assertEquals(200, status);
+		verify(tokenRevocationService).revoke(eq(refreshClaims.getId()), eq("user01"),
+				eq(JwtTokenProvider.TOKEN_TYPE_REFRESH), any());
+	}
+
+	@Test
+	void keepsRefreshTokenOfAnotherMember() {
+		String access = provider.createToken("user01");
+		String otherRefresh = provider.createRefreshToken("user02");
+
+		controller().logout("Bearer " + access, Map.of("refreshToken", otherRefresh));
+
+		verify(tokenRevocationService).revoke(anyString(), eq("user01"), eq(JwtTokenProvider.TOKEN_TYPE_ACCESS), any());
+		verify(tokenRevocationService, never()).revoke(anyString(), eq("user02"), anyString(), any());
+	}
+
+	private MemberController controller() {
+		return new MemberController(mock(PasswordHashService.class), mock(MemberService.class), provider,
+				mock(EmailService.class), mock(PasswordResetService.class));
+	}
+
+	private JwtTokenProvider provider(long accessValidityMillis) {
+		return new JwtTokenProvider(SECRET, accessValidityMillis, 3_600_000L, 100,
+				new CustomUserDetailsService(mock(MemberMapper.class)), new PrincipalCache(60, 100, 3_600_000L),
+				tokenRevocationService);
+	}
+}
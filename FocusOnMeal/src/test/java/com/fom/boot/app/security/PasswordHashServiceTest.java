@@ -0,0 +1,89 @@
+package com.fom.boot.app.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * BCrypt 전용 풀 테스트
+ * - 비동기 검증/암호화 결과가 BCryptPasswordEncoder와 같은지
+ * - 시간 초과/대기열 포화는 isOverloaded(503 응답 대상)로 구분되는지
+ * - 해시 이후 작업(DB 저장, 응답 생성)은 BCrypt 풀이 아닌 후속 작업 풀에서 실행되는지
+ */
+class PasswordHashServiceTest {
+
+	@Test
+	void asyncMatchesAndEncodeUseBcrypt() {
+		PasswordHashService service = service(4, 2, 8, 5_000);
+
+		String encoded = service.encodeAsync("abcd1234!").join();
+
+		assertTrue(new BCryptPasswordEncoder().matches("abcd1234!", encoded));
+		assertTrue(service.matchesAsync("abcd1234!", encoded).join());
+		assertFalse(service.matchesAsync("wrong1234!", encoded).join());
+		assertFalse(service.matchesAsync(null, encoded).join());
+		assertTrue(service.matches("abcd1234!", service.encode("abcd1234!")));
+		service.shutdown();
+	}
+
+	@Test
+	void timedOutTaskIsReportedAsOverloaded() {
+		// cost 16은 수백 ms 이상 걸리므로 1ms 안에 끝나지 않음
+		PasswordHashService service = service(16, 1, 8, 1);
+
+		CompletableFuture<String> future = service.encodeAsync("abcd1234!");
+
+		CompletionException error = assertThrows(CompletionException.class, future::join);
+		assertTrue(PasswordHashService.isOverloaded(error));
+		assertThrows(RejectedExecutionException.class, () -> service.encode("abcd1234!"));
+		service.shutdown();
+	}
+
+	@Test
+	void fullQueueRejectsImmediately() {
+		PasswordHashService service = service(16, 1, 1, 60_000);
+
+		service.encodeAsync("abcd1234!");
+		service.encodeAsync("abcd1234!");
+
+		RejectedExecutionException error = assertThrows(RejectedExecutionException.class,
+				() -> service.encodeAsync("abcd1234!"));
+		assertTrue(PasswordHashService.isOverloaded(error));
+		assertFalse(PasswordHashService.isOverloaded(new IllegalStateException()));
+		assertEquals(1, service.getQueueDepth());
+		service.shutdown();
+	}
+
+	@Test
+	void followUpWorkRunsOffTheHashPool() {
+		PasswordHashService service = service(5, 2, 8, 5_000);
+
+		String thread = service.encodeAsync("abcd1234!")
+				.thenApplyAsync(encoded -> Thread.currentThread().getName(), service.getCallbackExecutor())
+				.join();
+		assertTrue(thread.startsWith("password-callback-"), thread);
+
+		// 재해시 저장도 후속 작업 풀에서 (저장된 해시 cost 4 < 설정 cost 5)
+		CompletableFuture<String> saverThread = new CompletableFuture<>();
+		service.rehashIfNeeded("abcd1234!", new BCryptPasswordEncoder(4).encode("abcd1234!"),
+				encoded -> saverThread.complete(Thread.currentThread().getName()));
+		assertTrue(saverThread.orTimeout(5, TimeUnit.SECONDS).join().startsWith("password-callback-"));
+		service.shutdown();
+	}
+
+	private static PasswordHashService service(int strength, int poolSize, int queueCapacity, long timeoutMillis) {
+		return new PasswordHashService(new BCryptPasswordEncoder(strength), new SimpleMeterRegistry(),
+				poolSize, queueCapacity, timeoutMillis, 2);
+	}
+}
@@ -0,0 +1,59 @@
+package com.fom.boot.app.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import com.fom.boot.domain.member.model.vo.Member;
+
+/**
+ * 인증 주체 캐시 테스트
+ * - 비밀번호 해시 등 인증에 쓰지 않는 회원 정보는 보관하지 않음
+ * - 무효화 기록은 캐시가 가득 차지 않아도 토큰 유효시간이 지나면 정리
+ */
+class PrincipalCacheTest {
+
+	@Test
+	void cachesOnlyAuthenticationFields() {
+		PrincipalCache cache = new PrincipalCache(60, 100, 3_600_000L);
+		Member member = new Member();
+		member.setMemberId("user01");
+		member.setMemberPw("$2a$10$hash");
+		member.setMemberName("홍길동");
+		member.setEmail("user01@example.com");
+		member.setAdminYn("Y");
+		member.setStatusYn("Y");
+
+		CustomUserDetails stored = cache.put(new CustomUserDetails(member));
+
+		assertSame(stored, cache.get("user01"));
+		assertEquals("user01", stored.getUsername());
+		assertTrue(stored.isEnabled());
+		assertEquals("ROLE_ADMIN", stored.getAuthorities().iterator().next().getAuthority());
+		assertNull(stored.getPassword());
+		assertNull(stored.getMember().getMemberName());
+		assertNull(stored.getMember().getEmail());
+	}
+
+	@Test
+	void prunesInvalidationsOlderThanTokenValidity() throws InterruptedException {
+		PrincipalCache cache = new PrincipalCache(60, 100, 50L);
+		for (int i = 0; i < 20; i++) {
+			cache.invalidate("user" + i);
+		}
+		assertEquals(20, cache.invalidationCount());
+		assertTrue(cache.isClaimStale("user0", new Date(System.currentTimeMillis() - 1_000)));
+
+		Thread.sleep(100);
+		cache.invalidate("user99");
+
+		assertEquals(1, cache.invalidationCount());
+		assertFalse(cache.isClaimStale("user0", new Date(System.currentTimeMillis() - 1_000)));
+	}
+}
@@ -0,0 +1,74 @@
+package com.fom.boot.common.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fom.boot.app.notice.controller.NoticeController;
+import com.fom.boot.domain.notice.model.service.NoticeService;
+
+/**
+ * 커서 문자열 테스트
+ * - encode/decode 왕복, 빈 값은 첫 페이지
+ * - 변조/다른 형식의 커서는 첫 페이지로 되돌리지 않고 400
+ */
+class SeekCursorTest {
+
+	@Test
+	void roundTripsTimeAndId() {
+		SeekCursor cursor = SeekCursor.decode(SeekCursor.of(LocalDateTime.of(2025, 1, 2, 3, 4, 5), 42).encode());
+		assertEquals(42, cursor.getId());
+		assertEquals(Timestamp.valueOf(LocalDateTime.of(2025, 1, 2, 3, 4, 5)).toInstant(), cursor.getTime());
+
+		SeekCursor idOnly = SeekCursor.decode(SeekCursor.ofId(7).encode());
+		assertEquals(7, idOnly.getId());
+		assertNull(idOnly.getTime());
+
+		assertNull(SeekCursor.decode(""));
+		assertNull(SeekCursor.decode(null));
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThrows(InvalidCursorException.class, () -> SeekCursor.decode("not base64 !!"));
+		assertThrows(InvalidCursorException.class, () -> SeekCursor.decode(encode("v0||42")));
+		assertThrows(InvalidCursorException.class, () -> SeekCursor.decode(encode("v1|yesterday|42")));
+		assertThrows(InvalidCursorException.class, () -> SeekCursor.decode(encode("v1||abc")));
+		assertThrows(InvalidCursorException.class, () -> CursorRequest.of(encode("v1|"), 10, "desc", false));
+	}
+
+	@Test
+	void malformedCursorRespondsBadRequest() throws Exception {
+		NoticeService nService = mock(NoticeService.class);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new NoticeController(nService))
+				.setControllerAdvice(new CursorExceptionHandler())
+				.build();
+
+		mockMvc.perform(get("/api/board/notice/list")
+						.param("cursor", encode("v1|tampered|1"))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.error").exists());
+
+		verifyNoInteractions(nService);
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
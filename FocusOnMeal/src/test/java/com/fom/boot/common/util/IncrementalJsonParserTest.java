@@ -0,0 +1,87 @@
+package com.fom.boot.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 조각 JSON 파서 테스트
+ * - 토큰, 이스케이프, 한글이 두 조각에 걸쳐 나뉘어도 한 번에 넣은 것과 같은 값을 같은 순서로 알림
+ */
+class IncrementalJsonParserTest {
+
+	private static final String RESPONSE = "```json\n{\"mealName\": \"두부\\\"된장\\\"찌개\","
+			+ " \"estimatedPrice\": 4200,"
+			+ " \"ingredients\": [{\"name\": \"두부\", \"amount\": \"300\"}, {\"name\": \"\\uD30C\", \"amount\": 0.5}],"
+			+ " \"recipe\": [\"끓인다\\n\", \"완성\\\\\"],"
+			+ " \"nutrition\": {\"calories\": \"520\"}, \"spicy\": true}\n```\n참고: {끝}";
+
+	private static final List<String> EXPECTED = List.of(
+			"mealName/-1=\"두부\\\"된장\\\"찌개\"",
+			"estimatedPrice/-1=4200",
+			"ingredients/0={\"name\":\"두부\",\"amount\":\"300\"}",
+			"ingredients/1={\"name\":\"파\",\"amount\":0.5}",
+			"ingredients/-1=[{\"name\":\"두부\",\"amount\":\"300\"},{\"name\":\"파\",\"amount\":0.5}]",
+			"recipe/0=\"끓인다\\n\"",
+			"recipe/1=\"완성\\\\\"",
+			"recipe/-1=[\"끓인다\\n\",\"완성\\\\\"]",
+			"nutrition/-1={\"calories\":\"520\"}",
+			"spicy/-1=true");
+
+	@Test
+	void singleChunk() throws IOException {
+		assertEquals(EXPECTED, parse(RESPONSE));
+	}
+
+	@Test
+	void everyTwoChunkSplit() throws IOException {
+		for (int split = 0; split <= RESPONSE.length(); split++) {
+			assertEquals(EXPECTED, parse(RESPONSE.substring(0, split), RESPONSE.substring(split)), "split at " + split);
+		}
+	}
+
+	@Test
+	void escapeSplitAcrossChunks() throws IOException {
+		// 백슬래시와 뒤 글자, 유니코드 이스케이프의 앞뒤 절반이 서로 다른 조각
+		assertEquals(List.of("a/-1=\"x\\ny\"", "b/-1=\"A\""),
+				parse("{\"a\": \"x\\", "ny\", \"b\": \"\\u00", "41\"}"));
+	}
+
+	@Test
+	void characterByCharacter() throws IOException {
+		String[] chunks = RESPONSE.split("");
+		assertEquals(EXPECTED, parse(chunks));
+	}
+
+	@Test
+	void notFinishedUntilTopLevelObjectCloses() throws IOException {
+		List<String> events = new ArrayList<>();
+		IncrementalJsonParser parser = new IncrementalJsonParser((field, index, value) ->
+				events.add(field + "/" + index + "=" + value));
+
+		parser.feed("{\"mealName\": \"김밥\", \"recipe\": [\"말기\"");
+		assertFalse(parser.isFinished());
+		assertEquals(List.of("mealName/-1=\"김밥\"", "recipe/0=\"말기\""), events);
+
+		parser.feed("]}");
+		assertTrue(parser.isFinished());
+		assertEquals(3, events.size());
+	}
+
+	private static List<String> parse(String... chunks) throws IOException {
+		List<String> events = new ArrayList<>();
+		IncrementalJsonParser parser = new IncrementalJsonParser((field, index, value) ->
+				events.add(field + "/" + index + "=" + value));
+		for (String chunk : chunks) {
+			parser.feed(chunk);
+		}
+		assertTrue(parser.isFinished());
+		return events;
+	}
+}
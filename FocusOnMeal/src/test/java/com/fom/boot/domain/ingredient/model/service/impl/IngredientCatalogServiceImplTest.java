@@ -0,0 +1,49 @@
+package com.fom.boot.domain.ingredient.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fom.boot.app.ingredient.dto.IngredientDTO;
+import com.fom.boot.domain.ingredient.model.mapper.IngredientMapper;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
+
+/**
+ * 식재료 카탈로그 스냅샷 갱신 테스트
+ * - 이벤트 발행~커밋 사이에 만든 스냅샷(커밋 전 데이터)이 있어도 커밋 후 리스너는 다시 만듦
+ */
+class IngredientCatalogServiceImplTest {
+
+	@Test
+	void snapshotBuiltBeforeCommitIsRefreshed() throws InterruptedException {
+		IngredientMapper iMapper = mock(IngredientMapper.class);
+		IngredientCatalogServiceImpl service = new IngredientCatalogServiceImpl(iMapper, new ObjectMapper());
+		when(iMapper.getIngredientList()).thenReturn(List.of(item(1, 2500)));
+
+		// 트랜잭션 안에서 발행 → 커밋 전에 다른 요청이 스냅샷 생성 (이전 가격)
+		IngredientCatalogChangedEvent event = IngredientCatalogChangedEvent.of("KAMIS");
+		Thread.sleep(5);
+		long beforeCommit = service.refresh().getVersion();
+
+		// 커밋 후 리스너 실행 → 새 가격으로 다시 생성
+		when(iMapper.getIngredientList()).thenReturn(List.of(item(1, 2700)));
+		Thread.sleep(5);
+		service.onCatalogChanged(event);
+
+		assertEquals(beforeCommit + 1, service.getCatalog().getVersion());
+		assertEquals(2700, service.getCatalog().getItems().get(0).getCurrentPrice());
+	}
+
+	private static IngredientDTO item(int id, int price) {
+		IngredientDTO item = new IngredientDTO();
+		item.setIngredientId(id);
+		item.setName("쌀");
+		item.setCurrentPrice(price);
+		return item;
+	}
+}
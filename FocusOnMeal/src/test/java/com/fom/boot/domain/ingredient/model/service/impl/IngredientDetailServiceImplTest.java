@@ -0,0 +1,74 @@
+package com.fom.boot.domain.ingredient.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fom.boot.domain.ingredient.model.mapper.IngredientMapper;
+import com.fom.boot.domain.ingredient.model.mapper.IngredientPriceHistoryMapper;
+import com.fom.boot.domain.ingredient.model.vo.Ingredient;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
+import com.fom.boot.domain.ingredient.model.vo.IngredientDetail;
+
+/**
+ * 식재료 상세 캐시 무효화 테스트
+ * - 트랜잭션 안에서 이벤트를 발행한 뒤 커밋 전에 시작한 조회는, 커밋 후 리스너가 돌면 캐시에 남지 않음
+ * - 무효화 이후 시작한 조회는 다시 캐시
+ */
+class IngredientDetailServiceImplTest {
+
+	private IngredientMapper iMapper;
+	private IngredientDetailServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		iMapper = mock(IngredientMapper.class);
+		service = new IngredientDetailServiceImpl(iMapper, mock(IngredientPriceHistoryMapper.class), 4, 16);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void loadStartedBeforeCommitIsNotCached() throws Exception {
+		Ingredient rice = new Ingredient();
+		rice.setIngredientId(1);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch committed = new CountDownLatch(1);
+		when(iMapper.selectById(1)).thenAnswer(invocation -> {
+			loading.countDown();
+			committed.await(5, TimeUnit.SECONDS);
+			return rice;
+		});
+
+		// 트랜잭션 안에서 발행
+		IngredientCatalogChangedEvent event = IngredientCatalogChangedEvent.of("KAMIS");
+		Thread.sleep(5);
+		CompletableFuture<IngredientDetail> stale = CompletableFuture.supplyAsync(() -> service.getDetail(1, 30, 100));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+		// 커밋 후 리스너 실행 → 커밋 전 데이터로 시작한 조회는 캐시하지 않음
+		Thread.sleep(5);
+		service.onCatalogChanged(event);
+		committed.countDown();
+		assertNotNull(stale.get(5, TimeUnit.SECONDS));
+
+		Thread.sleep(5);
+		service.getDetail(1, 30, 100);
+		service.getDetail(1, 30, 100);
+		verify(iMapper, times(2)).selectById(1);
+	}
+}
@@ -0,0 +1,107 @@
+package com.fom.boot.domain.ingredient.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fom.boot.domain.alert.model.service.PriceAlertService;
+import com.fom.boot.domain.ingredient.model.mapper.IngredientMapper;
+import com.fom.boot.domain.ingredient.model.mapper.IngredientPriceHistoryMapper;
+import com.fom.boot.domain.ingredient.model.vo.Ingredient;
+import com.fom.boot.domain.ingredient.model.vo.IngredientCatalogChangedEvent;
+import com.fom.boot.domain.meal.model.service.KamisApiService;
+
+/**
+ * KAMIS 전체 부류 동기화 테스트
+ * - 부류마다 별도 트랜잭션, 한 부류 실패가 다른 부류 결과에 영향 없음
+ * - KAMIS 동시 요청 수 제한
+ */
+class KamisDataSyncServiceImplTest {
+
+	private static final String ONE_ITEM = """
+			{"data":{"item":[{"item_name":"쌀","item_code":"111","kind_code":"01","rank":"상품","dpr1":"2,500"}]}}
+			""";
+
+	private KamisApiService kamisApiService;
+	private IngredientPriceHistoryMapper priceHistoryMapper;
+	private TransactionTemplate transactionTemplate;
+	private ApplicationEventPublisher eventPublisher;
+	private KamisDataSyncServiceImpl service;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		kamisApiService = mock(KamisApiService.class);
+		IngredientMapper ingredientMapper = mock(IngredientMapper.class);
+		priceHistoryMapper = mock(IngredientPriceHistoryMapper.class);
+		transactionTemplate = mock(TransactionTemplate.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+
+		Ingredient rice = new Ingredient();
+		rice.setIngredientId(1);
+		when(ingredientMapper.selectByKamisCode(anyString(), anyString())).thenReturn(rice);
+		when(priceHistoryMapper.checkTodayPriceExists(anyInt())).thenReturn(0);
+		when(priceHistoryMapper.insertPrice(any())).thenReturn(1);
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+				invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+		service = new KamisDataSyncServiceImpl(kamisApiService, ingredientMapper, priceHistoryMapper,
+				new ObjectMapper(), mock(PriceAlertService.class), eventPublisher, transactionTemplate);
+		ReflectionTestUtils.setField(service, "syncParallelism", 6);
+		ReflectionTestUtils.setField(service, "maxConcurrentRequests", 2);
+		service.initUpstreamPermits();
+	}
+
+	@Test
+	void failedCategoryDoesNotAffectOthers() {
+		when(kamisApiService.getDailyPriceByCategoryList(anyString(), anyString())).thenAnswer(invocation ->
+				"600".equals(invocation.getArgument(0)) ? "{\"data\":[\"200\"]}" : slowResponse());
+
+		String result = service.syncAllCategoriesAndGetResult();
+
+		assertTrue(result.startsWith("Sync completed - total 5 items, 5/6 categories succeeded"), result);
+		assertTrue(result.contains("Seafood: failed (KAMIS API error code: 200"), result);
+		// 부류마다 트랜잭션 하나 (실패한 부류는 자기 트랜잭션만 롤백), 카탈로그 갱신은 끝난 뒤 한 번
+		verify(transactionTemplate, times(6)).execute(any());
+		verify(eventPublisher, times(1)).publishEvent(any(IngredientCatalogChangedEvent.class));
+	}
+
+	@Test
+	void limitsConcurrentUpstreamRequests() {
+		when(kamisApiService.getDailyPriceByCategoryList(anyString(), anyString())).thenAnswer(invocation -> slowResponse());
+
+		assertEquals(6, service.syncAllCategories());
+		assertTrue(maxInFlight.get() <= 2, "max in flight: " + maxInFlight.get());
+		verify(kamisApiService, times(1)).getDailyPriceByCategoryList(eq("100"), anyString());
+	}
+
+	private String slowResponse() throws InterruptedException {
+		int current = inFlight.incrementAndGet();
+		maxInFlight.accumulateAndGet(current, Math::max);
+		try {
+			Thread.sleep(50);
+			return ONE_ITEM;
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+}
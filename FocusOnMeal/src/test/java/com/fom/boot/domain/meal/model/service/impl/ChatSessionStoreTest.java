@@ -0,0 +1,65 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fom.boot.domain.meal.model.vo.ChatContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 채팅 세션 메모리 테스트
+ * - 대화가 길어져도 이전 대화 크기가 상한을 넘지 않는지
+ * - 최근 대화는 그대로, 오래된 대화는 요약으로 접히는지
+ */
+class ChatSessionStoreTest {
+
+	@Test
+	void contextStaysBoundedForLongConversation() {
+		ChatSessionStore store = new ChatSessionStore(new SimpleMeterRegistry(), 100, 1800, 3, 120);
+
+		int previousTokens = 0;
+		for (int i = 1; i <= 50; i++) {
+			store.append("user|s1", i + "번째 요청: 저렴하고 단백질 많은 저녁 추천해줘", "식단" + i, 5000 + i, List.of());
+			int tokens = tokensOf(store.get("user|s1"));
+			assertTrue(tokens <= 120, i + "번째 대화 후 " + tokens + "토큰");
+			if (i > 10) {
+				// 상한에 도달한 뒤에는 크기가 거의 일정
+				assertTrue(Math.abs(tokens - previousTokens) <= 30, previousTokens + " → " + tokens);
+			}
+			previousTokens = tokens;
+		}
+
+		ChatContext context = store.get("user|s1");
+		assertEquals(3, context.turns().size());
+		assertEquals("식단50", context.turns().get(2).mealName());
+		assertTrue(context.summary().contains("식단47(5047원)"));
+	}
+
+	@Test
+	void remembersAllergiesAndEvictsLeastRecentlyUsed() {
+		ChatSessionStore store = new ChatSessionStore(new SimpleMeterRegistry(), 2, 1800, 3, 300);
+
+		store.append("a|1", "파스타", "토마토 파스타", 9000, List.of("새우"));
+		store.append("b|1", "국밥", "돼지국밥", 8000, List.of());
+		store.get("a|1");
+		store.append("c|1", "샐러드", "닭가슴살 샐러드", 7000, List.of());
+
+		assertEquals(List.of("새우"), store.get("a|1").allergies());
+		assertNull(store.get("b|1"));
+		assertEquals(2, store.size());
+	}
+
+	private static int tokensOf(ChatContext context) {
+		int tokens = MealPromptBuilder.estimateTokens(context.summary());
+		for (ChatContext.Turn turn : context.turns()) {
+			tokens += MealPromptBuilder.estimateTokens(turn.message()) + MealPromptBuilder.estimateTokens(turn.mealName());
+		}
+		return tokens;
+	}
+}
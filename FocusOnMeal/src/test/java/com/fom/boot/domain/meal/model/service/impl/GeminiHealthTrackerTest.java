@@ -0,0 +1,124 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Gemini 상태 추적 테스트
+ * - 연속 실패 시 장애, 장애 시간이 지나면 동시 요청 중 하나만 시험 호출
+ * - 시험 호출 결과에 따라 복구 또는 다시 장애
+ */
+class GeminiHealthTrackerTest {
+
+	private static final RuntimeException UPSTREAM_ERROR = new RuntimeException(
+			new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+	private final AtomicLong now = new AtomicLong(1_000_000);
+	private GeminiHealthTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		tracker = new GeminiHealthTracker(new SimpleMeterRegistry(), 3, 60, now::get);
+	}
+
+	@Test
+	void opensAfterConsecutiveUpstreamFailures() {
+		tracker.recordFailure(UPSTREAM_ERROR);
+		tracker.recordFailure(UPSTREAM_ERROR);
+		tracker.recordFailure(new IllegalArgumentException("JSON 형식 오류"));
+		assertTrue(tracker.allowRequest());
+
+		tracker.recordFailure(UPSTREAM_ERROR);
+		assertTrue(tracker.isDegraded());
+		assertFalse(tracker.allowRequest());
+	}
+
+	@Test
+	void letsExactlyOneProbeThroughWhenHalfOpen() throws Exception {
+		open();
+		now.addAndGet(60_000);
+
+		int callers = 16;
+		ExecutorService pool = Executors.newFixedThreadPool(callers);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < callers; i++) {
+			Callable<Boolean> call = () -> {
+				start.await();
+				return tracker.allowRequest();
+			};
+			results.add(pool.submit(call));
+		}
+		start.countDown();
+		int allowed = 0;
+		for (Future<Boolean> result : results) {
+			allowed += result.get() ? 1 : 0;
+		}
+		pool.shutdown();
+
+		assertEquals(1, allowed);
+		assertTrue(tracker.isDegraded());
+	}
+
+	@Test
+	void probeSuccessCloses() {
+		open();
+		now.addAndGet(60_000);
+		assertTrue(tracker.allowRequest());
+
+		tracker.recordSuccess();
+
+		assertFalse(tracker.isDegraded());
+		assertTrue(tracker.allowRequest());
+		assertTrue(tracker.allowRequest());
+	}
+
+	@Test
+	void probeFailureReopens() {
+		open();
+		now.addAndGet(60_000);
+		assertTrue(tracker.allowRequest());
+
+		tracker.recordFailure(UPSTREAM_ERROR);
+
+		assertFalse(tracker.allowRequest());
+		now.addAndGet(60_000);
+		assertTrue(tracker.allowRequest());
+	}
+
+	@Test
+	void unreportedProbeIsRetriedAfterLease() {
+		open();
+		now.addAndGet(60_000);
+		assertTrue(tracker.allowRequest());
+		assertFalse(tracker.allowRequest());
+
+		now.addAndGet(60_000);
+
+		assertTrue(tracker.allowRequest());
+		assertFalse(tracker.allowRequest());
+	}
+
+	private void open() {
+		for (int i = 0; i < 3; i++) {
+			tracker.recordFailure(UPSTREAM_ERROR);
+		}
+	}
+}
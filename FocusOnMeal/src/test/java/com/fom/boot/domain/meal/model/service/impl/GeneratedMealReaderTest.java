@@ -0,0 +1,164 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fom.boot.domain.meal.model.vo.GeneratedMeal;
+
+/**
+ * AI 식단 응답 파서 테스트
+ * - 기존 경로(펜스 제거 → 제어 문자 이스케이프 → ObjectMapper.readTree)와 같은 결과인지
+ * - 기존 경로가 실패하던 응답(앞뒤 설명 문장, 끝 쉼표, 주석)은 같은 내용의 정상 JSON과 같은 결과인지
+ */
+class GeneratedMealReaderTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	// 정상 응답 (설명에 이스케이프되지 않은 줄바꿈 포함)
+	private static final String STRICT = """
+			{
+			  "mealName": "두부 된장찌개 정식",
+			  "mealType": "저녁",
+			  "description": "단백질이 풍부한
+			한 끼",
+			  "ingredients": [
+			    {"name": "두부", "amount": "300", "unit": "g", "estimatedPrice": 1500},
+			    {"name": "애호박", "amount": 0.5, "unit": "개", "estimatedPrice": 800},
+			    {"name": "된장", "amount": "2", "unit": "큰술"}
+			  ],
+			  "recipe": ["재료를 손질한다.", "\\"된장\\"을 풀어 끓인다."],
+			  "nutrition": {"calories": "520", "carbs": "60g", "protein": "32g", "fat": "14g"},
+			  "estimatedPrice": 4200
+			}""";
+
+	// 기존 경로가 실패하던 응답 - 끝 쉼표, 주석
+	private static final String LENIENT = """
+			{
+			  "mealName": "두부 된장찌개 정식",
+			  "mealType": "저녁",
+			  // 설명은 한 줄로
+			  "description": "단백질이 풍부한
+			한 끼",
+			  "ingredients": [
+			    {"name": "두부", "amount": "300", "unit": "g", "estimatedPrice": 1500,},
+			    {"name": "애호박", "amount": 0.5, "unit": "개", "estimatedPrice": 800},
+			    {"name": "된장", "amount": "2", "unit": "큰술"},
+			  ],
+			  "recipe": ["재료를 손질한다.", "\\"된장\\"을 풀어 끓인다.",],
+			  "nutrition": {"calories": "520", "carbs": "60g", "protein": "32g", "fat": "14g"},
+			  "estimatedPrice": 4200,
+			}""";
+
+	@Test
+	void plainJsonMatchesLegacyPath() throws Exception {
+		assertEquals(legacyRead(STRICT), GeneratedMealReader.read(STRICT));
+	}
+
+	@Test
+	void fencedJsonMatchesLegacyPath() throws Exception {
+		String fenced = "```json\n" + STRICT + "\n```";
+		assertEquals(legacyRead(fenced), GeneratedMealReader.read(fenced));
+	}
+
+	@Test
+	void proseWrappedJsonMatchesLegacyPathOnBody() throws Exception {
+		String wrapped = "요청하신 식단입니다.\n```json\n" + STRICT + "\n```\n참고로 가격은 {지역}마다 다를 수 있어요.";
+		assertThrows(Exception.class, () -> legacyRead(wrapped));
+		// 객체가 닫힌 뒤의 문장은 읽지 않음 (뒤에 '}'가 있어도 영향 없음)
+		assertEquals(legacyRead(STRICT), GeneratedMealReader.read(wrapped));
+	}
+
+	@Test
+	void lenientJsonMatchesLegacyPathOnStrictForm() throws Exception {
+		assertThrows(Exception.class, () -> legacyRead(LENIENT));
+		assertEquals(legacyRead(STRICT), GeneratedMealReader.read(LENIENT));
+	}
+
+	@Test
+	void truncatedJsonFailsLikeLegacyPath() {
+		for (int cut : new int[] {STRICT.indexOf("\"ingredients\""), STRICT.indexOf("\"된장\""), STRICT.length() - 2}) {
+			String truncated = "```json\n" + STRICT.substring(0, cut);
+			assertThrows(Exception.class, () -> legacyRead(truncated));
+			assertThrows(IllegalArgumentException.class, () -> GeneratedMealReader.read(truncated));
+		}
+		assertThrows(IllegalArgumentException.class, () -> GeneratedMealReader.read("식단을 만들 수 없습니다."));
+		assertThrows(IllegalArgumentException.class, () -> GeneratedMealReader.read(null));
+	}
+
+	@Test
+	void readsPricesWrittenAsText() {
+		GeneratedMeal meal = GeneratedMealReader.read("""
+				{"mealName": "김밥", "ingredients": [{"name": "김", "amount": "2", "unit": "장", "estimatedPrice": "약 1,200원"}],
+				 "estimatedPrice": "3,500원"}""");
+		assertEquals(3500, meal.estimatedPrice());
+		assertEquals(1200, meal.ingredients().get(0).estimatedPrice());
+		assertNull(meal.nutrition());
+	}
+
+	// user-020 이전 ChatController의 파싱 경로
+	private static GeneratedMeal legacyRead(String aiResponse) throws Exception {
+		String cleanJson = aiResponse.trim();
+		if (cleanJson.startsWith("```json")) {
+			cleanJson = cleanJson.substring(7);
+		}
+		if (cleanJson.startsWith("```")) {
+			cleanJson = cleanJson.substring(3);
+		}
+		if (cleanJson.endsWith("```")) {
+			cleanJson = cleanJson.substring(0, cleanJson.length() - 3);
+		}
+		JsonNode root = MAPPER.readTree(escapeControlCharacters(cleanJson.trim()));
+
+		List<GeneratedMeal.Ingredient> ingredients = new ArrayList<>();
+		for (JsonNode node : root.get("ingredients")) {
+			JsonNode price = node.get("estimatedPrice");
+			ingredients.add(new GeneratedMeal.Ingredient(node.get("name").asText(), node.get("amount").asText(),
+					node.get("unit").asText(), price == null || price.isNull() ? null : price.asInt()));
+		}
+		List<String> recipe = new ArrayList<>();
+		root.get("recipe").forEach(step -> recipe.add(step.asText()));
+		JsonNode nutrition = root.get("nutrition");
+		return new GeneratedMeal(root.get("mealName").asText(), root.get("mealType").asText(),
+				root.get("description").asText(), ingredients, recipe,
+				nutrition == null ? null : new GeneratedMeal.Nutrition(nutrition.get("calories").asText(),
+						nutrition.get("carbs").asText(), nutrition.get("protein").asText(), nutrition.get("fat").asText()),
+				root.get("estimatedPrice").asInt());
+	}
+
+	private static String escapeControlCharacters(String json) {
+		StringBuilder result = new StringBuilder();
+		boolean inString = false;
+		boolean escaped = false;
+		for (char c : json.toCharArray()) {
+			if (escaped) {
+				result.append(c);
+				escaped = false;
+			} else if (c == '\\') {
+				result.append(c);
+				escaped = true;
+			} else if (c == '"') {
+				inString = !inString;
+				result.append(c);
+			} else if (inString && c == '\n') {
+				result.append("\\n");
+			} else if (inString && c == '\r') {
+				result.append("\\r");
+			} else if (inString && c == '\t') {
+				result.append("\\t");
+			} else if (inString && c < 32) {
+				result.append(String.format("\\u%04x", (int) c));
+			} else {
+				result.append(c);
+			}
+		}
+		return result.toString();
+	}
+}
@@ -0,0 +1,101 @@
+package com.fom.boot.domain.meal.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.fom.boot.app.meal.dto.MealPlanResponse;
+import com.fom.boot.domain.meal.model.vo.Allergen;
+
+/**
+ * 식단 카탈로그 인덱스 테스트
+ * - 근접 검색 결과가 전체 비교 결과와 같은지
+ * - 알레르기 식품이 든 식단은 제외되는지
+ */
+class MealCatalogIndexTest {
+
+	private static final String[] MEAL_TYPES = {"아침", "점심", "저녁"};
+	private static final String[][] INGREDIENTS = {
+			{"쌀", "계란", "김치"}, {"밀가루", "토마토", "치즈"}, {"두부", "된장", "애호박"},
+			{"닭가슴살", "양상추"}, {"새우", "마늘", "파스타"}, {"연어", "현미"}, {"돼지고기", "양파"}};
+
+	@Test
+	void nearestMatchesBruteForce() {
+		Random random = new Random(42);
+		List<MealCatalogIndex.Item> items = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			items.add(item("식단" + i, MEAL_TYPES[random.nextInt(3)], 300 + random.nextInt(700),
+					3000 + random.nextInt(15000), INGREDIENTS[random.nextInt(INGREDIENTS.length)]));
+		}
+		MealCatalogIndex index = new MealCatalogIndex(items);
+
+		for (int i = 0; i < 200; i++) {
+			MealCatalogIndex.Query query = new MealCatalogIndex.Query(
+					random.nextBoolean() ? MEAL_TYPES[random.nextInt(3)] : null,
+					300 + random.nextInt(700),
+					random.nextBoolean() ? 4000 + random.nextInt(12000) : null,
+					random.nextBoolean() ? List.of("우유") : List.of());
+			MealCatalogIndex.Item expected = bruteForce(items, query);
+			MealCatalogIndex.Item actual = index.nearest(query);
+			if (expected == null) {
+				assertNull(actual);
+			} else {
+				assertEquals(distance(expected, query), distance(actual, query), 1e-9);
+			}
+		}
+	}
+
+	@Test
+	void excludesAllergensByMaskAndByName() {
+		MealCatalogIndex.Item omurice = item("오므라이스", "점심", 650, 6000, "쌀", "계란", "케첩");
+		MealCatalogIndex.Item bibimbap = item("비빔밥", "점심", 600, 7000, "쌀", "시금치", "고사리");
+		MealCatalogIndex.Item shrimpRice = item("새우볶음밥", "점심", 620, 8000, "쌀", "새우", "대파");
+		MealCatalogIndex index = new MealCatalogIndex(List.of(omurice, bibimbap, shrimpRice));
+
+		assertSame(omurice, index.nearest(new MealCatalogIndex.Query("점심", 650, null, List.of())));
+		assertSame(bibimbap, index.nearest(new MealCatalogIndex.Query("점심", 600, null, List.of("계란"))));
+		// 비트에 없는 알러지는 재료명으로 비교
+		assertSame(shrimpRice, index.nearest(new MealCatalogIndex.Query("점심", 600, null, List.of("계란", "고사리"))));
+		assertNull(index.nearest(new MealCatalogIndex.Query("점심", 650, null, List.of("알류", "갑각류", "시금치"))));
+
+		assertSame(shrimpRice, index.findByName("새우 볶음밥 먹고 싶어", List.of()));
+		assertNull(index.findByName("새우볶음밥 먹고 싶어", List.of("갑각류")));
+	}
+
+	private static MealCatalogIndex.Item item(String name, String mealType, int calories, int price, String... ingredients) {
+		MealPlanResponse plan = MealPlanResponse.builder().mealName(name).mealType(mealType).calculatedPrice(price).build();
+		List<String> names = List.of(ingredients);
+		return new MealCatalogIndex.Item(plan, mealType, calories, price, Allergen.maskOfIngredients(names), names);
+	}
+
+	private static MealCatalogIndex.Item bruteForce(List<MealCatalogIndex.Item> items, MealCatalogIndex.Query query) {
+		long exclude = 0;
+		for (String allergy : query.allergies()) {
+			exclude |= Allergen.maskOf(allergy);
+		}
+		MealCatalogIndex.Item best = null;
+		for (MealCatalogIndex.Item item : items) {
+			if ((query.mealType() != null && !query.mealType().equals(item.mealType()))
+					|| (query.targetPrice() != null && item.price() > query.targetPrice())
+					|| (item.allergenMask() & exclude) != 0) {
+				continue;
+			}
+			if (best == null || distance(item, query) < distance(best, query)) {
+				best = item;
+			}
+		}
+		return best;
+	}
+
+	private static double distance(MealCatalogIndex.Item item, MealCatalogIndex.Query query) {
+		double calories = (item.calories() - query.targetCalories()) / 100.0;
+		double price = query.targetPrice() != null ? (query.targetPrice() - item.price()) / 1000.0 : 0;
+		return calories * calories + price * price;
+	}
+}
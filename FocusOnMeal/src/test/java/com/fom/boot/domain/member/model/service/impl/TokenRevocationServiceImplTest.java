@@ -0,0 +1,90 @@
+package com.fom.boot.domain.member.model.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.fom.boot.domain.member.model.mapper.RevokedTokenMapper;
+import com.fom.boot.domain.member.model.vo.RevokedToken;
+
+/**
+ * 토큰 폐기 저장소 테스트
+ * - 카운터 1개짜리 filter로 모든 jti가 같은 카운터를 쓰게 해서, 만료 정리가 다른 폐기 토큰에 영향을 주지 않는지 확인
+ */
+class TokenRevocationServiceImplTest {
+
+	private RevokedTokenMapper mapper;
+	private TokenRevocationServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		mapper = mock(RevokedTokenMapper.class);
+		when(mapper.insertRevokedToken(any())).thenReturn(1);
+		when(mapper.countRevokedToken(anyString())).thenReturn(1);
+		service = new TokenRevocationServiceImpl(mapper, 1, 1);
+	}
+
+	@Test
+	void cleanupRemovesOnlyTokensThisFilterAdded() {
+		// 시작 시 만료되지 않은 폐기 토큰 1건 적재
+		when(mapper.selectActiveTokens()).thenReturn(List.of(token("loaded", 60_000)));
+		service.loadActiveRevocations();
+
+		// 이미 만료된 토큰 폐기 + 같은 토큰을 다른 요청이 먼저 저장한 경우
+		service.revoke("expired", "user01", "access", new Date(System.currentTimeMillis() - 1));
+		when(mapper.insertRevokedToken(any())).thenThrow(new DuplicateKeyException("JTI"));
+		service.revoke("expired", "user01", "access", new Date(System.currentTimeMillis() - 1));
+
+		service.cleanupExpired();
+
+		// 같은 카운터를 쓰는 "loaded"는 여전히 filter에 있어 DB 확인으로 폐기 판정
+		assertTrue(service.isRevoked("loaded"));
+		verify(mapper).countRevokedToken("loaded");
+	}
+
+	@Test
+	void cleanupDoesNotTouchTokensFromOtherInstances() {
+		when(mapper.selectActiveTokens()).thenReturn(List.of());
+		service.loadActiveRevocations();
+		service.revoke("live", "user01", "refresh", new Date(System.currentTimeMillis() + 60_000));
+
+		// 다른 서버가 저장한 만료 행이 몇 건이든 이 서버의 filter 카운터는 그대로
+		when(mapper.deleteExpiredTokens(any())).thenReturn(1000);
+		service.cleanupExpired();
+		service.cleanupExpired();
+
+		assertTrue(service.isRevoked("live"));
+	}
+
+	@Test
+	void expiredTokenLeavesFilterAfterCleanup() {
+		when(mapper.selectActiveTokens()).thenReturn(List.of());
+		service.loadActiveRevocations();
+		service.revoke("expired", "user01", "access", new Date(System.currentTimeMillis() - 1));
+
+		service.cleanupExpired();
+
+		assertFalse(service.isRevoked("expired"));
+		verify(mapper, never()).countRevokedToken("expired");
+	}
+
+	private static RevokedToken token(String jti, long expiresInMillis) {
+		RevokedToken token = new RevokedToken();
+		token.setJti(jti);
+		token.setExpireDate(new Timestamp(System.currentTimeMillis() + expiresInMillis));
+		return token;
+	}
+}